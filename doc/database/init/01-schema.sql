@@ -18,6 +18,7 @@ CREATE TABLE IF NOT EXISTS user_point (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '사용자 ID (PK)',
     balance BIGINT NOT NULL DEFAULT 0 COMMENT '현재 포인트 잔액',
     version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전 (동시성 제어)',
+    fence_token BIGINT NULL COMMENT '마지막 갱신 락 펜싱 토큰',
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성 일시',
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정 일시'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
@@ -59,6 +60,7 @@ CREATE TABLE IF NOT EXISTS product_option (
     option_name VARCHAR(255) NOT NULL COMMENT '옵션명',
     price BIGINT NOT NULL COMMENT '옵션 가격',
     quantity BIGINT NOT NULL DEFAULT 0 COMMENT '재고 수량',
+    fence_token BIGINT NULL COMMENT '마지막 갱신 락 펜싱 토큰',
 
     INDEX idx_product_id (product_id) COMMENT '상품별 옵션 조회용'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
@@ -95,9 +97,11 @@ CREATE TABLE IF NOT EXISTS user_coupon (
     expired_at DATE NOT NULL COMMENT '만료 일자',
     version BIGINT DEFAULT 0 COMMENT '낙관적 락 버전',
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '발급 일시',
+    issue_request_id VARCHAR(40) NULL COMMENT '발급 요청 ID ({파티션}:{발급 큐 메시지 ID}, 재전달 시 중복 발급 방지)',
 
     INDEX idx_user_id (user_id) COMMENT '사용자별 쿠폰 조회용',
-    INDEX idx_user_coupon (user_id, coupon_id) COMMENT '사용자별 쿠폰 중복 체크용'
+    INDEX idx_user_coupon (user_id, coupon_id) COMMENT '사용자별 쿠폰 중복 체크용',
+    UNIQUE KEY uk_user_coupon_issue_request (issue_request_id) COMMENT '발급 요청 멱등 처리용'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='사용자별 발급된 쿠폰';
 
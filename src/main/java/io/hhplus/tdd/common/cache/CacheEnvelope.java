@@ -0,0 +1,67 @@
+package io.hhplus.tdd.common.cache;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조기 갱신(XFetch)용 캐시 값 래퍼
+ * <p>
+ * 값과 함께 재계산 비용(deltaMillis)과 만료 시각(expiryAtMillis)을 저장하여,
+ * 읽는 쪽에서 만료 전에 확률적으로 재계산을 시작할 수 있게 합니다.
+ * <p>
+ * XFetch 판정: now - delta * beta * ln(rand) >= expiry
+ * <ul>
+ *   <li>만료가 가까울수록, 재계산 비용이 클수록 조기 갱신 확률이 높아짐</li>
+ *   <li>beta가 클수록 더 일찍 갱신 (1.0 권장)</li>
+ * </ul>
+ *
+ * @param value          실제 캐시 값
+ * @param deltaMillis    값을 계산하는 데 걸린 시간 (ms, 최소 1ms)
+ * @param expiryAtMillis 만료 시각 (epoch ms)
+ */
+public record CacheEnvelope<T>(
+        T value,
+        long deltaMillis,
+        long expiryAtMillis
+) implements Serializable {
+
+    // 1ms 미만 계산이나 비용을 모르는 저장(putAll 등)도 만료 직전에는 조기 갱신되도록 하는 최소 비용
+    static final long MIN_DELTA_MILLIS = 1L;
+
+    public static <T> CacheEnvelope<T> of(T value, Duration computeTime, Duration ttl) {
+        return of(value, computeTime, ttl, System.currentTimeMillis());
+    }
+
+    public static <T> CacheEnvelope<T> of(T value, Duration computeTime, Duration ttl, long nowMillis) {
+        return new CacheEnvelope<>(
+                value,
+                Math.max(MIN_DELTA_MILLIS, computeTime.toMillis()),
+                nowMillis + ttl.toMillis()
+        );
+    }
+
+    // (0, 1] 범위의 난수 (ln(0) 방지)
+    public static double nextRandom() {
+        return 1.0 - ThreadLocalRandom.current().nextDouble();
+    }
+
+    // 지금 조기 갱신을 시작해야 하는지 확률적으로 판정
+    public boolean shouldRefreshEarly(double beta) {
+        return shouldRefreshEarly(beta, System.currentTimeMillis(), nextRandom());
+    }
+
+    /**
+     * XFetch 판정 (시각과 난수를 받는 순수 함수)
+     *
+     * @param nowMillis 현재 시각 (epoch ms)
+     * @param random    (0, 1] 범위의 난수
+     */
+    public boolean shouldRefreshEarly(double beta, long nowMillis, double random) {
+        if (beta <= 0 || deltaMillis <= 0) {
+            return false;
+        }
+        double gap = -deltaMillis * beta * Math.log(random);
+        return nowMillis + gap >= expiryAtMillis;
+    }
+}
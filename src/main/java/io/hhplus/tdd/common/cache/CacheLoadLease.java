@@ -0,0 +1,222 @@
+package io.hhplus.tdd.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 캐시 로드 임대(Lease)
+ * <p>
+ * 여러 노드가 같은 ID의 캐시 미스를 동시에 DB에서 로드하지 않도록
+ * ID별 짧은 TTL의 임대 키(SET NX PX)를 잡은 노드만 DB를 조회합니다.
+ * 임대를 얻지 못한 노드는 임대 반환 알림(Redis Pub/Sub)을 기다린 뒤 캐시를 다시 조회합니다. (폴링 없음)
+ * <p>
+ * 임대는 TTL로 자동 만료되므로 로드 중 노드가 죽어도 대기 노드는 제한 시간 후 직접 로드합니다.
+ * 임대 값은 획득마다 발급한 토큰이며, 반환 시 토큰이 같은 키만 삭제합니다.
+ * (TTL 만료 후 다른 노드가 다시 잡은 임대를 지우지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheLoadLease {
+
+    private static final String RELEASE_TOPIC = "LEASE:released";
+
+    /**
+     * KEYS = 임대 키 , ARGV[1] = 획득 토큰
+     * 반환: 실제로 삭제한 임대 키 목록 (토큰이 다른 키는 다른 노드의 임대이므로 유지)
+     */
+    private static final String RELEASE_SCRIPT =
+            "local released = {} " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('GET', KEYS[i]) == ARGV[1] then " +
+            "    redis.call('DEL', KEYS[i]) " +
+            "    table.insert(released, KEYS[i]) " +
+            "  end " +
+            "end " +
+            "return released";
+
+    private final RedissonClient redissonClient;
+
+    // 이 노드에서 반환을 기다리는 임대 키 -> 대기 요청별 future (반환 알림 시 모두 완료)
+    private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+    private int listenerId;
+
+    /**
+     * 획득한 임대
+     *
+     * @param token 이번 획득에서 임대 값으로 저장한 토큰 (반환 시 소유 확인)
+     * @param ids   임대를 얻은 ID 목록
+     */
+    public record Lease(String token, List<Long> ids) {}
+
+    /**
+     * 임대 반환 알림 (로드한 노드가 캐시 저장 후 발행)
+     */
+    public record Released(List<String> leaseKeys) implements Serializable {}
+
+    @PostConstruct
+    void init() {
+        listenerId = getTopic().addListener(Released.class, (channel, message) -> onReleased(message));
+    }
+
+    @PreDestroy
+    void destroy() {
+        getTopic().removeListener(listenerId);
+    }
+
+    // 임대 획득 시도 후 획득에 성공한 ID 목록과 토큰 반환 (파이프라인 1회)
+    public Lease tryAcquire(RedisKey keyType, List<Long> ids) {
+        String token = UUID.randomUUID().toString();
+        if (ids.isEmpty()) {
+            return new Lease(token, Collections.emptyList());
+        }
+
+        long ttlMillis = RedisKey.CACHE_LOAD_LEASE.getBaseTtl().toMillis();
+        RBatch batch = redissonClient.createBatch();
+        Map<Long, RFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (Long id : ids) {
+            futures.put(id, batch.<String>getBucket(leaseKey(keyType, id), StringCodec.INSTANCE)
+                    .trySetAsync(token, ttlMillis, TimeUnit.MILLISECONDS));
+        }
+
+        try {
+            batch.execute();
+        } catch (Exception e) {
+            // Redis 장애 시 임대 없이 모두 직접 로드 (노드 단위 병합은 유지됨)
+            log.error("Cache lease acquire failed: keyType={}, count={}", keyType.name(), ids.size(), e);
+            return new Lease(token, ids);
+        }
+
+        List<Long> acquired = new ArrayList<>();
+        futures.forEach((id, future) -> {
+            if (Boolean.TRUE.equals(future.toCompletableFuture().join())) {
+                acquired.add(id);
+            }
+        });
+        return new Lease(token, acquired);
+    }
+
+    // 로드 완료 후 이 토큰으로 잡은 임대만 반환하고 대기 노드에 알림
+    public void release(RedisKey keyType, Lease lease) {
+        if (lease.ids().isEmpty()) {
+            return;
+        }
+        List<Object> keys = lease.ids().stream()
+                .map(id -> (Object) leaseKey(keyType, id))
+                .toList();
+        try {
+            List<String> released = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    RELEASE_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    keys,
+                    lease.token()
+            );
+            if (released.size() < keys.size()) {
+                // TTL 만료 후 다른 노드가 잡은 임대는 그 노드가 반환할 때 알림
+                log.debug("Cache lease expired before release: keyType={}, expired={}", keyType.name(), keys.size() - released.size());
+            }
+            if (!released.isEmpty()) {
+                getTopic().publish(new Released(released));
+            }
+        } catch (Exception e) {
+            // 반환 실패 시 TTL로 자동 만료 (대기 노드는 제한 시간 후 직접 로드)
+            log.warn("Cache lease release failed: keyType={}, count={}", keyType.name(), lease.ids().size(), e);
+        }
+    }
+
+    /**
+     * 다른 노드가 보유한 임대가 반환될 때까지 대기
+     * <p>
+     * 대기 등록 후 임대 키가 이미 없으면 즉시 반환하므로, 등록 전에 발행된 알림을 놓쳐도 기다리지 않습니다.
+     *
+     * @return 제한 시간 안에 모든 임대가 반환되었으면 true
+     */
+    public boolean awaitRelease(RedisKey keyType, List<Long> ids, Duration timeout) {
+        if (ids.isEmpty()) {
+            return true;
+        }
+        // 요청마다 자기 future를 등록 (같은 키를 기다리는 다른 요청이 먼저 끝나도 영향 없음)
+        Map<String, CompletableFuture<Void>> pending = new LinkedHashMap<>();
+        for (Long id : ids) {
+            String key = leaseKey(keyType, id);
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            waiters.compute(key, (k, futures) -> {
+                Set<CompletableFuture<Void>> registered = futures == null ? ConcurrentHashMap.newKeySet() : futures;
+                registered.add(future);
+                return registered;
+            });
+            pending.put(key, future);
+        }
+
+        try {
+            // 등록 전에 이미 반환된 임대는 대기하지 않음
+            RBatch batch = redissonClient.createBatch();
+            Map<String, RFuture<Boolean>> exists = new LinkedHashMap<>();
+            pending.keySet().forEach(key -> exists.put(key, batch.getBucket(key).isExistsAsync()));
+            batch.execute();
+            exists.forEach((key, future) -> {
+                if (!Boolean.TRUE.equals(future.toCompletableFuture().join())) {
+                    pending.get(key).complete(null);
+                }
+            });
+
+            CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.debug("Cache lease wait timed out: keyType={}, count={}", keyType.name(), ids.size());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("Cache lease wait failed: keyType={}, count={}", keyType.name(), ids.size(), e);
+            return false;
+        } finally {
+            // 자기 future만 해제하고, 마지막 대기 요청이 떠날 때 키를 제거
+            pending.forEach((key, future) -> waiters.computeIfPresent(key, (k, futures) -> {
+                futures.remove(future);
+                return futures.isEmpty() ? null : futures;
+            }));
+        }
+    }
+
+    private void onReleased(Released message) {
+        message.leaseKeys().forEach(this::complete);
+    }
+
+    // 이 키를 기다리는 모든 요청을 깨움
+    private void complete(String leaseKey) {
+        Set<CompletableFuture<Void>> futures = waiters.remove(leaseKey);
+        if (futures != null) {
+            futures.forEach(future -> future.complete(null));
+        }
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(RELEASE_TOPIC);
+    }
+
+    private String leaseKey(RedisKey keyType, Long id) {
+        return RedisKey.CACHE_LOAD_LEASE.getFullKey(keyType.getFullKey(String.valueOf(id)));
+    }
+}
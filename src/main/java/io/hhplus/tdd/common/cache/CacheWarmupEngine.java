@@ -0,0 +1,175 @@
+package io.hhplus.tdd.common.cache;
+
+import io.hhplus.tdd.domain.product.application.GetPopularProductsUseCase;
+import io.hhplus.tdd.domain.product.application.GetProductListUseCase;
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
+import io.hhplus.tdd.domain.product.domain.service.ProductService;
+import io.hhplus.tdd.domain.product.domain.service.RankingService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 랭킹 기반 캐시 워밍업 엔진
+ * <p>
+ * 랭킹 상위 N개 상품을 기준으로 아래 캐시를 미리 채워, 새로 배포된 노드가 MySQL로 콜드 스타트하지 않도록 합니다.
+ * <ul>
+ *   <li>CACHE:product: 개별 상품 캐시 (+ 해당 노드의 L1)</li>
+ *   <li>CACHE:PRODUCT_DETAIL:v2 상품 상세 정적 정보</li>
+ *   <li>CACHE:PRODUCT_LIST_PAGE 앞쪽 페이지</li>
+ *   <li>CACHE:POPULAR_PRODUCTS 인기 상품 목록</li>
+ * </ul>
+ * 상품 단위 작업은 batchSize 단위로 나누어 전용 스레드풀에서 최대 parallelism개씩 병렬 실행합니다.
+ * (큐가 가득 차면 호출 스레드에서 실행하여 DB로 향하는 동시 요청 수를 제한)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupEngine {
+
+    private final RankingService rankingService;
+    private final ProductService productService;
+    private final GetProductListUseCase getProductListUseCase;
+    private final GetPopularProductsUseCase getPopularProductsUseCase;
+
+    @Value("${cache.warmup.top-n:500}")
+    private int topN = 500;
+
+    @Value("${cache.warmup.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${cache.warmup.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${cache.warmup.list-page-size:20}")
+    private int listPageSize = 20;
+
+    @Value("${cache.warmup.timeout-seconds:60}")
+    private long timeoutSeconds = 60L;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-warmup-" + System.nanoTime());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 전체 워밍업 실행
+     * - 각 단계의 실패는 로그만 남기고 다음 단계를 계속 진행 (기존 캐시는 유지됨)
+     */
+    public void warmup() {
+        long start = System.currentTimeMillis();
+
+        // 1. 랭킹 상위 N개 상품 ID
+        List<Long> topIds;
+        try {
+            topIds = rankingService.getDailyTopRankIds(topN);
+        } catch (Exception e) {
+            log.error("캐시 워밍업 - 랭킹 조회 실패", e);
+            topIds = List.of();
+        }
+
+        // 2. 상품 개별 캐시 + 상세 캐시 (배치 병렬)
+        int warmedProducts = warmupProducts(topIds);
+
+        // 3. 상품 리스트 앞쪽 페이지
+        int warmedPages = warmupListPages();
+
+        // 4. 구간별 인기 상품 목록 (2단계에서 채운 개별 캐시를 사용하므로 마지막에 실행)
+        for (RankingWindow window : RankingWindow.values()) {
+            try {
+                getPopularProductsUseCase.refreshCache(window);
+            } catch (Exception e) {
+                log.error("캐시 워밍업 - 인기 상품 캐시 갱신 실패 (기존 캐시 유지됨): window={}", window, e);
+            }
+        }
+
+        log.info("캐시 워밍업 완료: rankedIds={}, products={}, listPages={}, elapsed={}ms",
+                topIds.size(), warmedProducts, warmedPages, System.currentTimeMillis() - start);
+    }
+
+    private int warmupProducts(List<Long> ids) {
+        AtomicInteger warmed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            futures.add(executor.submit(() -> {
+                // MGET으로 미스만 DB 조회 후 CACHE:product: 적재
+                productService.getProductsByIds(batch);
+
+                // 상세 정적 정보 (@Cacheable이므로 이미 캐시된 상품은 DB 조회 없음)
+                for (Long id : batch) {
+                    try {
+                        productService.getProductDetail(id);
+                        warmed.incrementAndGet();
+                    } catch (Exception e) {
+                        log.debug("캐시 워밍업 - 상품 상세 적재 실패: productId={}", id, e);
+                    }
+                }
+            }));
+        }
+
+        awaitAll(futures);
+        return warmed.get();
+    }
+
+    private int warmupListPages() {
+        int warmed = 0;
+        for (int page = 0; page < GetProductListUseCase.CACHED_PAGE_COUNT; page++) {
+            try {
+                List<GetProductListUseCase.Output> result =
+                        getProductListUseCase.refreshCache(new GetProductListUseCase.Input(page, listPageSize));
+                warmed++;
+                if (result.size() < listPageSize) {
+                    break;
+                }
+            } catch (Exception e) {
+                log.error("캐시 워밍업 - 상품 리스트 페이지 갱신 실패: page={}", page, e);
+            }
+        }
+        return warmed;
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("캐시 워밍업 시간 초과: timeout={}s", timeoutSeconds);
+                futures.forEach(f -> f.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                log.error("캐시 워밍업 배치 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
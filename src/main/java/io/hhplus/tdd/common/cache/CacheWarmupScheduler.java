@@ -1,45 +1,48 @@
 package io.hhplus.tdd.common.cache;
 
-import io.hhplus.tdd.domain.product.application.GetPopularProductsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * 캐시 워밍업 스케줄러
- * 주기적으로 인기 상품 캐시를 사전 로드하여 DB 부하 감소
+ * 기동 직후와 설정된 주기마다 랭킹 기반 캐시 워밍업을 실행하여 DB 부하 감소
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "cache.warmup.enabled", havingValue = "true", matchIfMissing = true)
 public class CacheWarmupScheduler {
 
-    private final GetPopularProductsUseCase getPopularProductsUseCase;
-    private final CacheManager cacheManager;
+    private final CacheWarmupEngine cacheWarmupEngine;
 
     /**
-     * 매일 12시 정각에 인기 상품 캐시를 워밍업
-     * - 기존 캐시를 먼저 삭제
-     * - DB에서 최신 인기 상품 데이터를 조회하여 캐시에 저장
-     * - 12:00에 사용자 요청이 DB로 몰리는 것을 방지
+     * 기동 직후 워밍업
+     * - ApplicationReadyEvent 리스너가 끝난 뒤 Readiness가 ACCEPTING_TRAFFIC으로 바뀌므로
+     *   워밍업을 마친 노드부터 트래픽을 받음
      */
-    // 매일 12시에 실행
-    @Scheduled(cron = "0 0 12 * * *")
-    public void warmupPopularProductsCache() {
-        try {
-            // @CachePut이 붙은 메서드 호출
-            // 1. DB 조회 수행 (이 동안에도 사용자는 기존 캐시 데이터를 봄)
-            // 2. 메서드 리턴과 동시에 Redis에 새로운 값으로 '덮어쓰기' 됨
-            var result = getPopularProductsUseCase.refreshCache();
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmupOnStartup() {
+        log.info("기동 캐시 워밍업 시작");
+        cacheWarmupEngine.warmup();
+    }
 
+    /**
+     * 주기적 워밍업 (기본 30분마다)
+     * - 랭킹 변동에 따라 새로 상위권에 오른 상품을 미리 적재
+     * - 인기 상품/리스트 페이지는 @CachePut으로 덮어쓰기 (갱신 중에도 사용자는 기존 캐시 데이터를 봄)
+     */
+    @Scheduled(cron = "${cache.warmup.cron:0 */30 * * * *}")
+    public void warmupPeriodically() {
+        try {
+            cacheWarmupEngine.warmup();
         } catch (Exception e) {
             // DB 조회가 실패해도 기존 캐시(TTL 여유분)가 살아있어서 서비스 장애 방지 가능
-            log.error("인기 상품 캐시 갱신 실패 (기존 캐시 유지됨)", e);
+            log.error("캐시 워밍업 실패 (기존 캐시 유지됨)", e);
         }
     }
 }
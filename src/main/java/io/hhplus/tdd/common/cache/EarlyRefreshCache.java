@@ -0,0 +1,173 @@
+package io.hhplus.tdd.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 확률적 조기 갱신(XFetch)을 적용하는 Spring Cache 데코레이터
+ * <p>
+ * 저장 시 값을 CacheEnvelope(값 + 재계산 비용 + 만료 시각)로 감싸고,
+ * {@code @Cacheable(sync = true)} 조회(get(key, valueLoader)) 시 만료 전에 확률적으로 재계산합니다.
+ * <p>
+ * valueLoader는 호출자의 프록시 체인(트랜잭션 등)에 묶여 있으므로 다른 스레드로 넘기지 않고,
+ * 판정에 당첨된 요청이 호출 스레드에서 재계산합니다. 같은 노드에서 이미 같은 키를 재계산 중이거나
+ * 재계산에 실패하면 아직 유효한 기존 값을 반환합니다.
+ * <p>
+ * valueLoader가 없는 일반 조회(get(key))는 값만 꺼내 반환합니다.
+ */
+@Slf4j
+public class EarlyRefreshCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final double beta;
+    private final EarlyRefreshExecutor refreshExecutor;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    // @CachePut 등 계산 시간을 알 수 없는 저장 시 사용할 최근 재계산 비용 (ms)
+    private final Map<Object, Long> lastComputeMillis = new ConcurrentHashMap<>();
+
+    public EarlyRefreshCache(Cache delegate, Duration ttl, double beta, EarlyRefreshExecutor refreshExecutor) {
+        this(delegate, ttl, beta, refreshExecutor, Clock.systemUTC(), CacheEnvelope::nextRandom);
+    }
+
+    // 시각과 난수((0, 1] 범위)를 주입 (테스트에서 조기 갱신 판정 제어)
+    EarlyRefreshCache(Cache delegate, Duration ttl, double beta, EarlyRefreshExecutor refreshExecutor,
+                      Clock clock, DoubleSupplier random) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            Object stored = wrapper.get();
+            if (stored instanceof CacheEnvelope<?> envelope
+                    && envelope.shouldRefreshEarly(beta, clock.millis(), random.getAsDouble())) {
+                // 만료 전 호출 스레드에서 재계산 (노드 내 동일 키 중복 실행 방지)
+                log.debug("캐시 조기 갱신 시작: cache={}, key={}", getName(), key);
+                CacheEnvelope<T> refreshed = refreshExecutor.callIfIdle(getName() + "::" + key, () -> {
+                    CacheEnvelope<T> computed = compute(key, valueLoader);
+                    delegate.put(key, computed);
+                    return computed;
+                });
+                if (refreshed != null) {
+                    return refreshed.value();
+                }
+            }
+            return (T) unwrap(stored);
+        }
+
+        // 미스: 기존 sync 동작 그대로 (값을 계산하여 Envelope로 저장)
+        Object loaded = delegate.get(key, () -> compute(key, valueLoader));
+        return (T) unwrap(loaded);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(key, value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(key, value));
+        return existing == null ? null : new SimpleValueWrapper(unwrap(existing.get()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    // 값 계산 후 재계산 비용을 측정하여 Envelope 생성
+    private <T> CacheEnvelope<T> compute(Object key, Callable<T> valueLoader) {
+        long start = System.nanoTime();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        Duration computeTime = Duration.ofNanos(System.nanoTime() - start);
+        lastComputeMillis.put(key, computeTime.toMillis());
+        return CacheEnvelope.of(value, computeTime, ttl, clock.millis());
+    }
+
+    private CacheEnvelope<Object> wrap(Object key, Object value) {
+        long deltaMillis = lastComputeMillis.getOrDefault(key, 0L);
+        return CacheEnvelope.of(value, Duration.ofMillis(deltaMillis), ttl, clock.millis());
+    }
+
+    // Envelope 도입 이전에 저장된 값은 그대로 반환
+    private Object unwrap(Object stored) {
+        if (stored instanceof CacheEnvelope<?> envelope) {
+            return envelope.value();
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 조기 갱신(XFetch) 적용 CacheManager
+ * <p>
+ * 실제 저장은 위임 CacheManager(RedissonSpringCacheManager)가 담당하고,
+ * RedisKey에 earlyRefreshBeta가 설정된 캐시만 EarlyRefreshCache로 감싸서 반환합니다.
+ */
+public class EarlyRefreshCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final EarlyRefreshExecutor refreshExecutor;
+    private final ConcurrentMap<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    public EarlyRefreshCacheManager(CacheManager delegate, EarlyRefreshExecutor refreshExecutor) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        RedisKey redisKey = RedisKey.fromCacheName(name);
+        if (cache == null || redisKey == null || !redisKey.isEarlyRefreshEnabled()) {
+            return cache;
+        }
+        return decorated.computeIfAbsent(name, key -> new EarlyRefreshCache(
+                cache,
+                redisKey.getBaseTtl(),
+                redisKey.getEarlyRefreshBeta(),
+                refreshExecutor
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.common.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 조기 갱신(XFetch) 작업 실행기
+ * <p>
+ * 같은 갱신 키(캐시 항목)에 대한 재계산은 노드 내에서 한 번만 진행되도록 합니다.
+ * <ul>
+ *   <li>callIfIdle: 호출 스레드에서 재계산 (@Cacheable valueLoader처럼 호출자의 트랜잭션/프록시 체인에 묶인 작업)</li>
+ *   <li>submitEach: 항목별로 선점한 뒤 선점한 항목만 별도 스레드풀에서 재계산 (MGET 일괄 조회)</li>
+ * </ul>
+ * 이미 진행 중인 항목은 건너뛰고, 큐가 가득 차면 작업을 버립니다. (기존 값은 아직 유효하므로 다음 판정에서 다시 시도됨)
+ */
+@Slf4j
+@Component
+public class EarlyRefreshExecutor {
+
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            2, 4,
+            60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(100),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + System.nanoTime());
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
+    /**
+     * 호출 스레드에서 갱신 작업 실행
+     *
+     * @return 갱신 결과, 같은 refreshKey의 작업이 진행 중이거나 실패하면 null (호출자는 기존 값 사용)
+     */
+    public <T> T callIfIdle(String refreshKey, Supplier<T> task) {
+        if (!running.add(refreshKey)) {
+            return null;
+        }
+        try {
+            T result = task.get();
+            log.debug("캐시 조기 갱신 완료: key={}", refreshKey);
+            return result;
+        } catch (Exception e) {
+            log.error("캐시 조기 갱신 실패: key={}", refreshKey, e);
+            return null;
+        } finally {
+            running.remove(refreshKey);
+        }
+    }
+
+    /**
+     * 항목별 갱신 작업 제출
+     * <p>
+     * 항목마다 prefix:id 갱신 키를 선점하고, 선점한 항목만 모아 한 번에 재계산합니다.
+     * 겹치는 ID 목록으로 동시에 조회해도 같은 항목이 중복 재계산되지 않습니다.
+     *
+     * @param task 선점한 ID 목록을 받아 재계산 후 저장하는 작업
+     */
+    public <K> void submitEach(String prefix, List<K> ids, Consumer<List<K>> task) {
+        List<String> claimedKeys = new ArrayList<>();
+        List<K> claimedIds = new ArrayList<>();
+        for (K id : ids) {
+            String refreshKey = prefix + ":" + id;
+            if (running.add(refreshKey)) {
+                claimedKeys.add(refreshKey);
+                claimedIds.add(id);
+            }
+        }
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.accept(claimedIds);
+                    log.debug("캐시 조기 갱신 완료: prefix={}, count={}", prefix, claimedIds.size());
+                } catch (Exception e) {
+                    log.error("캐시 조기 갱신 실패: prefix={}, ids={}", prefix, claimedIds, e);
+                } finally {
+                    claimedKeys.forEach(running::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            claimedKeys.forEach(running::remove);
+            log.debug("캐시 조기 갱신 큐 포화로 작업 생략: prefix={}, count={}", prefix, claimedIds.size());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,16 +1,21 @@
 package io.hhplus.tdd.common.cache;
 
+import io.hhplus.tdd.common.cache.codec.CacheCodecRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
 import org.redisson.api.RBuckets;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.spring.cache.CacheConfig;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -18,56 +23,111 @@ import java.util.concurrent.TimeUnit;
 public class MultiGetCacheService {
 
     private final RedissonClient redissonClient;
+    private final NearCacheManager nearCacheManager;
+    private final EarlyRefreshExecutor earlyRefreshExecutor;
+    private final CacheCodecRegistry cacheCodecRegistry;
 
-    // 여러 ID의 캐시 데이터를 MGET으로 일괄 조회
+    // 여러 ID의 캐시 데이터를 L1(Near Cache) → L2(Redis MGET) 순서로 일괄 조회
     public <T> Map<Long, T> getMap(RedisKey keyType, List<Long> ids, Class<T> type) {
+        return getMap(keyType, ids, type, null);
+    }
+
+    /**
+     * 조기 갱신(XFetch) 적용 일괄 조회
+     * <p>
+     * L2 적중 항목 중 만료가 임박하여 조기 갱신 대상으로 판정된 ID들은
+     * refresher로 백그라운드 재계산 후 다시 저장하고, 이번 요청에는 기존 값을 그대로 반환합니다.
+     *
+     * @param refresher 재계산 함수 (ID 목록 → 결과 Map), null이면 조기 갱신 미사용
+     */
+    public <T> Map<Long, T> getMap(RedisKey keyType, List<Long> ids, Class<T> type,
+                                   Function<List<Long>, Map<Long, T>> refresher) {
         if (ids == null || ids.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        String[] keys = ids.stream()
+        // L1 조회 (적중한 항목은 Redis로 보내지 않음)
+        Map<Long, T> result = new HashMap<>(nearCacheManager.getAll(keyType, ids, type));
+
+        List<Long> l1MissIds = ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        if (l1MissIds.isEmpty()) {
+            return result;
+        }
+
+        String[] keys = l1MissIds.stream()
                 .map(id -> keyType.getFullKey(String.valueOf(id)))
                 .toArray(String[]::new);
 
-        // RBuckets로 MGET 한방 쿼리
-        RBuckets buckets = redissonClient.getBuckets();
-        Map<String, T> rawResult;
+        // RBuckets로 L1 미스 항목만 MGET 한방 쿼리
+        Codec codec = cacheCodecRegistry.codecFor(keyType);
+        RBuckets buckets = codec == null ? redissonClient.getBuckets() : redissonClient.getBuckets(codec);
+        Map<String, Object> rawResult;
 
         try {
             rawResult = buckets.get(keys);
-            log.debug("Cache MGET: keyType={}, requested={}, hits={}",
-                    keyType.name(), ids.size(), rawResult.size());
+            log.debug("Cache MGET: keyType={}, requested={}, l1Hits={}, l2Hits={}",
+                    keyType.name(), ids.size(), result.size(), rawResult.size());
         } catch (Exception e) {
             log.error("Redis MGET failed: keyType={}, keys={}", keyType.name(), keys.length, e);
-            return Collections.emptyMap();
+            return result;
         }
 
-        Map<Long, T> result = new HashMap<>();
-        for (Long id : ids) {
+        Map<Long, T> l2Hits = new HashMap<>();
+        List<Long> refreshIds = new ArrayList<>();
+        for (Long id : l1MissIds) {
             String key = keyType.getFullKey(String.valueOf(id));
-            T value = rawResult.get(key);
-            if (value != null) {
-                result.put(id, value);
+            Object stored = rawResult.get(key);
+            if (stored instanceof CacheEnvelope<?> envelope) {
+                if (refresher != null && envelope.shouldRefreshEarly(keyType.getEarlyRefreshBeta())) {
+                    refreshIds.add(id);
+                }
+                stored = envelope.value();
             }
+            if (type.isInstance(stored)) {
+                l2Hits.put(id, type.cast(stored));
+            }
+        }
+        nearCacheManager.recordL2(keyType, l2Hits.size(), l1MissIds.size() - l2Hits.size());
+
+        if (!refreshIds.isEmpty()) {
+            refreshEarly(keyType, refreshIds, refresher);
         }
 
+        // L2 적중 항목은 L1에 적재
+        nearCacheManager.putAll(keyType, l2Hits);
+        result.putAll(l2Hits);
+
         return result;
     }
 
     // 여러 데이터를 MSET으로 일괄 저장 (각 항목마다 개별 TTL 적용)
     public <T> void putAll(RedisKey keyType, Map<Long, T> data) {
+        putAll(keyType, data, Duration.ZERO);
+    }
+
+    // 재계산 비용과 함께 일괄 저장 (조기 갱신 사용 키는 CacheEnvelope로 감싸서 저장)
+    public <T> void putAll(RedisKey keyType, Map<Long, T> data, Duration computeTime) {
         if (data == null || data.isEmpty()) {
             return;
         }
+        Codec codec = cacheCodecRegistry.codecFor(keyType);
         RBatch batch = redissonClient.createBatch();
         data.forEach((id, value) -> {
             String key = keyType.getFullKey(String.valueOf(id));
             Duration ttl = keyType.getTtlWithJitter();  // 각 항목마다 개별 계산
-            batch.getBucket(key).setAsync(value, ttl.toMillis(), TimeUnit.MILLISECONDS);
+            Object stored = keyType.isEarlyRefreshEnabled()
+                    ? CacheEnvelope.of(value, computeTime, ttl)
+                    : value;
+            RBucketAsync<Object> bucket = codec == null ? batch.getBucket(key) : batch.getBucket(key, codec);
+            bucket.setAsync(stored, ttl.toMillis(), TimeUnit.MILLISECONDS);
         });
 
         try {
             batch.execute();
+            nearCacheManager.putAll(keyType, data);
             log.debug("Cache MSET with individual TTLs: keyType={}, count={}",
                     keyType.name(), data.size());
         } catch (Exception e) {
@@ -75,6 +135,48 @@ public class MultiGetCacheService {
         }
     }
 
+    // 존재하지 않는 ID로 기록된 항목 조회 (Negative Cache, MGET 1회)
+    public Set<Long> getAbsentIds(RedisKey absentKeyType, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String[] keys = ids.stream()
+                .map(id -> absentKeyType.getFullKey(String.valueOf(id)))
+                .toArray(String[]::new);
+        try {
+            Map<String, Object> found = redissonClient.getBuckets(StringCodec.INSTANCE).get(keys);
+            Set<Long> absentIds = new HashSet<>();
+            for (Long id : ids) {
+                if (found.containsKey(absentKeyType.getFullKey(String.valueOf(id)))) {
+                    absentIds.add(id);
+                }
+            }
+            return absentIds;
+        } catch (Exception e) {
+            log.error("Redis absent MGET failed: keyType={}, keys={}", absentKeyType.name(), keys.length, e);
+            return Collections.emptySet();
+        }
+    }
+
+    // 존재하지 않는 ID 기록 (TTL 동안 DB 조회 생략)
+    public void putAbsentIds(RedisKey absentKeyType, Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        long ttlMillis = absentKeyType.getTtlWithJitter().toMillis();
+        RBatch batch = redissonClient.createBatch();
+        for (Long id : ids) {
+            batch.<String>getBucket(absentKeyType.getFullKey(String.valueOf(id)), StringCodec.INSTANCE)
+                    .setAsync("1", ttlMillis, TimeUnit.MILLISECONDS);
+        }
+        try {
+            batch.execute();
+            log.debug("Cache absent MSET: keyType={}, count={}", absentKeyType.name(), ids.size());
+        } catch (Exception e) {
+            log.error("Redis absent MSET failed: keyType={}, count={}", absentKeyType.name(), ids.size(), e);
+        }
+    }
+
     // 여러 캐시 키를 한번에 삭제
     public void deleteByIds(RedisKey keyType, List<Long> ids) {
         if (ids == null || ids.isEmpty()) {
@@ -91,5 +193,19 @@ public class MultiGetCacheService {
         } catch (Exception e) {
             log.error("Redis DELETE failed: keyType={}, count={}", keyType.name(), ids.size(), e);
         }
+
+        // Redis 삭제 여부와 관계없이 L1은 무효화 (다른 노드에는 Pub/Sub으로 전파)
+        nearCacheManager.invalidate(keyType, ids);
+    }
+
+    // 조기 갱신 대상 ID들을 백그라운드에서 재계산 후 저장 (항목별로 선점하여 다른 요청과 겹치는 ID는 한 번만 재계산)
+    private <T> void refreshEarly(RedisKey keyType, List<Long> ids,
+                                  Function<List<Long>, Map<Long, T>> refresher) {
+        earlyRefreshExecutor.submitEach(keyType.name(), ids, claimedIds -> {
+            long start = System.nanoTime();
+            Map<Long, T> refreshed = refresher.apply(claimedIds);
+            putAll(keyType, refreshed, Duration.ofNanos(System.nanoTime() - start));
+        });
+        log.debug("Cache early refresh scheduled: keyType={}, count={}", keyType.name(), ids.size());
     }
 }
@@ -0,0 +1,181 @@
+package io.hhplus.tdd.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 내 L1 캐시(Near Cache) 관리
+ * <p>
+ * MultiGetCacheService의 Redis(L2) MGET 앞단에서 RedisKey별로 크기/TTL이 제한된 Caffeine 캐시를 유지합니다.
+ * 삭제 시 Redis Pub/Sub 채널로 무효화 메시지를 발행하여 다른 노드의 L1도 함께 비웁니다.
+ * <p>
+ * 계층별 적중률은 Micrometer 지표로 노출합니다.
+ * <ul>
+ *   <li>cache.tier.requests (cache, tier=L1|L2, result=hit|miss)</li>
+ *   <li>cache.tier.hit.ratio (cache, tier=L1|L2)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCacheManager {
+
+    private static final String INVALIDATION_TOPIC = "CACHE:near:invalidate";
+    private static final String TIER_L1 = "L1";
+    private static final String TIER_L2 = "L2";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    // 자기 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<RedisKey, Cache<Long, Object>> caches = new EnumMap<>(RedisKey.class);
+    private final Map<String, TierStats> tierStats = new ConcurrentHashMap<>();
+    private int listenerId;
+
+    /**
+     * 노드 간 L1 무효화 메시지
+     */
+    public record Invalidation(
+            String origin,
+            RedisKey keyType,
+            List<Long> ids
+    ) implements Serializable {}
+
+    @PostConstruct
+    void init() {
+        for (RedisKey keyType : RedisKey.values()) {
+            if (!keyType.isNearCacheEnabled()) {
+                continue;
+            }
+            Cache<Long, Object> cache = Caffeine.newBuilder()
+                    .maximumSize(keyType.getNearCacheMaxSize())
+                    .expireAfterWrite(keyType.getNearCacheTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, keyType.name());
+            caches.put(keyType, cache);
+        }
+
+        listenerId = getTopic().addListener(Invalidation.class, (channel, message) -> onInvalidation(message));
+        log.info("Near Cache 초기화 완료: keyTypes={}, nodeId={}", caches.keySet(), nodeId);
+    }
+
+    @PreDestroy
+    void destroy() {
+        getTopic().removeListener(listenerId);
+    }
+
+    // L1에서 조회 (적중한 항목만 반환)
+    public <T> Map<Long, T> getAll(RedisKey keyType, Collection<Long> ids, Class<T> type) {
+        Cache<Long, Object> cache = caches.get(keyType);
+        if (cache == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, T> result = new HashMap<>();
+        cache.getAllPresent(ids).forEach((id, value) -> {
+            if (type.isInstance(value)) {
+                result.put(id, type.cast(value));
+            }
+        });
+
+        record(keyType, TIER_L1, result.size(), ids.size() - result.size());
+        return result;
+    }
+
+    // L2(Redis)에서 가져온 값 또는 새로 저장한 값을 L1에 적재
+    public void putAll(RedisKey keyType, Map<Long, ?> data) {
+        Cache<Long, Object> cache = caches.get(keyType);
+        if (cache == null || data.isEmpty()) {
+            return;
+        }
+        cache.putAll(data);
+    }
+
+    // 로컬 L1 무효화 후 다른 노드로 무효화 메시지 발행
+    public void invalidate(RedisKey keyType, List<Long> ids) {
+        Cache<Long, Object> cache = caches.get(keyType);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateAll(ids);
+
+        try {
+            getTopic().publish(new Invalidation(nodeId, keyType, List.copyOf(ids)));
+            log.debug("Near Cache 무효화 발행: keyType={}, count={}", keyType.name(), ids.size());
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.error("Near Cache 무효화 발행 실패: keyType={}, count={}", keyType.name(), ids.size(), e);
+        }
+    }
+
+    // L2(Redis) 조회 결과 기록
+    public void recordL2(RedisKey keyType, int hits, int misses) {
+        record(keyType, TIER_L2, hits, misses);
+    }
+
+    private void onInvalidation(Invalidation message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        Cache<Long, Object> cache = caches.get(message.keyType());
+        if (cache != null) {
+            cache.invalidateAll(message.ids());
+            log.debug("Near Cache 무효화 수신: keyType={}, count={}", message.keyType().name(), message.ids().size());
+        }
+    }
+
+    private void record(RedisKey keyType, String tier, int hits, int misses) {
+        TierStats stats = tierStats.computeIfAbsent(keyType.name() + ":" + tier,
+                key -> registerStats(keyType, tier));
+        stats.hits.add(hits);
+        stats.misses.add(misses);
+    }
+
+    private TierStats registerStats(RedisKey keyType, String tier) {
+        TierStats stats = new TierStats();
+        FunctionCounter.builder("cache.tier.requests", stats, s -> s.hits.sum())
+                .tags("cache", keyType.name(), "tier", tier, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.requests", stats, s -> s.misses.sum())
+                .tags("cache", keyType.name(), "tier", tier, "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", stats, TierStats::hitRatio)
+                .tags("cache", keyType.name(), "tier", tier)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC);
+    }
+
+    private static class TierStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        double hitRatio() {
+            long h = hits.sum();
+            long total = h + misses.sum();
+            return total == 0 ? 0.0 : (double) h / total;
+        }
+    }
+}
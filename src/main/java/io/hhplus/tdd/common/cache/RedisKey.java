@@ -21,14 +21,15 @@ public enum RedisKey {
     ),
 
     /**
-     * 상품 상세 캐시
+     * 상품 상세 캐시 (정적 정보: 이름, 설명, 옵션)
      * - TTL: 10분
-     * - 키: CACHE:PRODUCT_DETAIL::id:123
-     * - 조건부 캐싱: 재고 10개 이상
-     * - 사용: @Cacheable 어노테이션
+     * - 키: CACHE:PRODUCT_DETAIL:v2::id:123
+     * - 재고는 포함하지 않음 (CACHE_PRODUCT_STOCK)
+     * - 값 타입이 재고 포함 Output → ProductDetailCache로 바뀌어 키 이름에 v2를 붙임 (이전 배포의 값은 읽지 않고 TTL로 소멸)
+     * - 사용: @Cacheable 어노테이션 (ProductService.getProductDetail)
      */
     PRODUCT_DETAIL(
-            "CACHE:PRODUCT_DETAIL",
+            "CACHE:PRODUCT_DETAIL:v2",
             Duration.ofMinutes(10),
             0L,
             false
@@ -37,15 +38,19 @@ public enum RedisKey {
     /**
      * 인기 상품 캐시
      * - TTL: 10분
-     * - 키: CACHE:POPULAR_PRODUCTS::all
-     * - 스케줄러 12시 갱신
+     * - 키: CACHE:POPULAR_PRODUCTS::DAILY (랭킹 구간별)
+     * - CacheWarmupEngine이 주기적으로 갱신
+     * - 조기 갱신(XFetch): beta 1.0 (sync=true 조회 시 만료 전 당첨된 요청이 재계산)
      * - 사용: @Cacheable 어노테이션
      */
     POPULAR_PRODUCTS(
             "CACHE:POPULAR_PRODUCTS",
             Duration.ofMinutes(10),
             0L,
-            false
+            false,
+            0L,
+            Duration.ZERO,
+            1.0
     ),
 
     /**
@@ -69,12 +74,58 @@ public enum RedisKey {
      * - TTL: 1시간 (±120초 Jitter)
      * - 키: CACHE:product:123
      * - MultiGetCacheService에서 벌크 조회
+     * - L1(Near Cache): 최대 10,000건 , 30초
+     * - 조기 갱신(XFetch): beta 1.0
      * - 사용: 직접 Redisson API
      */
     CACHE_PRODUCT_BY_ID(
             "CACHE:product:",
             Duration.ofHours(1),
             120L,
+            true,
+            10_000L,
+            Duration.ofSeconds(30),
+            1.0
+    ),
+
+    /**
+     * 존재하지 않는 상품 ID (Negative Cache)
+     * - TTL: 30초 (Jitter 없음)
+     * - 키: CACHE:product:absent:123 (값 "1")
+     * - DB에 없는 ID가 반복 요청되어도 TTL 동안은 DB를 다시 조회하지 않음
+     * - 사용: MultiGetCacheService (ProductService)
+     */
+    CACHE_PRODUCT_ABSENT(
+            "CACHE:product:absent:",
+            Duration.ofSeconds(30),
+            0L,
+            true
+    ),
+
+    /**
+     * 상품 옵션 실시간 재고 (Hash)
+     * - TTL: 30분 (±60초 Jitter)
+     * - 키: CACHE:stock:123 (필드: 옵션 ID, 값: 재고)
+     * - 커밋 후 변경량 반영 (HINCRBY), 미스 시 DB 값으로 채움 (HSETNX)
+     * - 사용: ProductStockCacheService
+     */
+    CACHE_PRODUCT_STOCK(
+            "CACHE:stock:",
+            Duration.ofMinutes(30),
+            60L,
+            true
+    ),
+
+    /**
+     * 캐시 로드 임대 (클러스터 단위 Single Flight)
+     * - TTL: 2초 (Jitter 없음)
+     * - 키: LEASE:CACHE:product:123
+     * - 사용: CacheLoadLease (임대를 얻은 노드만 DB 조회)
+     */
+    CACHE_LOAD_LEASE(
+            "LEASE:",
+            Duration.ofSeconds(2),
+            0L,
             true
     ),
 
@@ -82,28 +133,125 @@ public enum RedisKey {
 
     /**
      * 일일 상품 랭킹 (Sorted Set)
-     * - TTL: 14일 (±1시간 Jitter)
+     * - TTL: 32일 (±1시간 Jitter) - MONTHLY 구간 합산에 필요
      * - 키: RANK:daily:20231204
      * - 사용: RankingService (Sorted Set 직접 사용)
      */
     RANK_DAILY(
             "RANK:daily:",
-            Duration.ofDays(14),
+            Duration.ofDays(32),
             3600L,
             true
     ),
 
     /**
-     * 랭킹 조회용 임시 집합
-     * - TTL: 즉시 삭제 (0초)
-     * - 키: RANK:daily:view:1701234567890
-     * - 사용: RankingService (가중치 합산 계산 후 즉시 삭제)
+     * 시간별 상품 랭킹 (Sorted Set)
+     * - TTL: 26시간 (±10분 Jitter) - TRENDING 구간(24시간) 합산에 필요
+     * - 키: RANK:hourly:2023120413
+     * - 버킷마다 상위 K개만 유지 (ranking.bucket.top-k)
+     * - 사용: RankingService
+     */
+    RANK_HOURLY(
+            "RANK:hourly:",
+            Duration.ofHours(26),
+            600L,
+            true
+    ),
+
+    /**
+     * 구간별 미리 계산된 랭킹 (Sorted Set)
+     * - TTL: 30분 (재계산이 멈추면 자연 만료, 조회 시 재계산)
+     * - 키: RANK:window:TRENDING , RANK:window:DAILY , RANK:window:WEEKLY , RANK:window:MONTHLY
+     * - 사용: RankingService (조회는 ZREVRANGE 1회)
+     */
+    RANK_WINDOW(
+            "RANK:window:",
+            Duration.ofMinutes(30),
+            0L,
+            true
+    ),
+
+    /**
+     * 랭킹 부족분 채우기용 사전 계산 목록 (Sorted Set, 점수 = 노출 순서)
+     * - TTL: 2시간 (갱신이 멈춰도 한동안 유지)
+     * - 키: RANK:fallback:all
+     * - 최근 N일 판매량 상위 → 신상품 순으로 백그라운드에서 계산
+     * - 사용: RankingService, RankingFallbackScheduler
+     */
+    RANK_FALLBACK(
+            "RANK:fallback:",
+            Duration.ofHours(2),
+            0L,
+            true
+    ),
+
+    /**
+     * 구간 랭킹 재계산 임대 (노드 간 중복 재계산 방지)
+     * - TTL: 구간별 재계산 주기
+     * - 키: RANK:window:lease:DAILY , RANK:window:lease:FALLBACK
+     * - 사용: RankingMaterializeScheduler, RankingFallbackScheduler
      */
-    RANK_DAILY_VIEW_TEMP(
-            "RANK:daily:view:",
+    RANK_WINDOW_LEASE(
+            "RANK:window:lease:",
             Duration.ZERO,
             0L,
-            false
+            true
+    ),
+
+    // ===== 재고 원장 그룹 (STOCK:) =====
+
+    /**
+     * 옵션별 재고 원장 (String, REDIS_LEDGER 모드)
+     * - TTL: 없음 (정산 전 차감을 포함한 최신 재고이므로 만료되면 안 됨)
+     * - 키: STOCK:ledger:200
+     * - 사용: StockLedgerService (Lua 스크립트로 주문 단위 원자적 차감)
+     */
+    STOCK_LEDGER(
+            "STOCK:ledger:",
+            Duration.ZERO,
+            0L,
+            true
+    ),
+
+    /**
+     * 주문별 재고 예약 기록 (String: RESERVED / RELEASED)
+     * - TTL: 30일 (중복 차감/복구 방지)
+     * - 키: STOCK:reservation:1
+     * - 사용: StockLedgerService
+     */
+    STOCK_RESERVATION(
+            "STOCK:reservation:",
+            Duration.ofDays(30),
+            0L,
+            true
+    ),
+
+    // ===== 쿠폰 그룹 (COUPON:) =====
+
+    /**
+     * 쿠폰 발급 입장 게이트 (Hash: remaining , limit , u:{userId} = 사용자별 입장 수)
+     * - TTL: 쿠폰 유효기간 종료 시각까지 (적재 시 PEXPIREAT)
+     * - 키: COUPON:gate:1
+     * - 사용: CouponIssueGate (Lua 스크립트로 잔여 수량 + 사용자별 한도를 원자적으로 검증/차감)
+     */
+    COUPON_ISSUE_GATE(
+            "COUPON:gate:",
+            Duration.ZERO,
+            0L,
+            true
+    ),
+
+    /**
+     * 쿠폰 발급 요청 상태 (Hash: status = QUEUED / ISSUED / REJECTED , reason , couponId , userId)
+     * - TTL: 30분 (결과 확인용이므로 짧게 유지)
+     * - 키: COUPON:ticket:1700000000000-0 (발급 큐 메시지 ID)
+     * - 사용: CouponIssueTicketStore (IssueUserCouponUseCase가 QUEUED 기록, CouponIssueConsumer가 결과 기록)
+     */
+    COUPON_ISSUE_TICKET(
+            "COUPON:ticket:",
+            Duration.ofMinutes(30),
+            0L,
+            true
     ),
 
     // ===== 락 그룹 (LOCK:) =====
@@ -132,6 +280,45 @@ public enum RedisKey {
             Duration.ofSeconds(10),
             0L,
             false
+    ),
+
+    /**
+     * 락 펜싱 토큰 카운터 (RAtomicLong)
+     * - TTL: 없음 (토큰은 락 키별로 계속 증가해야 함)
+     * - 키: LOCK:fence:PRODUCT_OPTION:1 , LOCK:fence:USER_POINT:100
+     * - 사용: FencingTokenIssuer (lock.fencing.enabled: true)
+     */
+    LOCK_FENCE(
+            "LOCK:fence:",
+            Duration.ZERO,
+            0L,
+            true
+    ),
+
+    /**
+     * 락 대기열 (Sorted Set, score = 발급 순번)
+     * - TTL: 1분 (입장/대기 시 갱신, 대기자가 없으면 자동 정리)
+     * - 키: LOCK:queue:PRODUCT_OPTION:1 , 순번 카운터: LOCK:queue:seq
+     * - 사용: LockAdmissionQueue (lock.admission-queue.enabled: true)
+     */
+    LOCK_QUEUE(
+            "LOCK:queue:",
+            Duration.ofMinutes(1),
+            0L,
+            true
+    ),
+
+    /**
+     * 락 대기열 티켓 만료 시각 (Sorted Set, score = 만료 시각 epoch ms)
+     * - TTL: 1분 (LOCK_QUEUE와 동일)
+     * - 키: LOCK:queue-deadline:PRODUCT_OPTION:1
+     * - 사용: LockAdmissionQueue (만료된 티켓은 다음 입장/대기 시 대기열에서 제거)
+     */
+    LOCK_QUEUE_DEADLINE(
+            "LOCK:queue-deadline:",
+            Duration.ofMinutes(1),
+            0L,
+            true
     );
 
     // ===== @Cacheable용 컴파일 타임 상수 =====
@@ -148,7 +335,7 @@ public enum RedisKey {
      * </pre>
      */
     public static final String COUPON_LIST_NAME = "CACHE:COUPON_LIST";
-    public static final String PRODUCT_DETAIL_NAME = "CACHE:PRODUCT_DETAIL";
+    public static final String PRODUCT_DETAIL_NAME = "CACHE:PRODUCT_DETAIL:v2";
     public static final String POPULAR_PRODUCTS_NAME = "CACHE:POPULAR_PRODUCTS";
     public static final String PRODUCT_LIST_PAGE_NAME = "CACHE:PRODUCT_LIST_PAGE";
 
@@ -164,8 +351,8 @@ public enum RedisKey {
      * </pre>
      */
     public static final String COUPON_LIST_KEY = "'all'";
-    public static final String PRODUCT_DETAIL_KEY = "'id:' + #input.id()";
-    public static final String POPULAR_PRODUCTS_KEY = "'all'";
+    public static final String PRODUCT_DETAIL_KEY = "'id:' + #productId";
+    public static final String POPULAR_PRODUCTS_KEY = "#window.name()";
     public static final String PRODUCT_LIST_PAGE_KEY = "'page:' + #input.page() + ':size:' + #input.size()";
 
     // ===== 필드 정의 =====
@@ -186,13 +373,45 @@ public enum RedisKey {
      */
     private final boolean directRedisson;
 
+    /**
+     * 프로세스 내 L1 캐시(Near Cache) 설정
+     * - nearCacheMaxSize: 최대 보관 건수 (0이면 L1 미사용)
+     * - nearCacheTtl: 쓰기 후 만료 시간
+     * - MultiGetCacheService를 통해 조회하는 키에만 적용됩니다.
+     */
+    private final long nearCacheMaxSize;
+    private final Duration nearCacheTtl;
+
+    /**
+     * 확률적 조기 갱신(XFetch) 계수
+     * - 0이면 미사용 (값을 CacheEnvelope로 감싸지 않음)
+     * - 클수록 만료 전에 더 일찍 재계산 (1.0 권장)
+     */
+    private final double earlyRefreshBeta;
+
 
     RedisKey(String keyName, Duration baseTtl,
              long jitterRangeSeconds, boolean directRedisson) {
+        this(keyName, baseTtl, jitterRangeSeconds, directRedisson, 0L, Duration.ZERO);
+    }
+
+    RedisKey(String keyName, Duration baseTtl,
+             long jitterRangeSeconds, boolean directRedisson,
+             long nearCacheMaxSize, Duration nearCacheTtl) {
+        this(keyName, baseTtl, jitterRangeSeconds, directRedisson, nearCacheMaxSize, nearCacheTtl, 0.0);
+    }
+
+    RedisKey(String keyName, Duration baseTtl,
+             long jitterRangeSeconds, boolean directRedisson,
+             long nearCacheMaxSize, Duration nearCacheTtl,
+             double earlyRefreshBeta) {
         this.keyName = keyName;
         this.baseTtl = baseTtl;
         this.jitterRangeSeconds = jitterRangeSeconds;
         this.directRedisson = directRedisson;
+        this.nearCacheMaxSize = nearCacheMaxSize;
+        this.nearCacheTtl = nearCacheTtl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
     }
 
     // ===== 핵심 메서드 =====
@@ -231,6 +450,26 @@ public enum RedisKey {
         return keyName + suffix;
     }
 
+    // L1(Near Cache) 사용 여부
+    public boolean isNearCacheEnabled() {
+        return nearCacheMaxSize > 0 && !nearCacheTtl.isZero();
+    }
+
+    // 확률적 조기 갱신(XFetch) 사용 여부
+    public boolean isEarlyRefreshEnabled() {
+        return earlyRefreshBeta > 0;
+    }
+
+    // @Cacheable 캐시 이름으로 RedisKey 조회 (없으면 null)
+    public static RedisKey fromCacheName(String cacheName) {
+        for (RedisKey redisKey : values()) {
+            if (!redisKey.directRedisson && redisKey.keyName.equals(cacheName)) {
+                return redisKey;
+            }
+        }
+        return null;
+    }
+
     /**
      * RedisCacheConfig용 CacheConfig Map 자동 생성
      * <p>
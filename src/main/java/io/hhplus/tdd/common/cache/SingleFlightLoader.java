@@ -0,0 +1,111 @@
+package io.hhplus.tdd.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 캐시 미스 요청 병합기 (Single Flight)
+ * <p>
+ * 겹치는 ID 집합으로 동시에 들어온 캐시 미스 요청 중 ID별로 먼저 도착한 요청만 로드를 수행하고,
+ * 나머지 요청은 진행 중인 로드의 결과를 기다렸다가 그대로 사용합니다.
+ * 요청마다 자신이 담당한 ID들만 모아 한 번에 로드하므로 노드당 동일 ID에 대한 DB 조회는 한 번으로 합쳐집니다.
+ * <p>
+ * 로드 담당 요청은 결과를 채우기 전에 다른 ID를 기다리지 않으므로 요청 간 교착은 발생하지 않습니다.
+ *
+ * @param <K> 키 타입 (예: 상품 ID)
+ * @param <V> 값 타입 (예: ProductCache)
+ */
+@Slf4j
+public class SingleFlightLoader<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+
+    public SingleFlightLoader(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * 주어진 키들을 로드합니다.
+     *
+     * @param keys   로드할 키 목록
+     * @param loader 실제 로드 함수 (담당하게 된 키 목록 → 결과 Map, 존재하지 않는 키는 결과에서 빠짐)
+     * @return 로드된 결과 (존재하지 않는 키는 포함되지 않음)
+     */
+    public Map<K, V> load(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> waiting = new LinkedHashMap<>();
+
+        // 1. 키별로 진행 중인 로드가 있으면 대기, 없으면 직접 담당
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+            if (existing == null) {
+                owned.put(key, mine);
+            } else {
+                waiting.put(key, existing);
+            }
+        }
+
+        Map<K, V> result = new HashMap<>();
+
+        // 2. 담당한 키들은 한 번의 배치로 로드 후 대기 중인 요청들에게 결과 전달
+        if (!owned.isEmpty()) {
+            try {
+                Map<K, V> loaded = loader.apply(new ArrayList<>(owned.keySet()));
+                owned.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    future.complete(value);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(inFlight::remove);
+            }
+        }
+
+        if (waiting.isEmpty()) {
+            return result;
+        }
+
+        // 3. 다른 요청이 로드 중인 키는 그 결과를 대기
+        log.debug("Single flight 병합: owned={}, waiting={}", owned.size(), waiting.size());
+        List<K> retryKeys = new ArrayList<>();
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        for (Map.Entry<K, CompletableFuture<V>> entry : waiting.entrySet()) {
+            try {
+                long remaining = Math.max(0L, deadline - System.nanoTime());
+                V value = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                // 담당 요청이 실패했거나 너무 오래 걸리면 직접 로드
+                retryKeys.add(entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Single flight 대기 중 스레드 인터럽트 발생", e);
+            }
+        }
+
+        if (!retryKeys.isEmpty()) {
+            log.warn("Single flight 대기 실패로 직접 로드: count={}", retryKeys.size());
+            result.putAll(loader.apply(retryKeys));
+        }
+
+        return result;
+    }
+}
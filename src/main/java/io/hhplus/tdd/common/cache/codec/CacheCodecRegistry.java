@@ -0,0 +1,32 @@
+package io.hhplus.tdd.common.cache.codec;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import org.redisson.client.codec.Codec;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * RedisKey별 값 코덱 선택
+ * <p>
+ * 등록되지 않은 키는 null을 반환하며, 이 경우 RedissonClient의 기본 코덱을 사용합니다.
+ */
+public class CacheCodecRegistry {
+
+    private final Map<RedisKey, Codec> codecs;
+
+    public CacheCodecRegistry(Map<RedisKey, Codec> codecs) {
+        this.codecs = codecs.isEmpty() ? new EnumMap<>(RedisKey.class) : new EnumMap<>(codecs);
+    }
+
+    // 직접 Redisson 사용 키 (MultiGetCacheService)
+    public Codec codecFor(RedisKey keyType) {
+        return codecs.get(keyType);
+    }
+
+    // @Cacheable 캐시 이름 (RedisCacheConfig)
+    public Codec codecFor(String cacheName) {
+        RedisKey redisKey = RedisKey.fromCacheName(cacheName);
+        return redisKey == null ? null : codecs.get(redisKey);
+    }
+}
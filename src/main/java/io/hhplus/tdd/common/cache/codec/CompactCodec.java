@@ -0,0 +1,202 @@
+package io.hhplus.tdd.common.cache.codec;
+
+import io.hhplus.tdd.common.cache.CacheEnvelope;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 캐시 레코드용 컴팩트 바이너리 코덱
+ * <p>
+ * 기본 코덱(Kryo5)은 값마다 클래스 메타데이터를 함께 기록하므로,
+ * 등록된 레코드 타입은 typeId + 스키마 버전 + 필드 값만 기록하여 크기를 줄입니다.
+ * <p>
+ * 포맷: [MAGIC(2) | FORMAT_VERSION(1) | 값]
+ * <ul>
+ *   <li>값 = TAG(1) + 태그별 본문 (NULL, LIST, ENVELOPE, RECORD, FALLBACK)</li>
+ *   <li>등록되지 않은 타입은 FALLBACK 태그로 기본 코덱 바이트를 그대로 포함</li>
+ *   <li>MAGIC이 없는 데이터(코덱 전환 이전 값)는 기본 코덱으로 디코딩</li>
+ * </ul>
+ * Map 키(RMapCache의 필드)는 기본 코덱을 그대로 사용합니다.
+ */
+public class CompactCodec extends BaseCodec {
+
+    private static final byte MAGIC_0 = (byte) 0xCA;
+    private static final byte MAGIC_1 = (byte) 0xC7;
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_LIST = 1;
+    private static final byte TAG_ENVELOPE = 2;
+    private static final byte TAG_RECORD = 3;
+    private static final byte TAG_FALLBACK = 127;
+
+    private final Codec fallback;
+    private final Map<Class<?>, CompactSerializer<?>> byType = new HashMap<>();
+    private final Map<Short, CompactSerializer<?>> byTypeId = new HashMap<>();
+
+    private final Encoder encoder = this::encode;
+    private final Decoder<Object> decoder = this::decode;
+
+    public CompactCodec(Codec fallback, List<CompactSerializer<?>> serializers) {
+        this.fallback = fallback;
+        for (CompactSerializer<?> serializer : serializers) {
+            if (byTypeId.putIfAbsent(serializer.typeId(), serializer) != null) {
+                throw new IllegalArgumentException("Duplicate compact typeId: " + serializer.typeId());
+            }
+            byType.put(serializer.type(), serializer);
+        }
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return fallback.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return fallback.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return fallback.getClassLoader();
+    }
+
+    private ByteBuf encode(Object in) throws IOException {
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+        try {
+            ByteBufOutputStream stream = new ByteBufOutputStream(out);
+            stream.writeByte(MAGIC_0);
+            stream.writeByte(MAGIC_1);
+            stream.writeByte(FORMAT_VERSION);
+            writeValue(stream, in);
+            return out;
+        } catch (IOException | RuntimeException e) {
+            out.release();
+            throw e;
+        }
+    }
+
+    private Object decode(ByteBuf buf, State state) throws IOException {
+        int index = buf.readerIndex();
+        if (buf.readableBytes() < 3 || buf.getByte(index) != MAGIC_0 || buf.getByte(index + 1) != MAGIC_1) {
+            // 코덱 전환 이전에 기본 코덱으로 저장된 값
+            return fallback.getValueDecoder().decode(buf, state);
+        }
+        buf.skipBytes(2);
+        byte formatVersion = buf.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported compact format version: " + formatVersion);
+        }
+        return readValue(new ByteBufInputStream(buf), state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        if (value instanceof CacheEnvelope<?> envelope) {
+            out.writeByte(TAG_ENVELOPE);
+            out.writeLong(envelope.deltaMillis());
+            out.writeLong(envelope.expiryAtMillis());
+            writeValue(out, envelope.value());
+            return;
+        }
+        if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            CompactSerializer.writeVarInt(out, list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+            return;
+        }
+
+        CompactSerializer<Object> serializer = (CompactSerializer<Object>) byType.get(value.getClass());
+        if (serializer != null) {
+            out.writeByte(TAG_RECORD);
+            out.writeShort(serializer.typeId());
+            out.writeByte(serializer.version());
+            serializer.write(out, value);
+            return;
+        }
+
+        // 등록되지 않은 타입은 기본 코덱으로 인코딩하여 포함
+        ByteBuf encoded = fallback.getValueEncoder().encode(value);
+        try {
+            out.writeByte(TAG_FALLBACK);
+            CompactSerializer.writeVarInt(out, encoded.readableBytes());
+            byte[] bytes = new byte[encoded.readableBytes()];
+            encoded.readBytes(bytes);
+            out.write(bytes);
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private Object readValue(DataInput in, State state) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_ENVELOPE: {
+                long deltaMillis = in.readLong();
+                long expiryAtMillis = in.readLong();
+                return new CacheEnvelope<>(readValue(in, state), deltaMillis, expiryAtMillis);
+            }
+            case TAG_LIST: {
+                int size = CompactSerializer.readVarInt(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, state));
+                }
+                return list;
+            }
+            case TAG_RECORD: {
+                short typeId = in.readShort();
+                byte version = in.readByte();
+                CompactSerializer<?> serializer = byTypeId.get(typeId);
+                if (serializer == null) {
+                    throw new IOException("Unknown compact typeId: " + typeId);
+                }
+                return serializer.read(in, version);
+            }
+            case TAG_FALLBACK: {
+                byte[] bytes = new byte[CompactSerializer.readVarInt(in)];
+                in.readFully(bytes);
+                ByteBuf nested = Unpooled.wrappedBuffer(bytes);
+                try {
+                    return fallback.getValueDecoder().decode(nested, state);
+                } finally {
+                    nested.release();
+                }
+            }
+            default:
+                throw new IOException("Unknown compact tag: " + tag);
+        }
+    }
+}
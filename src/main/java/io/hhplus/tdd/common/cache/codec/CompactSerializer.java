@@ -0,0 +1,98 @@
+package io.hhplus.tdd.common.cache.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * CompactCodec에 등록하는 타입별 직렬화 규칙
+ * <p>
+ * 클래스 메타데이터 대신 typeId(2바이트)와 스키마 버전(1바이트)만 기록하고 필드 값을 순서대로 씁니다.
+ * 필드를 추가/변경할 때는 version을 올리고, read에서 이전 버전 데이터도 읽을 수 있도록 분기합니다.
+ *
+ * @param <T> 직렬화 대상 타입
+ */
+public interface CompactSerializer<T> {
+
+    Class<T> type();
+
+    // 타입 식별자 (코덱 내에서 유일, 한번 배포된 값은 변경 금지)
+    short typeId();
+
+    // 현재 스키마 버전 (쓰기 시 기록)
+    byte version();
+
+    void write(DataOutput out, T value) throws IOException;
+
+    // version: 저장 당시의 스키마 버전
+    T read(DataInput in, byte version) throws IOException;
+
+    // ===== null 허용 필드 헬퍼 =====
+
+    static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    // 길이(varint) + UTF-8 바이트 (writeUTF의 64KB 제한 없음)
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 0 이상의 정수를 7비트 단위 가변 길이로 기록 (작은 값은 1바이트)
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IOException("Malformed varint");
+            }
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static void writeNullableDate(DataOutput out, LocalDate value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochDay());
+        }
+    }
+
+    static LocalDate readNullableDate(DataInput in) throws IOException {
+        return in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+    }
+}
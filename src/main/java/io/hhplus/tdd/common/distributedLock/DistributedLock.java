@@ -10,7 +10,19 @@ import java.util.concurrent.TimeUnit;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
     LockGroupType group();
-    // 락의 이름
+
+    /**
+     * 락의 이름 (SpEL, 메서드 파라미터로 평가)
+     * <p>
+     * 읽기 전용 데이터 바인딩 컨텍스트(SimpleEvaluationContext)로 평가하므로 아래 문법만 지원합니다.
+     * <ul>
+     *   <li>파라미터 변수: #userId</li>
+     *   <li>프로퍼티 참조 (getter 또는 record 접근자): #input.userId , #input.user.id , #input?.userId</li>
+     *   <li>리터럴, 연산자, 인덱스: 'USER:' + #input.userId , #ids[0]</li>
+     * </ul>
+     * 메서드 호출(#input.userId()), 빈 참조(@bean), 타입 참조(T(...)), 생성자(new ...), 대입은 지원하지 않으며
+     * 첫 호출 시 락을 요청하기 전에 IllegalArgumentException으로 실패합니다.
+     */
     String key();
 
     // 락의 시간 단위
@@ -11,18 +11,45 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.Assign;
+import org.springframework.expression.spel.ast.BeanReference;
+import org.springframework.expression.spel.ast.ConstructorReference;
+import org.springframework.expression.spel.ast.FunctionReference;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.TypeReference;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 분산 락 AOP
  * <p>
  * @DistributedLock 어노테이션이 붙은 메서드에 대해 Redisson 분산 락을 자동으로 적용합니다.
  * RedisKey.LOCK_DISTRIBUTED를 사용하여 일관된 키 프리픽스(LOCK:)를 적용합니다.
+ * <p>
+ * lock.local-stripe.enabled: true 시 Redisson 락 전에 노드 내 Striped 락(LocalStripedLock)을 먼저 획득하여
+ * 같은 노드의 경쟁자는 로컬에서 대기하고 로컬 승자만 Redis에 락을 요청합니다.
+ * 대기 시간(waitTime)은 로컬 대기와 Redis 대기를 합쳐 적용합니다.
+ * <p>
+ * 어노테이션, 파싱된 키 SpEL, 파라미터 이름은 Method별로 한 번만 만들어 캐시합니다. (LockMetadata)
+ * <p>
+ * 임대 시간은 LockGroupType별 설정(LockLeasePolicy)을 따르며,
+ * lock.fencing.enabled: true 시 락 획득 후 펜싱 토큰을 발급해 FencingTokenContext에 등록합니다.
+ * <p>
+ * 대기(로컬 + Redis)/보유 시간과 실패는 LockMetrics(path=single)에 기록합니다.
  */
 @Aspect
 @Component
@@ -31,42 +58,83 @@ import java.lang.reflect.Method;
 @Order(0)// 트랜젝션보다 먼저 실행되도록 수정
 public class DistributedLockAop {
     private final RedissonClient redissonClient;
+    private final LocalStripedLock localStripedLock;
+    private final LockLeasePolicy lockLeasePolicy;
+    private final FencingTokenIssuer fencingTokenIssuer;
+    private final LockMetrics lockMetrics;
+
+    // Method별 락 메타데이터 (프록시 대상 메서드 수만큼만 생성)
+    private final ConcurrentHashMap<Method, LockMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @Around("@annotation(io.hhplus.tdd.common.distributedLock.DistributedLock)")
     public Object lock(final ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
+        LockMetadata metadata = metadataCache.computeIfAbsent(signature.getMethod(),
+                method -> LockMetadata.of(method, signature.getParameterNames()));
+        DistributedLock distributedLock = metadata.annotation();
 
         // RedisKey를 사용하여 락 키 생성 (LOCK: 프리픽스 적용)
-        String dynamicValue = String.valueOf(
-                getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key())
-        );
+        String dynamicValue = String.valueOf(metadata.resolveKey(joinPoint.getArgs()));
         String key = RedisKey.LOCK_DISTRIBUTED.getFullKey(dynamicValue);
         RLock rLock = redissonClient.getLock(key);
+        ReentrantLock localLock = null;
+        String fencingKey = null;
+        int groupMask = LockMetrics.groupMask(distributedLock.group());
+        long waitStart = System.nanoTime();
+        long holdStart = 0L;
 
         try {
+            long waitNanos = distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+
+            // 노드 내 Striped 락 먼저 획득 (같은 노드의 경쟁자는 Redis에 가지 않고 로컬에서 대기)
+            if (localStripedLock.isEnabled()) {
+                long localStart = System.nanoTime();
+                localLock = localStripedLock.tryLock(distributedLock.group(), key, waitNanos, TimeUnit.NANOSECONDS);
+                if (localLock == null) {
+                    recordWait(distributedLock.group(), groupMask, dynamicValue, LockMetrics.Result.TIMEOUT, waitStart);
+                    log.warn("로컬 락 획득 실패: {} (경쟁에서 패배)", key);
+                    throw new LockTimeoutException("락 획득에 실패했습니다.");
+                }
+                waitNanos = Math.max(0L, waitNanos - (System.nanoTime() - localStart));
+            }
+
             // Redisson의 tryLock은 락 획득 성공 시 true, 실패 시 false를 반환합니다.
-            boolean available = rLock.tryLock(
-                    distributedLock.waitTime(),
-                    distributedLock.timeUnit()
-            );
+            long leaseMillis = lockLeasePolicy.leaseMillis(distributedLock.group());
+            boolean available = leaseMillis > 0
+                    ? rLock.tryLock(waitNanos, TimeUnit.MILLISECONDS.toNanos(leaseMillis), TimeUnit.NANOSECONDS)
+                    : rLock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
 
             if (!available) {
+                recordWait(distributedLock.group(), groupMask, dynamicValue, LockMetrics.Result.TIMEOUT, waitStart);
                 // 락 획득에 실패하면 비즈니스 로직을 실행하지 않고 예외를 던집니다.
                 log.warn("락 획득 실패: {} (경쟁에서 패배)", key);
                 // LockAcquisitionFailureException 은 RuntimeException으로 구현하는 것이 좋습니다.
                 throw new LockTimeoutException("락 획득에 실패했습니다.");
             }
 
+            holdStart = recordWait(distributedLock.group(), groupMask, dynamicValue, LockMetrics.Result.ACQUIRED, waitStart);
             log.info("락 획득 성공 : {}", key);
+
+            // 펜싱 토큰 발급 (락 안의 갱신은 이 토큰으로 검증)
+            if (fencingTokenIssuer.isEnabled()) {
+                fencingKey = FencingTokenContext.logicalKey(distributedLock.group(), dynamicValue);
+                FencingTokenContext.bind(fencingKey, fencingTokenIssuer.issue(fencingKey));
+            }
             return joinPoint.proceed(); // 비즈니스 로직 실행
+        } catch (StaleFencingTokenException e) {
+            // 카운터 유실로 토큰이 뒤처진 경우 다음 소유자부터 정상 토큰을 받도록 보정
+            fencingTokenIssuer.recover(e);
+            throw e;
         } catch (InterruptedException e) {
+            recordWait(distributedLock.group(), groupMask, dynamicValue, LockMetrics.Result.INTERRUPTED, waitStart);
             log.error("락 획득 중 인터럽트 발생 : {}", key, e);
             // 인터럽트 발생 시 로깅 후 인터럽트 상태를 유지하며 예외를 던짐
             Thread.currentThread().interrupt();
             throw new InterruptedException("락 획득 중 스레드 인터럽트 발생");
         } finally {
+            if (fencingKey != null) {
+                FencingTokenContext.unbind(fencingKey);
+            }
             if (rLock.isLocked() && rLock.isHeldByCurrentThread()) { // 락을 소유한 경우에만 해제 시도
                 try {
                     log.info("락 반환 : {}", key);
@@ -76,22 +144,76 @@ public class DistributedLockAop {
                     log.warn("Redisson Lock Already Unlocked or not held by current thread: {}", key);
                 }
             }
+            if (localLock != null) {
+                localLock.unlock();
+            }
+            if (holdStart != 0L) {
+                lockMetrics.recordHold(LockMetrics.LockPath.SINGLE, groupMask, 1, System.nanoTime() - holdStart);
+            }
         }
     }
 
+    // 대기 시간 기록 (경합 시 경합 키 기록), 기록 시각 반환
+    private long recordWait(LockGroupType group, int groupMask, String dynamicValue, LockMetrics.Result result, long waitStart) {
+        long now = System.nanoTime();
+        long waitNanos = now - waitStart;
+        lockMetrics.recordWait(LockMetrics.LockPath.SINGLE, groupMask, 1, result, waitNanos);
+        if (lockMetrics.isContended(result, waitNanos)) {
+            lockMetrics.recordContention(group, dynamicValue);
+        }
+        return now;
+    }
 
-    private static final ExpressionParser parser = new SpelExpressionParser();
+    // 캐시용 파서: 몇 번 해석 실행 후 바이트코드로 컴파일 (컴파일할 수 없는 식은 해석 실행 유지)
+    private static final ExpressionParser compilingParser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, DistributedLockAop.class.getClassLoader()));
 
-    // AOP 파라미터 이름과 값을 받아서 SpEL 표현식을 평가합니다.
-    public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        StandardEvaluationContext context = new StandardEvaluationContext();
+    // 읽기 전용 데이터 바인딩 컨텍스트에서 평가할 수 없는 노드 (메서드 호출, 빈/타입/생성자 참조, 함수, 대입)
+    private static final List<Class<? extends SpelNode>> UNSUPPORTED_NODES = List.of(
+            MethodReference.class, BeanReference.class, TypeReference.class,
+            ConstructorReference.class, FunctionReference.class, Assign.class);
 
-        // AOP가 넘겨준 파라미터 이름과 실제 값을 Context에 변수로 등록 (예: #input -> Input DTO 객체)
-        for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
+    /**
+     * Method별 락 메타데이터
+     *
+     * @param annotation     @DistributedLock
+     * @param keyExpression  파싱된 키 SpEL (예: #input.userId)
+     * @param parameterNames 파라미터 이름 (SpEL 변수명)
+     */
+    record LockMetadata(
+            DistributedLock annotation,
+            Expression keyExpression,
+            String[] parameterNames
+    ) {
+        static LockMetadata of(Method method, String[] parameterNames) {
+            DistributedLock annotation = method.getAnnotation(DistributedLock.class);
+            Expression keyExpression = compilingParser.parseExpression(annotation.key());
+            validate(method, annotation.key(), ((SpelExpression) keyExpression).getAST());
+            return new LockMetadata(annotation, keyExpression, parameterNames);
         }
 
-        // SpEL 키(예: #input.couponId)를 파싱하여 실제 값을 반환
-        return parser.parseExpression(key).getValue(context, Object.class);
+        // 지원하지 않는 문법은 평가 전에 메서드/키를 담아 실패 (첫 호출 시 락 요청 없이 예외)
+        private static void validate(Method method, String key, SpelNode node) {
+            for (Class<? extends SpelNode> unsupported : UNSUPPORTED_NODES) {
+                if (unsupported.isInstance(node)) {
+                    throw new IllegalArgumentException(String.format(
+                            "@DistributedLock key에 지원하지 않는 SpEL 문법(%s)이 있습니다. 파라미터 변수와 프로퍼티 참조만 사용할 수 있습니다. " +
+                                    "(예: #input.userId) method=%s.%s, key=%s",
+                            node.toStringAST(), method.getDeclaringClass().getSimpleName(), method.getName(), key));
+                }
+            }
+            for (int i = 0; i < node.getChildCount(); i++) {
+                validate(method, key, node.getChild(i));
+            }
+        }
+
+        // 읽기 전용 경량 컨텍스트에 파라미터를 변수로 등록 후 키 평가
+        Object resolveKey(Object[] args) {
+            EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+            return keyExpression.getValue(context);
+        }
     }
 }
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드가 보유한 락의 펜싱 토큰
+ * <p>
+ * 분산 락 획득 시(lock.fencing.enabled: true) 락 키별 토큰이 등록되고, 락 해제 시 제거됩니다.
+ * 락 안에서 실행되는 비즈니스 로직은 갱신 대상 엔티티에 토큰을 기록하여 오래된 소유자의 갱신을 거부합니다.
+ * 펜싱이 꺼져 있거나 락 밖이면 null을 반환하며, 이 경우 엔티티 검증은 생략됩니다.
+ */
+public final class FencingTokenContext {
+
+    private static final ThreadLocal<Map<String, Long>> TOKENS = ThreadLocal.withInitial(HashMap::new);
+
+    private FencingTokenContext() {}
+
+    // 락 키(예: PRODUCT_OPTION:1)의 토큰 조회
+    public static Long get(LockGroupType group, Object id) {
+        return TOKENS.get().get(logicalKey(group, id));
+    }
+
+    static String logicalKey(LockGroupType group, Object id) {
+        return group.name() + ":" + id;
+    }
+
+    static void bind(String logicalKey, long token) {
+        TOKENS.get().put(logicalKey, token);
+    }
+
+    static void unbind(String logicalKey) {
+        Map<String, Long> tokens = TOKENS.get();
+        tokens.remove(logicalKey);
+        if (tokens.isEmpty()) {
+            TOKENS.remove();
+        }
+    }
+}
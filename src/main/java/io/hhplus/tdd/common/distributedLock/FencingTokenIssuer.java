@@ -0,0 +1,93 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 락 펜싱 토큰 발급 (opt-in: lock.fencing.enabled)
+ * <p>
+ * 락 획득 직후 락 키별 Redis 카운터(LOCK:fence:{lockKey})를 INCR 하여 단조 증가 토큰을 발급합니다.
+ * 같은 키의 다음 소유자는 항상 더 큰 토큰을 받으므로, 엔티티에 기록된 토큰보다 작거나 같은 토큰의 갱신은
+ * 임대가 만료된 이전 소유자의 갱신으로 보고 거부할 수 있습니다.
+ * <p>
+ * 카운터가 유실되면(Redis 재시작, 키 삭제 등) 토큰이 1부터 다시 발급되어 엔티티에 기록된 토큰보다 작아지므로,
+ * 검증 실패 시 {@link #advanceTo}로 카운터를 엔티티의 최신 토큰까지 끌어올립니다 (max(저장된 토큰, 발급 토큰)).
+ * 실패한 요청 1건 이후 같은 키의 다음 소유자는 다시 더 큰 토큰을 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FencingTokenIssuer {
+
+    // 카운터가 최신 토큰보다 작을 때만 최신 토큰으로 올림 (단조 증가 유지)
+    private static final String ADVANCE_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local latest = tonumber(ARGV[1])
+            if current < latest then
+                redis.call('SET', KEYS[1], latest)
+                return latest
+            end
+            return current
+            """;
+
+    private final RedissonClient redissonClient;
+
+    @Value("${lock.fencing.enabled:false}")
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long issue(String logicalKey) {
+        return redissonClient.getAtomicLong(RedisKey.LOCK_FENCE.getFullKey(logicalKey)).incrementAndGet();
+    }
+
+    // 여러 락 키의 토큰을 파이프라인 1회로 발급
+    public Map<String, Long> issueAll(List<String> logicalKeys) {
+        RBatch batch = redissonClient.createBatch();
+        Map<String, RFuture<Long>> futures = new LinkedHashMap<>();
+        for (String logicalKey : logicalKeys) {
+            futures.put(logicalKey, batch.getAtomicLong(RedisKey.LOCK_FENCE.getFullKey(logicalKey)).incrementAndGetAsync());
+        }
+        batch.execute();
+
+        Map<String, Long> tokens = new LinkedHashMap<>();
+        futures.forEach((logicalKey, future) -> tokens.put(logicalKey, future.toCompletableFuture().join()));
+        return tokens;
+    }
+
+    // 검증 실패 시 카운터 보정 (보정 실패는 원래 예외를 가리지 않도록 로그만 남김)
+    public void recover(StaleFencingTokenException e) {
+        try {
+            long current = advanceTo(e.getResource(), e.getLatestToken());
+            log.warn("펜싱 토큰 카운터 보정: key={}, latestToken={}, counter={}", e.getResource(), e.getLatestToken(), current);
+        } catch (RuntimeException ex) {
+            log.warn("펜싱 토큰 카운터 보정 실패: key={}", e.getResource(), ex);
+        }
+    }
+
+    // 엔티티에 기록된 최신 토큰까지 카운터를 올림 (카운터 유실 복구), 보정 후 카운터 값 반환
+    public long advanceTo(String logicalKey, long latestToken) {
+        Long current = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ADVANCE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(RedisKey.LOCK_FENCE.getFullKey(logicalKey)),
+                String.valueOf(latestToken)
+        );
+        return current == null ? latestToken : current;
+    }
+}
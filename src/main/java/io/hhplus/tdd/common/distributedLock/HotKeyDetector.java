@@ -0,0 +1,219 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핫 키 감지기 (슬라이딩 윈도우)
+ * <p>
+ * 키별 최근 window-ms 동안의 요청 수를 slices개 구간의 원형 카운터로 집계하여,
+ * threshold 이상이면 핫 키로 판정합니다.
+ * 핫 판정 후에는 cool-down-ms 동안 요청이 줄어도 핫으로 유지하여 경계값에서 전략이 자주 바뀌지 않게 합니다.
+ * <ul>
+ *   <li>OrderService 재고 차감: 주문 라인마다 1회 기록 (실제 수요)</li>
+ *   <li>MultiDistributedLockExecutor: 락 대기가 경합으로 판정된 키 기록 (경합 신호)</li>
+ * </ul>
+ * 추적 키 수는 max-keys로 제한하며, 한동안 요청이 없는 키는 주기적으로 정리합니다.
+ * <p>
+ * 전환 시 로그와 함께 lock.hot-key.transition (group, to=hot|cold), 현재 핫 키 수는 lock.hot-key.count (group)로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotKeyDetector {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lock.hot-key.window-ms:10000}")
+    private long windowMs = 10000L;
+
+    @Value("${lock.hot-key.slices:10}")
+    private int sliceCount = 10;
+
+    // 윈도우 내 요청 수가 이 이상이면 핫 키
+    @Value("${lock.hot-key.threshold:50}")
+    private long threshold = 50L;
+
+    @Value("${lock.hot-key.cool-down-ms:30000}")
+    private long coolDownMs = 30000L;
+
+    @Value("${lock.hot-key.max-keys:10000}")
+    private int maxKeys = 10000;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final Map<LockGroupType, Map<String, SlidingCounter>> counters = new EnumMap<>(LockGroupType.class);
+    private final Map<LockGroupType, Counter> toHot = new EnumMap<>(LockGroupType.class);
+    private final Map<LockGroupType, Counter> toCold = new EnumMap<>(LockGroupType.class);
+    private long sliceMs;
+
+    @PostConstruct
+    void init() {
+        sliceMs = Math.max(1L, windowMs / sliceCount);
+        for (LockGroupType group : LockGroupType.values()) {
+            Map<String, SlidingCounter> groupCounters = new ConcurrentHashMap<>();
+            counters.put(group, groupCounters);
+            toHot.put(group, transitionCounter(group, "hot"));
+            toCold.put(group, transitionCounter(group, "cold"));
+            Gauge.builder("lock.hot-key.count", groupCounters, this::countHot)
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void record(LockGroupType group, Collection<?> ids) {
+        long now = clock.millis();
+        for (Object id : ids) {
+            record(group, String.valueOf(id), 1L, now);
+        }
+    }
+
+    // 다중 락 키(예: PRODUCT_OPTION:1) 기록 (그룹 형식이 아닌 키는 제외)
+    public void recordLockKeys(List<String> lockKeys) {
+        long now = clock.millis();
+        for (String lockKey : lockKeys) {
+            for (LockGroupType group : LockGroupType.values()) {
+                if (lockKey.startsWith(group.name() + ":")) {
+                    record(group, lockKey.substring(group.name().length() + 1), 1L, now);
+                }
+            }
+        }
+    }
+
+    public boolean isHot(LockGroupType group, Object id) {
+        SlidingCounter counter = counters.get(group).get(String.valueOf(id));
+        return counter != null && counter.isHot(clock.millis());
+    }
+
+    // 윈도우 내 요청 수 (추적하지 않는 키는 0)
+    long count(LockGroupType group, Object id) {
+        SlidingCounter counter = counters.get(group).get(String.valueOf(id));
+        return counter == null ? 0L : counter.sum(clock.millis());
+    }
+
+    // 현재 핫 키 목록 (조회용)
+    public Map<String, List<String>> hotKeys() {
+        long now = clock.millis();
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        counters.forEach((group, groupCounters) -> result.put(group.name(), groupCounters.entrySet().stream()
+                .filter(entry -> entry.getValue().isHot(now))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList()));
+        return result;
+    }
+
+    // 핫 상태가 끝난 키의 전환 기록 + 한동안 요청이 없는 키 정리
+    @Scheduled(fixedDelayString = "${lock.hot-key.sweep-interval-ms:5000}")
+    public void sweep() {
+        long now = clock.millis();
+        counters.forEach((group, groupCounters) -> groupCounters.entrySet().removeIf(entry -> {
+            SlidingCounter counter = entry.getValue();
+            if (counter.coolDown(now)) {
+                toCold.get(group).increment();
+                log.info("핫 키 해제: group={}, id={}", group, entry.getKey());
+            }
+            return !counter.isHot(now) && counter.sum(now) == 0;
+        }));
+    }
+
+    private void record(LockGroupType group, String id, long weight, long now) {
+        Map<String, SlidingCounter> groupCounters = counters.get(group);
+        SlidingCounter counter = groupCounters.get(id);
+        if (counter == null) {
+            if (groupCounters.size() >= maxKeys) {
+                // 추적 한도 초과 시 새 키는 집계하지 않음 (다음 정리 후 다시 추적)
+                return;
+            }
+            counter = groupCounters.computeIfAbsent(id, key -> new SlidingCounter(sliceCount));
+        }
+        if (counter.add(weight, now)) {
+            toHot.get(group).increment();
+            log.info("핫 키 전환: group={}, id={}, window={}ms, threshold={}", group, id, windowMs, threshold);
+        }
+    }
+
+    private double countHot(Map<String, SlidingCounter> groupCounters) {
+        long now = clock.millis();
+        return groupCounters.values().stream().filter(counter -> counter.isHot(now)).count();
+    }
+
+    private Counter transitionCounter(LockGroupType group, String to) {
+        return Counter.builder("lock.hot-key.transition")
+                .tags("group", group.name(), "to", to)
+                .register(meterRegistry);
+    }
+
+    // 구간별 원형 카운터 (구간 번호가 지난 슬롯은 0으로 보고 재사용)
+    private class SlidingCounter {
+        private final long[] counts;
+        private final long[] slices;
+        private long hotUntil;
+        private boolean hot;
+
+        SlidingCounter(int size) {
+            this.counts = new long[size];
+            this.slices = new long[size];
+        }
+
+        // 요청 기록, 이번 기록으로 핫 전환되었으면 true
+        synchronized boolean add(long weight, long now) {
+            long slice = now / sliceMs;
+            int index = (int) (slice % counts.length);
+            if (slices[index] != slice) {
+                slices[index] = slice;
+                counts[index] = 0L;
+            }
+            counts[index] += weight;
+
+            if (sum(now) < threshold) {
+                return false;
+            }
+            hotUntil = now + coolDownMs;
+            if (hot) {
+                return false;
+            }
+            hot = true;
+            return true;
+        }
+
+        synchronized long sum(long now) {
+            long current = now / sliceMs;
+            long total = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                if (current - slices[i] < counts.length) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        synchronized boolean isHot(long now) {
+            return hot && now < hotUntil;
+        }
+
+        // 핫 유지 시간이 끝났으면 해제, 이번에 해제되었으면 true
+        synchronized boolean coolDown(long now) {
+            if (hot && now >= hotUntil) {
+                hot = false;
+                return true;
+            }
+            return false;
+        }
+    }
+}
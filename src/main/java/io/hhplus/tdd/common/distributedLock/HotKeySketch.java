@@ -0,0 +1,101 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경합 상위 키 추적기 (Space-Saving)
+ * <p>
+ * 고정된 capacity개 슬롯만으로 가장 자주 등장한 키를 근사 추적합니다.
+ * 슬롯이 가득 찬 상태에서 새 키가 들어오면 가장 작은 카운트의 슬롯을 넘겨받고,
+ * 그 카운트를 오차(error)로 기록합니다. (실제 빈도는 count - error 이상 count 이하)
+ * <p>
+ * 키 수와 무관하게 메모리는 capacity로 제한됩니다.
+ */
+public class HotKeySketch {
+
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<String, Integer> slotOf;
+    private int size;
+
+    public HotKeySketch(int capacity) {
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slotOf = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void offer(String key, long weight) {
+        Integer slot = slotOf.get(key);
+        if (slot != null) {
+            counts[slot] += weight;
+            return;
+        }
+
+        if (size < keys.length) {
+            keys[size] = key;
+            counts[size] = weight;
+            errors[size] = 0L;
+            slotOf.put(key, size);
+            size++;
+            return;
+        }
+
+        // 가장 작은 카운트의 슬롯을 새 키가 넘겨받음
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        slotOf.remove(keys[min]);
+        keys[min] = key;
+        errors[min] = counts[min];
+        counts[min] += weight;
+        slotOf.put(key, min);
+    }
+
+    // 카운트 상위 limit개 (카운트 내림차순)
+    public synchronized List<HotKey> top(int limit) {
+        List<HotKey> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new HotKey(keys[i], counts[i], errors[i]));
+        }
+        result.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    // 카운트 절반 감쇠 (오래된 경합의 비중을 줄임, 0이 된 슬롯은 비움)
+    public synchronized void decay() {
+        int kept = 0;
+        slotOf.clear();
+        for (int i = 0; i < size; i++) {
+            long count = counts[i] >>> 1;
+            if (count == 0) {
+                continue;
+            }
+            keys[kept] = keys[i];
+            counts[kept] = count;
+            errors[kept] = errors[i] >>> 1;
+            slotOf.put(keys[kept], kept);
+            kept++;
+        }
+        for (int i = kept; i < size; i++) {
+            keys[i] = null;
+        }
+        size = kept;
+    }
+
+    /**
+     * @param key   락 키
+     * @param count 추정 경합 횟수 (상한)
+     * @param error 최대 과대 추정치
+     */
+    public record HotKey(String key, long count, long error) {
+    }
+}
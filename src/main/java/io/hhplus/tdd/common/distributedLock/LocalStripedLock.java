@@ -0,0 +1,119 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 내 Striped 락 (분산 락 앞단)
+ * <p>
+ * 같은 락 키로 같은 JVM에 들어온 요청들이 Redis pub/sub로 경쟁하지 않고 로컬에서 줄을 서도록,
+ * Redisson 락을 잡기 전에 키 해시로 고른 ReentrantLock(stripe)을 먼저 획득합니다.
+ * 로컬 승자만 Redis에 락을 요청하므로 노드당 동시에 Redis 락을 기다리는 요청은 키당 최대 1개입니다.
+ * <p>
+ * stripe 수는 고정이므로 서로 다른 키가 같은 stripe를 공유하면 불필요한 대기가 생길 수 있습니다. (stripes로 조절)
+ * <p>
+ * LockGroupType별 지표
+ * <ul>
+ *   <li>lock.local.acquire (group, result=uncontended|contended|timeout)</li>
+ *   <li>lock.local.wait (group) - 경합 시 로컬 대기 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalStripedLock {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lock.local-stripe.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${lock.local-stripe.stripes:1024}")
+    private int stripeCount = 1024;
+
+    private ReentrantLock[] stripes;
+    private final Map<LockGroupType, GroupMeters> meters = new EnumMap<>(LockGroupType.class);
+
+    @PostConstruct
+    void init() {
+        // 2의 거듭제곱으로 맞춰 비트 마스크로 stripe 선택
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        for (LockGroupType group : LockGroupType.values()) {
+            meters.put(group, new GroupMeters(group));
+        }
+        log.info("로컬 Striped 락 초기화: enabled={}, stripes={}", enabled, size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 락 키에 해당하는 stripe 획득 시도
+     *
+     * @return 획득한 stripe (해제 시 unlock 필요), 대기 시간 내 획득 실패 시 null
+     */
+    public ReentrantLock tryLock(LockGroupType group, String key, long waitTime, TimeUnit timeUnit) throws InterruptedException {
+        ReentrantLock stripe = stripeFor(key);
+        GroupMeters groupMeters = meters.get(group);
+
+        if (stripe.tryLock()) {
+            groupMeters.uncontended.increment();
+            return stripe;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired = stripe.tryLock(waitTime, timeUnit);
+        groupMeters.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            groupMeters.timeout.increment();
+            return null;
+        }
+        groupMeters.contended.increment();
+        return stripe;
+    }
+
+    private ReentrantLock stripeFor(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private class GroupMeters {
+        private final Counter uncontended;
+        private final Counter contended;
+        private final Counter timeout;
+        private final Timer waitTimer;
+
+        GroupMeters(LockGroupType group) {
+            this.uncontended = counter(group, "uncontended");
+            this.contended = counter(group, "contended");
+            this.timeout = counter(group, "timeout");
+            this.waitTimer = Timer.builder("lock.local.wait")
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(LockGroupType group, String result) {
+            return Counter.builder("lock.local.acquire")
+                    .tags("group", group.name(), "result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
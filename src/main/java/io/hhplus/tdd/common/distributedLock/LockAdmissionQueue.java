@@ -0,0 +1,283 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import jakarta.persistence.LockTimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 키별 FIFO 대기열 (opt-in: lock.admission-queue.enabled)
+ * <p>
+ * 인기 옵션 키에 수백 개 요청이 동시에 tryLock으로 몰리면 모두 대기 시간(10초)을 다 쓰고 대부분 실패합니다.
+ * 락을 요청하기 전에 키별 Redis 대기열(LOCK:queue:{key})에 순번 티켓을 받고,
+ * 앞선 티켓이 contention-threshold개 미만일 때만 락 경쟁에 참여합니다.
+ * <ul>
+ *   <li>대기열이 max-length에 도달하면 대기 없이 즉시 거절 (LockQueueFullException)</li>
+ *   <li>대기 중에는 순번에 비례한 간격으로 자기 순번만 조회 (락 경쟁 없음)</li>
+ *   <li>다중 키는 한 스크립트로 모든 대기열에 같은 순번을 발급하므로 대기열 간 순서가 엇갈리지 않음 (교착 없음)</li>
+ *   <li>티켓은 발급부터 leave까지(대기, 락 획득 대기, 락 보유) refresh-interval-ms마다 갱신되며,
+ *       ticket-ttl-ms 동안 갱신되지 않으면(노드 장애 등) 만료되어 죽은 요청이 대기열을 막지 않음</li>
+ * </ul>
+ * 경합이 없을 때는 순번 0으로 바로 입장하므로 락 획득 전후 Redis 호출 1회씩만 추가됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockAdmissionQueue {
+
+    private static final long REJECTED = -1L;
+    private static final long EXPIRED = -1L;
+
+    /**
+     * KEYS[1] = 순번 카운터 , KEYS[2i] = 대기열 , KEYS[2i+1] = 티켓 만료 시각
+     * ARGV[1] = 티켓 , ARGV[2] = 최대 길이 , ARGV[3] = 현재 시각(ms) , ARGV[4] = 티켓 TTL(ms) , ARGV[5] = 키 TTL(ms)
+     * 반환: -1 = 대기열 가득 참 (티켓 미발급) , n >= 0 = 대기열들 중 가장 뒤쪽 순번
+     */
+    private static final String ENQUEUE_SCRIPT =
+            "for i = 2, #KEYS, 2 do " +
+            "  local expired = redis.call('ZRANGEBYSCORE', KEYS[i + 1], '-inf', ARGV[3]) " +
+            "  for _, t in ipairs(expired) do redis.call('ZREM', KEYS[i], t) end " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[i + 1], '-inf', ARGV[3]) " +
+            "  if redis.call('ZCARD', KEYS[i]) >= tonumber(ARGV[2]) then return -1 end " +
+            "end " +
+            "local seq = redis.call('INCR', KEYS[1]) " +
+            "local position = 0 " +
+            "for i = 2, #KEYS, 2 do " +
+            "  redis.call('ZADD', KEYS[i], seq, ARGV[1]) " +
+            "  redis.call('ZADD', KEYS[i + 1], tonumber(ARGV[3]) + tonumber(ARGV[4]), ARGV[1]) " +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[5]) " +
+            "  redis.call('PEXPIRE', KEYS[i + 1], ARGV[5]) " +
+            "  local rank = redis.call('ZRANK', KEYS[i], ARGV[1]) " +
+            "  if rank > position then position = rank end " +
+            "end " +
+            "return position";
+
+    /**
+     * KEYS[1] = 순번 카운터(미사용) , KEYS[2i] = 대기열 , KEYS[2i+1] = 티켓 만료 시각
+     * ARGV[1] = 티켓 , ARGV[3] = 현재 시각(ms) , ARGV[4] = 티켓 TTL(ms) , ARGV[5] = 키 TTL(ms)
+     * 반환: -1 = 티켓 만료 , n >= 0 = 대기열들 중 가장 뒤쪽 순번 (티켓 만료 시각 갱신)
+     */
+    private static final String POSITION_SCRIPT =
+            "local position = 0 " +
+            "for i = 2, #KEYS, 2 do " +
+            "  local expired = redis.call('ZRANGEBYSCORE', KEYS[i + 1], '-inf', ARGV[3]) " +
+            "  for _, t in ipairs(expired) do redis.call('ZREM', KEYS[i], t) end " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[i + 1], '-inf', ARGV[3]) " +
+            "  local rank = redis.call('ZRANK', KEYS[i], ARGV[1]) " +
+            "  if not rank then return -1 end " +
+            "  redis.call('ZADD', KEYS[i + 1], tonumber(ARGV[3]) + tonumber(ARGV[4]), ARGV[1]) " +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[5]) " +
+            "  redis.call('PEXPIRE', KEYS[i + 1], ARGV[5]) " +
+            "  if rank > position then position = rank end " +
+            "end " +
+            "return position";
+
+    /**
+     * KEYS[1] = 순번 카운터(미사용) , KEYS[2i] = 대기열 , KEYS[2i+1] = 티켓 만료 시각
+     * ARGV[1] = 티켓 , ARGV[3] = 현재 시각(ms) , ARGV[4] = 티켓 TTL(ms) , ARGV[5] = 키 TTL(ms)
+     * 아직 대기열에 있는 티켓만 만료 시각 갱신 (이미 만료되어 제거된 티켓은 되살리지 않음)
+     */
+    private static final String REFRESH_SCRIPT =
+            "for i = 2, #KEYS, 2 do " +
+            "  if redis.call('ZSCORE', KEYS[i + 1], ARGV[1]) then " +
+            "    redis.call('ZADD', KEYS[i + 1], tonumber(ARGV[3]) + tonumber(ARGV[4]), ARGV[1]) " +
+            "    redis.call('PEXPIRE', KEYS[i], ARGV[5]) " +
+            "    redis.call('PEXPIRE', KEYS[i + 1], ARGV[5]) " +
+            "  end " +
+            "end " +
+            "return 0";
+
+    /**
+     * KEYS[1] = 순번 카운터(미사용) , KEYS[2i] = 대기열 , KEYS[2i+1] = 티켓 만료 시각
+     * ARGV[1] = 티켓
+     */
+    private static final String LEAVE_SCRIPT =
+            "for i = 2, #KEYS, 2 do " +
+            "  redis.call('ZREM', KEYS[i], ARGV[1]) " +
+            "  redis.call('ZREM', KEYS[i + 1], ARGV[1]) " +
+            "end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+
+    // 발급 후 아직 leave 하지 않은 티켓 (주기적으로 만료 시각 갱신)
+    private final Set<Ticket> activeTickets = ConcurrentHashMap.newKeySet();
+
+    @Value("${lock.admission-queue.enabled:false}")
+    private boolean enabled = false;
+
+    // 대기열을 적용할 락 그룹
+    @Value("${lock.admission-queue.groups:PRODUCT_OPTION}")
+    private Set<LockGroupType> groups = EnumSet.of(LockGroupType.PRODUCT_OPTION);
+
+    // 키별 최대 대기 요청 수 (초과 시 즉시 거절)
+    @Value("${lock.admission-queue.max-length:200}")
+    private int maxLength = 200;
+
+    // 동시에 락 경쟁에 참여할 수 있는 요청 수 (순번이 이보다 뒤면 대기열에서 대기)
+    @Value("${lock.admission-queue.contention-threshold:4}")
+    private int contentionThreshold = 4;
+
+    @Value("${lock.admission-queue.poll-interval-ms:20}")
+    private long pollIntervalMs = 20L;
+
+    @Value("${lock.admission-queue.max-poll-interval-ms:200}")
+    private long maxPollIntervalMs = 200L;
+
+    // 갱신되지 않은 티켓 만료 시간 (refresh-interval-ms 보다 충분히 길어야 함)
+    @Value("${lock.admission-queue.ticket-ttl-ms:5000}")
+    private long ticketTtlMs = 5000L;
+
+    /**
+     * 대기열 입장 티켓
+     *
+     * @param id   티켓 ID
+     * @param keys 스크립트 KEYS (순번 카운터 + 대기열/만료 시각 쌍)
+     */
+    public record Ticket(String id, List<Object> keys) {}
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열 순번이 될 때까지 대기
+     *
+     * @param lockKeys  락 키 목록 (예: PRODUCT_OPTION:1), 대기열 대상 그룹의 키만 사용
+     * @param waitNanos 최대 대기 시간
+     * @return 입장 티켓 (락 해제 후 leave 필요), 대기열 대상 키가 없으면 null
+     * @throws LockQueueFullException 대기열이 가득 찬 경우 (즉시)
+     * @throws LockTimeoutException   대기 시간 내 순번이 오지 않은 경우
+     */
+    public Ticket admit(List<String> lockKeys, long waitNanos) throws InterruptedException {
+        List<String> queuedKeys = lockKeys.stream()
+                .filter(this::isQueued)
+                .toList();
+        if (queuedKeys.isEmpty()) {
+            return null;
+        }
+
+        List<Object> keys = new ArrayList<>();
+        keys.add(RedisKey.LOCK_QUEUE.getFullKey("seq"));
+        for (String lockKey : queuedKeys) {
+            keys.add(RedisKey.LOCK_QUEUE.getFullKey(lockKey));
+            keys.add(RedisKey.LOCK_QUEUE_DEADLINE.getFullKey(lockKey));
+        }
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), keys);
+
+        long deadline = System.nanoTime() + waitNanos;
+        long position = eval(ENQUEUE_SCRIPT, ticket);
+        if (position == REJECTED) {
+            log.warn("락 대기열 가득 참, 즉시 거절: {}", queuedKeys);
+            throw new LockQueueFullException(String.join(", ", queuedKeys));
+        }
+        activeTickets.add(ticket);
+
+        try {
+            while (position >= contentionThreshold) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new LockTimeoutException("락 대기열 순번 대기 시간 초과: " + String.join(", ", queuedKeys));
+                }
+                // 순번이 멀수록 천천히 조회
+                long sleepMillis = Math.min(pollIntervalMs * (position - contentionThreshold + 1), maxPollIntervalMs);
+                TimeUnit.MILLISECONDS.sleep(Math.min(sleepMillis, TimeUnit.NANOSECONDS.toMillis(remaining) + 1));
+
+                position = eval(POSITION_SCRIPT, ticket);
+                if (position == EXPIRED) {
+                    throw new LockTimeoutException("락 대기열 티켓 만료: " + String.join(", ", queuedKeys));
+                }
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            leave(ticket);
+            throw e;
+        }
+
+        log.debug("락 대기열 입장: keys={}, position={}", queuedKeys, position);
+        return ticket;
+    }
+
+    // 대기열에서 티켓 제거 (실패 시 티켓 TTL로 자동 만료)
+    public void leave(Ticket ticket) {
+        if (ticket == null) {
+            return;
+        }
+        activeTickets.remove(ticket);
+        try {
+            eval(LEAVE_SCRIPT, ticket);
+        } catch (Exception e) {
+            log.warn("락 대기열 티켓 제거 실패: ticket={}", ticket.id(), e);
+        }
+    }
+
+    /**
+     * 발급된 티켓의 만료 시각 갱신 (파이프라인 1회)
+     * 락 획득 대기(최대 10초)와 락 보유 시간이 ticket-ttl-ms 보다 길어도 티켓이 대기열에 남아 있어야
+     * 뒤쪽 요청이 앞당겨져 contention-threshold 이상이 동시에 락을 경쟁하지 않음
+     */
+    @Scheduled(fixedDelayString = "${lock.admission-queue.refresh-interval-ms:1000}")
+    public void refreshActiveTickets() {
+        if (activeTickets.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = redissonClient.createBatch();
+            String now = String.valueOf(System.currentTimeMillis());
+            for (Ticket ticket : activeTickets) {
+                batch.getScript(StringCodec.INSTANCE).evalAsync(
+                        RScript.Mode.READ_WRITE,
+                        REFRESH_SCRIPT,
+                        RScript.ReturnType.INTEGER,
+                        ticket.keys(),
+                        ticket.id(),
+                        String.valueOf(maxLength),
+                        now,
+                        String.valueOf(ticketTtlMs),
+                        String.valueOf(RedisKey.LOCK_QUEUE.getBaseTtl().toMillis())
+                );
+            }
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("락 대기열 티켓 갱신 실패: tickets={}", activeTickets.size(), e);
+        }
+    }
+
+    private boolean isQueued(String lockKey) {
+        for (LockGroupType group : groups) {
+            if (lockKey.startsWith(group.name() + ":")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long eval(String script, Ticket ticket) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.INTEGER,
+                ticket.keys(),
+                ticket.id(),
+                String.valueOf(maxLength),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ticketTtlMs),
+                String.valueOf(RedisKey.LOCK_QUEUE.getBaseTtl().toMillis())
+        );
+        return result == null ? 0L : result;
+    }
+}
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 락 경합 상위 키 조회 (/actuator/lockcontention?limit=10)
+ * <p>
+ * LockGroupType별로 최근 경합(대기 지연 또는 획득 실패)이 많았던 키와,
+ * 현재 핫 키로 판정되어 적응형 전략(ADAPTIVE)이 적용 중인 키를 보여줍니다.
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final LockMetrics lockMetrics;
+    private final HotKeyDetector hotKeyDetector;
+
+    /**
+     * @param contendedKeys 그룹별 경합 상위 키 (HotKeySketch)
+     * @param hotKeys       그룹별 현재 핫 키 (HotKeyDetector)
+     */
+    public record LockContention(
+            Map<String, List<HotKeySketch.HotKey>> contendedKeys,
+            Map<String, List<String>> hotKeys
+    ) {}
+
+    @ReadOperation
+    public LockContention contention(@Nullable Integer limit) {
+        return new LockContention(
+                lockMetrics.hotKeys(limit == null ? DEFAULT_LIMIT : limit),
+                hotKeyDetector.hotKeys()
+        );
+    }
+}
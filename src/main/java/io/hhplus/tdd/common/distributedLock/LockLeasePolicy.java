@@ -0,0 +1,53 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * LockGroupType별 락 임대 시간
+ * <p>
+ * lock.lease-ms.{GROUP} 로 설정하며, 설정하지 않은 그룹은 -1(Redisson watchdog 자동 연장)을 사용합니다.
+ * 임대 시간을 짧게 잡으면 장애 노드의 락이 빨리 풀리는 대신, 작업이 임대보다 길어지면 다른 노드가 락을 얻을 수 있으므로
+ * 펜싱 토큰(lock.fencing.enabled)과 함께 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockLeasePolicy {
+
+    public static final long WATCHDOG = -1L;
+
+    private final Environment environment;
+    private final Map<LockGroupType, Long> leaseMillis = new EnumMap<>(LockGroupType.class);
+
+    @PostConstruct
+    void init() {
+        for (LockGroupType group : LockGroupType.values()) {
+            leaseMillis.put(group, environment.getProperty("lock.lease-ms." + group.name(), Long.class, WATCHDOG));
+        }
+        log.info("락 임대 시간 설정: {}", leaseMillis);
+    }
+
+    public long leaseMillis(LockGroupType group) {
+        return leaseMillis.getOrDefault(group, WATCHDOG);
+    }
+
+    // 여러 그룹을 한 번에 잡는 경우 가장 짧은 임대 시간 적용 (모두 미설정이면 watchdog)
+    public long leaseMillis(Collection<LockGroupType> groups) {
+        long result = WATCHDOG;
+        for (LockGroupType group : groups) {
+            long lease = leaseMillis(group);
+            if (lease > 0 && (result == WATCHDOG || lease < result)) {
+                result = lease;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,232 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 지표
+ * <p>
+ * @DistributedLock(SINGLE)과 MultiDistributedLockExecutor(MULTI) 양쪽의 락 대기/보유 시간을 기록합니다.
+ * <ul>
+ *   <li>lock.wait (path, group, keys, result=acquired|timeout|interrupted|rejected) - 락 획득까지 대기 시간 히스토그램, 실패 횟수는 result별 count</li>
+ *   <li>lock.hold (path, group, keys) - 락 보유 시간 히스토그램</li>
+ * </ul>
+ * group은 락에 포함된 LockGroupType 조합(예: PRODUCT_OPTION+USER_POINT), keys는 한 번에 잡은 키 수 구간(1, 2-4, 5+)입니다.
+ * 실제로 기록될 수 있는 조합만 기동 시 미리 등록하므로 기록 시 배열 인덱스 조회만 합니다. (호출 경로에 객체 생성 없음)
+ * <ul>
+ *   <li>SINGLE: 단일 그룹, 키 1개, result=acquired|timeout|interrupted (대기열 거절 없음)</li>
+ *   <li>MULTI: 여러 그룹 조합은 키 2개 이상에서만, 그룹 형식이 아닌 키만 있으면 UNKNOWN</li>
+ * </ul>
+ * 등록하지 않은 조합이 기록되면(호출 경로 변경 등) 그때 등록합니다.
+ * <p>
+ * 대기 시간이 hot-keys.contended-threshold-ms 이상이거나 획득에 실패한 경우에만
+ * 그룹별 HotKeySketch에 키를 기록하여 경합 상위 키를 제한된 메모리로 추적합니다. (/actuator/lockcontention)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    public enum LockPath {SINGLE, MULTI}
+
+    public enum Result {ACQUIRED, TIMEOUT, INTERRUPTED, REJECTED}
+
+    private static final LockGroupType[] GROUPS = LockGroupType.values();
+    private static final LockPath[] PATHS = LockPath.values();
+    private static final Result[] RESULTS = Result.values();
+    private static final String[] KEY_BUCKETS = {"1", "2-4", "5+"};
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${lock.metrics.hot-keys.capacity:64}")
+    private int hotKeyCapacity = 64;
+
+    @Value("${lock.metrics.hot-keys.contended-threshold-ms:5}")
+    private long contendedThresholdMs = 5L;
+
+    // [path][groupMask][keyBucket][result]
+    private Timer[][][][] waitTimers;
+    // [path][groupMask][keyBucket]
+    private Timer[][][] holdTimers;
+    private final Map<LockGroupType, HotKeySketch> hotKeys = new EnumMap<>(LockGroupType.class);
+    private long contendedThresholdNanos;
+
+    @PostConstruct
+    void init() {
+        int masks = 1 << GROUPS.length;
+        waitTimers = new Timer[PATHS.length][masks][KEY_BUCKETS.length][RESULTS.length];
+        holdTimers = new Timer[PATHS.length][masks][KEY_BUCKETS.length];
+        int registered = 0;
+        for (LockPath path : PATHS) {
+            for (int mask = 0; mask < masks; mask++) {
+                for (int bucket = 0; bucket < KEY_BUCKETS.length; bucket++) {
+                    if (!isReachable(path, mask, bucket)) {
+                        continue;
+                    }
+                    for (Result result : RESULTS) {
+                        if (isReachable(path, result)) {
+                            registerWait(path, mask, bucket, result);
+                            registered++;
+                        }
+                    }
+                    registerHold(path, mask, bucket);
+                    registered++;
+                }
+            }
+        }
+        log.info("락 지표 Timer 등록: {}", registered);
+        for (LockGroupType group : GROUPS) {
+            hotKeys.put(group, new HotKeySketch(hotKeyCapacity));
+        }
+        contendedThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contendedThresholdMs);
+    }
+
+    public void recordWait(LockPath path, int groupMask, int keyCount, Result result, long waitNanos) {
+        int bucket = keyBucket(keyCount);
+        Timer timer = waitTimers[path.ordinal()][groupMask][bucket][result.ordinal()];
+        if (timer == null) {
+            timer = registerWait(path, groupMask, bucket, result);
+        }
+        timer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHold(LockPath path, int groupMask, int keyCount, long holdNanos) {
+        int bucket = keyBucket(keyCount);
+        Timer timer = holdTimers[path.ordinal()][groupMask][bucket];
+        if (timer == null) {
+            timer = registerHold(path, groupMask, bucket);
+        }
+        timer.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 경합으로 볼 만큼 대기했는지 (경합 키 기록 여부 판단)
+    public boolean isContended(Result result, long waitNanos) {
+        return result != Result.ACQUIRED || waitNanos >= contendedThresholdNanos;
+    }
+
+    public void recordContention(LockGroupType group, String key) {
+        hotKeys.get(group).offer(key, 1L);
+    }
+
+    // 다중 락 키(예: PRODUCT_OPTION:1)별 경합 기록 (그룹 형식이 아닌 키는 제외)
+    public void recordContention(List<String> lockKeys) {
+        for (String lockKey : lockKeys) {
+            LockGroupType group = groupOf(lockKey);
+            if (group != null) {
+                recordContention(group, lockKey.substring(group.name().length() + 1));
+            }
+        }
+    }
+
+    // 그룹별 경합 상위 limit개 키
+    public Map<String, List<HotKeySketch.HotKey>> hotKeys(int limit) {
+        Map<String, List<HotKeySketch.HotKey>> result = new LinkedHashMap<>();
+        hotKeys.forEach((group, sketch) -> result.put(group.name(), sketch.top(limit)));
+        return result;
+    }
+
+    // 주기적으로 경합 카운트를 절반으로 줄여 최근 경합 위주로 유지
+    @Scheduled(fixedDelayString = "${lock.metrics.hot-keys.decay-interval-ms:60000}")
+    public void decayHotKeys() {
+        hotKeys.values().forEach(HotKeySketch::decay);
+    }
+
+    public static int groupMask(LockGroupType group) {
+        return 1 << group.ordinal();
+    }
+
+    // 다중 락 키 목록에 포함된 그룹 비트 마스크
+    public static int groupMask(List<String> lockKeys) {
+        int mask = 0;
+        for (String lockKey : lockKeys) {
+            LockGroupType group = groupOf(lockKey);
+            if (group != null) {
+                mask |= groupMask(group);
+            }
+        }
+        return mask;
+    }
+
+    // 경로별로 기록될 수 있는 그룹 조합/키 수 구간
+    static boolean isReachable(LockPath path, int mask, int bucket) {
+        boolean singleGroup = Integer.bitCount(mask) == 1;
+        if (path == LockPath.SINGLE) {
+            return singleGroup && bucket == 0;
+        }
+        // 여러 그룹 조합은 키가 2개 이상일 때만 생김
+        return Integer.bitCount(mask) <= 1 || bucket > 0;
+    }
+
+    // 단일 락 경로에는 대기열이 없으므로 거절 결과가 없음
+    static boolean isReachable(LockPath path, Result result) {
+        return path == LockPath.MULTI || result != Result.REJECTED;
+    }
+
+    // Micrometer는 같은 이름/태그의 Timer를 한 번만 만들므로 동시에 등록해도 같은 인스턴스
+    private Timer registerWait(LockPath path, int mask, int bucket, Result result) {
+        Timer timer = timer("lock.wait", path, groupTag(mask), bucket)
+                .tag("result", result.name().toLowerCase())
+                .register(meterRegistry);
+        waitTimers[path.ordinal()][mask][bucket][result.ordinal()] = timer;
+        return timer;
+    }
+
+    private Timer registerHold(LockPath path, int mask, int bucket) {
+        Timer timer = timer("lock.hold", path, groupTag(mask), bucket)
+                .register(meterRegistry);
+        holdTimers[path.ordinal()][mask][bucket] = timer;
+        return timer;
+    }
+
+    private static LockGroupType groupOf(String lockKey) {
+        for (LockGroupType group : GROUPS) {
+            String name = group.name();
+            if (lockKey.length() > name.length() && lockKey.charAt(name.length()) == ':' && lockKey.startsWith(name)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static int keyBucket(int keyCount) {
+        if (keyCount <= 1) {
+            return 0;
+        }
+        return keyCount <= 4 ? 1 : 2;
+    }
+
+    private static String groupTag(int mask) {
+        if (mask == 0) {
+            return "UNKNOWN";
+        }
+        StringJoiner joiner = new StringJoiner("+");
+        for (LockGroupType group : GROUPS) {
+            if ((mask & groupMask(group)) != 0) {
+                joiner.add(group.name());
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static Timer.Builder timer(String name, LockPath path, String group, int bucket) {
+        return Timer.builder(name)
+                .tags("path", path.name().toLowerCase(), "group", group, "keys", KEY_BUCKETS[bucket])
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.exception.BusinessException;
+import io.hhplus.tdd.common.exception.ErrorCode;
+
+/**
+ * 락 대기열 초과
+ * - 키별 대기열(LockAdmissionQueue)이 최대 길이에 도달하여 대기 없이 즉시 거절된 경우
+ */
+public class LockQueueFullException extends BusinessException {
+
+    public LockQueueFullException(String resources) {
+        super(ErrorCode.LOCK_QUEUE_FULL, resources);
+    }
+}
@@ -11,7 +11,10 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -21,6 +24,14 @@ import java.util.concurrent.TimeUnit;
  * 데드락 방지를 위해 락 키를 정렬하여 항상 같은 순서로 락을 획득합니다.
  * <p>
  * RedisKey.LOCK_MULTI를 사용하여 일관된 키 프리픽스(LOCK:)를 적용합니다.
+ * <p>
+ * 임대 시간은 키에 포함된 LockGroupType 중 가장 짧은 설정을 따르며 (LockLeasePolicy),
+ * lock.fencing.enabled: true 시 락 획득 후 키별 펜싱 토큰을 발급해 FencingTokenContext에 등록합니다.
+ * <p>
+ * lock.admission-queue.enabled: true 시 락 요청 전에 키별 FIFO 대기열(LockAdmissionQueue)에서 순번을 기다리며,
+ * 대기열이 가득 차면 대기 없이 LockQueueFullException으로 즉시 거절합니다.
+ * <p>
+ * 대기/보유 시간과 실패는 LockMetrics(path=multi, group=키에 포함된 그룹 조합, keys=키 수 구간)에 기록합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +42,11 @@ public class MultiDistributedLockExecutor {
     private static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MILLISECONDS;
 
     private final RedissonClient redissonClient;
+    private final LockLeasePolicy lockLeasePolicy;
+    private final FencingTokenIssuer fencingTokenIssuer;
+    private final LockMetrics lockMetrics;
+    private final LockAdmissionQueue lockAdmissionQueue;
+    private final HotKeyDetector hotKeyDetector;
 
     /**
      * 여러 락을 원자적으로 획득하고 비즈니스 로직을 실행합니다.
@@ -64,32 +80,101 @@ public class MultiDistributedLockExecutor {
 
         // RedissonMultiLock으로 모든 락을 원자적으로 획득
         RedissonMultiLock multiLock = new RedissonMultiLock(locks.toArray(new RLock[0]));
+        long leaseMillis = lockLeasePolicy.leaseMillis(groupsOf(uniqueKeys));
+        Map<String, Long> fencingTokens = Map.of();
+        int groupMask = LockMetrics.groupMask(uniqueKeys);
+        long waitStart = System.nanoTime();
+        long holdStart = 0L;
+        LockAdmissionQueue.Ticket ticket = null;
 
         try {
-            // 모든 락을 동시에 획득 시도
-            boolean acquired = multiLock.tryLock(DEFAULT_WAIT_TIME, DEFAULT_TIME_UNIT);
+            long waitMillis = DEFAULT_WAIT_TIME;
+
+            // 키별 대기열에서 순번 대기 (가득 차면 즉시 거절)
+            if (lockAdmissionQueue.isEnabled()) {
+                try {
+                    ticket = lockAdmissionQueue.admit(uniqueKeys, DEFAULT_TIME_UNIT.toNanos(DEFAULT_WAIT_TIME));
+                } catch (LockQueueFullException e) {
+                    recordWait(uniqueKeys, groupMask, LockMetrics.Result.REJECTED, waitStart);
+                    throw e;
+                } catch (LockTimeoutException e) {
+                    recordWait(uniqueKeys, groupMask, LockMetrics.Result.TIMEOUT, waitStart);
+                    throw e;
+                }
+                waitMillis = Math.max(0L, DEFAULT_WAIT_TIME - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waitStart));
+            }
+
+            // 모든 락을 동시에 획득 시도 (임대 시간 미설정 시 watchdog 자동 연장)
+            boolean acquired = multiLock.tryLock(waitMillis, leaseMillis, DEFAULT_TIME_UNIT);
 
             if (!acquired) {
+                recordWait(uniqueKeys, groupMask, LockMetrics.Result.TIMEOUT, waitStart);
                 log.warn("다중 락 획득 실패: {}", uniqueKeys);
                 throw new LockTimeoutException("락 획득에 실패했습니다: " + String.join(", ", uniqueKeys));
             }
 
+            holdStart = recordWait(uniqueKeys, groupMask, LockMetrics.Result.ACQUIRED, waitStart);
             log.info("다중 락 획득 성공: {}", uniqueKeys);
 
+            // 키별 펜싱 토큰 발급 (락 안의 갱신은 이 토큰으로 검증)
+            if (fencingTokenIssuer.isEnabled()) {
+                fencingTokens = fencingTokenIssuer.issueAll(uniqueKeys);
+                fencingTokens.forEach(FencingTokenContext::bind);
+            }
+
             // 모든 락을 획득했으면 비즈니스 로직 실행
             task.run();
 
+        } catch (StaleFencingTokenException e) {
+            // 카운터 유실로 토큰이 뒤처진 경우 다음 소유자부터 정상 토큰을 받도록 보정
+            fencingTokenIssuer.recover(e);
+            throw e;
         } catch (InterruptedException e) {
+            recordWait(uniqueKeys, groupMask, LockMetrics.Result.INTERRUPTED, waitStart);
             log.error("락 획득 중 인터럽트 발생: {}", uniqueKeys, e);
             Thread.currentThread().interrupt();
             throw new RuntimeException("락 획득 중 스레드 인터럽트 발생", e);
         } finally {
+            fencingTokens.keySet().forEach(FencingTokenContext::unbind);
+            if (holdStart != 0L) {
+                lockMetrics.recordHold(LockMetrics.LockPath.MULTI, groupMask, uniqueKeys.size(), System.nanoTime() - holdStart);
+            }
             try {
                 log.info("다중 락 해제: {}", uniqueKeys);
                 multiLock.unlock();
             } catch (IllegalMonitorStateException e) {
                 log.warn("다중 락 해제 실패 (이미 해제되었거나 현재 스레드가 소유하지 않음): {}", uniqueKeys);
             }
+            lockAdmissionQueue.leave(ticket);
+        }
+    }
+
+    // 대기 시간 기록 (경합 시 키별 경합 기록 + 핫 키 감지기에 경합 신호 전달), 기록 시각 반환
+    private long recordWait(List<String> uniqueKeys, int groupMask, LockMetrics.Result result, long waitStart) {
+        long now = System.nanoTime();
+        long waitNanos = now - waitStart;
+        lockMetrics.recordWait(LockMetrics.LockPath.MULTI, groupMask, uniqueKeys.size(), result, waitNanos);
+        if (lockMetrics.isContended(result, waitNanos)) {
+            lockMetrics.recordContention(uniqueKeys);
+            hotKeyDetector.recordLockKeys(uniqueKeys);
+        }
+        return now;
+    }
+
+    // 락 키(예: PRODUCT_OPTION:1)의 그룹 추출 (그룹 형식이 아닌 키는 제외)
+    private Set<LockGroupType> groupsOf(List<String> keys) {
+        Set<LockGroupType> groups = EnumSet.noneOf(LockGroupType.class);
+        for (String key : keys) {
+            int separator = key.indexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            try {
+                groups.add(LockGroupType.valueOf(key.substring(0, separator)));
+            } catch (IllegalArgumentException e) {
+                log.debug("그룹을 알 수 없는 락 키: {}", key);
+            }
         }
+        return groups;
     }
-}
\ No newline at end of file
+}
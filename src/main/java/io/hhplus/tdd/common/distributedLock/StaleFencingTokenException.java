@@ -0,0 +1,29 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.exception.BusinessException;
+import io.hhplus.tdd.common.exception.ErrorCode;
+
+/**
+ * 펜싱 토큰 검증 실패
+ * - 락 임대가 만료된 뒤(GC 정지, 느린 커밋 등) 이전 소유자가 갱신을 시도한 경우
+ */
+public class StaleFencingTokenException extends BusinessException {
+
+    private final String resource;
+    private final long latestToken;
+
+    public StaleFencingTokenException(String resource, long token, long latestToken) {
+        super(ErrorCode.LOCK_FENCING_TOKEN_STALE, resource, token, latestToken);
+        this.resource = resource;
+        this.latestToken = latestToken;
+    }
+
+    // 락 키 형식 (예: PRODUCT_OPTION:1)
+    public String getResource() {
+        return resource;
+    }
+
+    public long getLatestToken() {
+        return latestToken;
+    }
+}
@@ -16,9 +16,12 @@ public enum ErrorCode {
     USER_POINT_CHARGE_MIN_AMOUNT(HttpStatus.BAD_REQUEST, "U0006" , "충전 최소 금액은 1,000원입니다. 유저 아이디 : %d , 충전 금액 : %d"),
     USER_POINT_CHARGE_MAX_AMOUNT(HttpStatus.BAD_REQUEST, "U0007" , "1회 충전 금액은 500,000원을 초과할 수 없습니다. 유저 아이디 : %d , 충전 금액 : %d"),
     USER_POINT_USE_MIN_AMOUNT(HttpStatus.BAD_REQUEST, "U0008" , "사용 최소 금액은 100원입니다. 유저 아이디 : %d , 사용 금액 : %d"),
+    USER_POINT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "U0009" , "동시 요청이 많아 포인트 갱신에 실패했습니다. 잠시 후 다시 시도해주세요. 유저 아이디 : %d"),
 
     LOCK_KEY_NOT_FOUND(HttpStatus.INTERNAL_SERVER_ERROR , "L0001" , "%d 에 해당하는 Lock의 키가 존재하지 않습니다."),
     LOCK_GET_FAIL(HttpStatus.INTERNAL_SERVER_ERROR , "L0002" , "ID : %d 의 락을 얻지 못했습니다."),
+    LOCK_FENCING_TOKEN_STALE(HttpStatus.CONFLICT , "L0003" , "만료된 락으로 갱신을 시도했습니다. 리소스 : %s , 토큰 : %d , 최신 토큰 : %d"),
+    LOCK_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS , "L0004" , "요청이 몰려 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요. 리소스 : %s"),
 
 
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "C0001" , "쿠폰을 찾을 수 없습니다. 쿠폰 아이디 : %d"),
@@ -28,6 +31,7 @@ public enum ErrorCode {
     COUPON_USER_EXPIRED(HttpStatus.BAD_REQUEST, "C0005" , "사용자 쿠폰이 만료되었습니다. 사용자 쿠폰 아이디 : %d"),
     COUPON_USER_USED(HttpStatus.BAD_REQUEST, "C0006" , "사용자 쿠폰이 만료되었습니다. 사용자 쿠폰 아이디 : %d"),
     COUPON_MIN_ORDER_VALUE_ERR(HttpStatus.BAD_REQUEST, "C0007" , "최소 주문 금액을 충족하지 않습니다. 쿠폰 아이디 : %d"),
+    COUPON_ISSUE_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "C0008" , "쿠폰 발급 요청을 찾을 수 없습니다. 요청 아이디 : %s"),
 
 
     ORDER_AMOUNT_MUSE_POSITIVE(HttpStatus.BAD_REQUEST, "O0001" , "최종 금액은 음수가 될 수 없습니다."),
@@ -1,9 +1,12 @@
 package io.hhplus.tdd.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -11,13 +14,31 @@ import java.util.concurrent.Executor;
  * 비동기 및 스케줄링 설정
  *
  * @EnableAsync: TddApplication에 이미 존재 (중복 제거)
- * @EnableScheduling: 필수 (CacheWarmupScheduler, OutboxEventPoller 사용)
+ * @EnableScheduling: 필수 (CacheWarmupScheduler, OutboxEventPoller, 랭킹/락/쿠폰 스케줄러 사용)
  * AsyncConfigurer: 커스텀 스레드풀 설정 (운영 환경 권장)
  */
 @Configuration
 @EnableScheduling
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${scheduling.pool-size:4}")
+    private int schedulingPoolSize = 4;
+
+    /**
+     * @Scheduled 작업용 스레드풀
+     * 기본 스케줄러는 스레드 1개라 오래 걸리는 작업(캐시 워밍업 최대 timeout-seconds)이
+     * 1초 주기 조회수 반영, 랭킹 materialize, Outbox 폴러를 모두 밀어냄
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(schedulingPoolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
     /**
      * @Async 메서드에서 사용할 커스텀 스레드풀 설정
      * 기본 SimpleAsyncTaskExecutor는 매번 새 스레드를 생성하므로 비효율적
@@ -0,0 +1,214 @@
+package io.hhplus.tdd.config;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.cache.codec.CacheCodecRegistry;
+import io.hhplus.tdd.common.cache.codec.CompactCodec;
+import io.hhplus.tdd.common.cache.codec.CompactSerializer;
+import io.hhplus.tdd.domain.coupon.application.GetAllCouponListUseCase;
+import io.hhplus.tdd.domain.product.application.GetPopularProductsUseCase;
+import io.hhplus.tdd.domain.product.application.GetProductListUseCase;
+import io.hhplus.tdd.domain.product.domain.model.ProductCache;
+import io.hhplus.tdd.domain.product.domain.model.ProductDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+import static io.hhplus.tdd.common.cache.codec.CompactSerializer.*;
+
+/**
+ * 캐시 값 코덱 설정
+ * <p>
+ * cache.codec.compact-keys에 나열된 RedisKey는 CompactCodec으로, 나머지는 기본 코덱으로 저장합니다.
+ * 캐시 레코드 타입을 추가하면 아래에 CompactSerializer를 등록합니다. (typeId는 변경 금지)
+ */
+@Slf4j
+@Configuration
+public class CacheCodecConfig {
+
+    @Value("${cache.codec.compact-keys:}")
+    private String[] compactKeys;
+
+    @Bean
+    public CompactCodec compactCodec(RedissonClient redissonClient) {
+        return new CompactCodec(redissonClient.getConfig().getCodec(), serializers());
+    }
+
+    @Bean
+    public CacheCodecRegistry cacheCodecRegistry(CompactCodec compactCodec) {
+        Map<RedisKey, Codec> codecs = new EnumMap<>(RedisKey.class);
+        for (String key : compactKeys) {
+            if (!key.isBlank()) {
+                codecs.put(RedisKey.valueOf(key.trim()), compactCodec);
+            }
+        }
+        log.info("CompactCodec 적용 캐시: {}", codecs.keySet());
+        return new CacheCodecRegistry(codecs);
+    }
+
+    public static List<CompactSerializer<?>> serializers() {
+        return List.of(
+                new ProductCacheSerializer(),
+                new PopularProductSerializer(),
+                new ProductDetailSerializer(),
+                new CouponListSerializer(),
+                new ProductListPageSerializer()
+        );
+    }
+
+    // ===== 캐시 레코드별 직렬화 규칙 =====
+
+    static class ProductCacheSerializer implements CompactSerializer<ProductCache> {
+        public Class<ProductCache> type() { return ProductCache.class; }
+        public short typeId() { return 1; }
+        public byte version() { return 1; }
+
+        public void write(DataOutput out, ProductCache value) throws IOException {
+            writeNullableLong(out, value.id());
+            writeNullableString(out, value.name());
+            writeNullableString(out, value.description());
+            writeNullableLong(out, value.basePrice());
+        }
+
+        public ProductCache read(DataInput in, byte version) throws IOException {
+            return new ProductCache(
+                    readNullableLong(in),
+                    readNullableString(in),
+                    readNullableString(in),
+                    readNullableLong(in)
+            );
+        }
+    }
+
+    static class PopularProductSerializer implements CompactSerializer<GetPopularProductsUseCase.Output> {
+        public Class<GetPopularProductsUseCase.Output> type() { return GetPopularProductsUseCase.Output.class; }
+        public short typeId() { return 2; }
+        public byte version() { return 1; }
+
+        public void write(DataOutput out, GetPopularProductsUseCase.Output value) throws IOException {
+            writeNullableLong(out, value.productId());
+            writeNullableString(out, value.name());
+            writeNullableString(out, value.description());
+            writeNullableLong(out, value.basePrice());
+        }
+
+        public GetPopularProductsUseCase.Output read(DataInput in, byte version) throws IOException {
+            return new GetPopularProductsUseCase.Output(
+                    readNullableLong(in),
+                    readNullableString(in),
+                    readNullableString(in),
+                    readNullableLong(in)
+            );
+        }
+    }
+
+    // v1: 옵션마다 재고(quantity) 포함 , v2: 재고 제외 (재고는 CACHE_PRODUCT_STOCK)
+    static class ProductDetailSerializer implements CompactSerializer<ProductDetailCache> {
+        public Class<ProductDetailCache> type() { return ProductDetailCache.class; }
+        public short typeId() { return 3; }
+        public byte version() { return 2; }
+
+        public void write(DataOutput out, ProductDetailCache value) throws IOException {
+            writeNullableLong(out, value.id());
+            writeNullableString(out, value.name());
+            writeNullableString(out, value.description());
+            writeNullableLong(out, value.basePrice());
+
+            List<ProductDetailCache.OptionInfo> options =
+                    value.options() == null ? Collections.emptyList() : value.options();
+            writeVarInt(out, options.size());
+            for (ProductDetailCache.OptionInfo option : options) {
+                writeNullableLong(out, option.id());
+                writeNullableString(out, option.optionName());
+                writeNullableLong(out, option.price());
+            }
+        }
+
+        public ProductDetailCache read(DataInput in, byte version) throws IOException {
+            Long id = readNullableLong(in);
+            String name = readNullableString(in);
+            String description = readNullableString(in);
+            Long basePrice = readNullableLong(in);
+
+            int size = readVarInt(in);
+            List<ProductDetailCache.OptionInfo> options = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ProductDetailCache.OptionInfo option = new ProductDetailCache.OptionInfo(
+                        readNullableLong(in),
+                        readNullableString(in),
+                        readNullableLong(in)
+                );
+                if (version < 2) {
+                    readNullableLong(in); // v1 재고 - 읽고 버림
+                }
+                options.add(option);
+            }
+            return new ProductDetailCache(id, name, description, basePrice, options);
+        }
+    }
+
+    static class CouponListSerializer implements CompactSerializer<GetAllCouponListUseCase.Output> {
+        public Class<GetAllCouponListUseCase.Output> type() { return GetAllCouponListUseCase.Output.class; }
+        public short typeId() { return 4; }
+        public byte version() { return 1; }
+
+        public void write(DataOutput out, GetAllCouponListUseCase.Output value) throws IOException {
+            out.writeLong(value.id());
+            writeNullableString(out, value.couponName());
+            writeNullableString(out, value.discountType());
+            out.writeInt(value.discountValue());
+            out.writeInt(value.totalQuantity());
+            out.writeInt(value.issuedQuantity());
+            out.writeInt(value.limitPerUser());
+            out.writeInt(value.duration());
+            out.writeInt(value.minOrderValue());
+            writeNullableDate(out, value.validFrom());
+            writeNullableDate(out, value.validUntil());
+        }
+
+        public GetAllCouponListUseCase.Output read(DataInput in, byte version) throws IOException {
+            return new GetAllCouponListUseCase.Output(
+                    in.readLong(),
+                    readNullableString(in),
+                    readNullableString(in),
+                    in.readInt(),
+                    in.readInt(),
+                    in.readInt(),
+                    in.readInt(),
+                    in.readInt(),
+                    in.readInt(),
+                    readNullableDate(in),
+                    readNullableDate(in)
+            );
+        }
+    }
+
+    static class ProductListPageSerializer implements CompactSerializer<GetProductListUseCase.Output> {
+        public Class<GetProductListUseCase.Output> type() { return GetProductListUseCase.Output.class; }
+        public short typeId() { return 5; }
+        public byte version() { return 1; }
+
+        public void write(DataOutput out, GetProductListUseCase.Output value) throws IOException {
+            writeNullableLong(out, value.id());
+            writeNullableString(out, value.name());
+            writeNullableString(out, value.description());
+            writeNullableLong(out, value.base_price());
+        }
+
+        public GetProductListUseCase.Output read(DataInput in, byte version) throws IOException {
+            return new GetProductListUseCase.Output(
+                    readNullableLong(in),
+                    readNullableString(in),
+                    readNullableString(in),
+                    readNullableLong(in)
+            );
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
@@ -42,6 +43,22 @@ public class KafkaConfig {
         return new NewTopic("OrderCompleted", 1, (short) 1);
     }
 
+    @Bean
+    public NewTopic stockReconcileTopic() {
+        return new NewTopic("StockReconcile", 1, (short) 1);
+    }
+
+    // 처리 실패 메시지 보관용 (DeadLetterPublishingRecoverer 기본 규칙: 원본 토픽 + ".DLT", 같은 파티션)
+    @Bean
+    public NewTopic orderCompletedDltTopic() {
+        return new NewTopic("OrderCompleted.DLT", 1, (short) 1);
+    }
+
+    @Bean
+    public NewTopic stockReconcileDltTopic() {
+        return new NewTopic("StockReconcile.DLT", 1, (short) 1);
+    }
+
 
     @Bean
     public ProducerFactory<String, String> producerFactory() {
@@ -125,11 +142,14 @@ public class KafkaConfig {
         factory.getContainerProperties()
                .setAckMode(ContainerProperties.AckMode.BATCH);  // 배치 Ack
 
-        // 에러 핸들러 (선택사항)
-        // - 재시도는 멱등성으로 커버하므로 재시도 없음
+        // 에러 핸들러
+        // - 기본 재시도(FixedBackOff) 후에도 실패한 메시지는 <토픽>.DLT로 보관 (로그만 남기고 버리지 않음)
+        // - 파싱 실패(MessageConversionException 등)는 기본적으로 재시도 불가 예외라 바로 DLT로 이동
+        DeadLetterPublishingRecoverer deadLetterRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate());
         DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, exception) -> {
-            log.error("Kafka 메시지 처리 실패 - offset: {}, key: {}, message: {}",
-                    record.offset(), record.key(), exception.getMessage());
+            log.error("Kafka 메시지 처리 실패, DLT로 이동 - topic: {}, offset: {}, key: {}, message: {}",
+                    record.topic(), record.offset(), record.key(), exception.getMessage());
+            deadLetterRecoverer.accept(record, exception);
         });
         factory.setCommonErrorHandler(errorHandler);
 
@@ -1,7 +1,14 @@
 package io.hhplus.tdd.config;
 
+import io.hhplus.tdd.common.cache.EarlyRefreshCacheManager;
+import io.hhplus.tdd.common.cache.EarlyRefreshExecutor;
 import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.cache.codec.CacheCodecRegistry;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapCache;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.spring.cache.CacheConfig;
 import org.redisson.spring.cache.RedissonSpringCacheManager;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -13,11 +20,28 @@ import org.springframework.context.annotation.Configuration;
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager cacheManager(RedissonClient redissonClient) {
+    public CacheManager cacheManager(RedissonClient redissonClient,
+                                     EarlyRefreshExecutor earlyRefreshExecutor,
+                                     CacheCodecRegistry cacheCodecRegistry) {
         // RedisKey에서 자동 생성된 CacheConfig 사용
-        return new RedissonSpringCacheManager(
+        // 캐시별 코덱은 CacheCodecRegistry에서 선택 (미등록 캐시는 기본 코덱)
+        RedissonSpringCacheManager redissonCacheManager = new RedissonSpringCacheManager(
                 redissonClient,
                 RedisKey.generateCacheConfigMap()
-        );
+        ) {
+            @Override
+            protected RMapCache<Object, Object> getMapCache(String name, CacheConfig config) {
+                Codec codec = cacheCodecRegistry.codecFor(name);
+                return codec == null ? super.getMapCache(name, config) : redissonClient.getMapCache(name, codec);
+            }
+
+            @Override
+            protected RMap<Object, Object> getMap(String name, CacheConfig config) {
+                Codec codec = cacheCodecRegistry.codecFor(name);
+                return codec == null ? super.getMap(name, config) : redissonClient.getMap(name, codec);
+            }
+        };
+        // earlyRefreshBeta가 설정된 캐시는 조기 갱신(XFetch) 적용
+        return new EarlyRefreshCacheManager(redissonCacheManager, earlyRefreshExecutor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.domain.coupon.application;
+
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.domain.coupon.exception.CouponException;
+import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueTicketStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 발급 요청 결과 조회
+ * - Redis에 보관된 티켓 상태만 읽으므로 발급 이벤트 중 반복 조회해도 DB에 부하를 주지 않음
+ * - 요청한 사용자의 티켓만 조회 가능 (다른 사용자의 티켓은 존재 여부도 드러내지 않도록 없는 티켓과 같은 예외)
+ */
+@Service
+@RequiredArgsConstructor
+public class GetCouponIssueTicketUseCase {
+
+    private final CouponIssueTicketStore couponIssueTicketStore;
+
+    public record Input(
+            String ticketId,
+            long userId
+    ){}
+
+    public record Output(
+            String ticketId,
+            Long couponId,
+            String status,
+            String reason
+    ){
+        public static Output from(CouponIssueTicketStore.Ticket ticket){
+            return new Output(
+                    ticket.ticketId(),
+                    ticket.couponId(),
+                    ticket.status().name(),
+                    ticket.reason()
+            );
+        }
+    }
+
+    public Output execute(Input input){
+        return couponIssueTicketStore.find(input.ticketId())
+                .filter(ticket -> ticket.userId() != null && ticket.userId() == input.userId())
+                .map(Output::from)
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_ISSUE_TICKET_NOT_FOUND, input.ticketId()));
+    }
+}
@@ -2,7 +2,6 @@ package io.hhplus.tdd.domain.coupon.application;
 
 import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
 import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
-import io.hhplus.tdd.domain.coupon.infrastructure.repository.CouponRepository;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,7 +15,6 @@ import java.util.List;
 public class GetUserCouponListUseCase {
 
     private final UserCouponRepository userCouponRepository;
-    private final CouponRepository couponRepository;
 
 
     public record Input(
@@ -55,13 +53,11 @@ public class GetUserCouponListUseCase {
 
     @Transactional(readOnly = true)
     public List<Output> execute(Input input){
-        List<UserCoupon> userCouponList =  userCouponRepository.findByUserId(input.userId())
+        // 쿠폰 정보는 fetch join으로 함께 조회 (쿠폰별 추가 조회 없음)
+        return userCouponRepository.findByUserIdWithCoupon(input.userId())
                 .stream()
+                .map(userCoupon -> Output.from(userCoupon , userCoupon.getCoupon()))
                 .toList();
-        return userCouponList.stream().map(userCoupon -> { //인메모리긴 하지만 N+1 발생
-            Coupon coupon = couponRepository.findById(userCoupon.getCouponId()).orElseThrow(()->new IllegalArgumentException(""));
-            return Output.from(userCoupon , coupon);
-        }).toList();
     }
 
 
@@ -1,6 +1,8 @@
 package io.hhplus.tdd.domain.coupon.application;
 
+import io.hhplus.tdd.domain.coupon.domain.service.CouponIssueGate;
 import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueProducer;
+import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueTicketStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,19 +14,40 @@ import org.springframework.stereotype.Service;
 public class IssueUserCouponUseCase {
 
     private final CouponIssueProducer couponIssueProducer;
+    private final CouponIssueGate couponIssueGate;
+    private final CouponIssueTicketStore couponIssueTicketStore;
 
     public record Input(
             long couponId,
             long userId
     ){}
 
+    /**
+     * @param ticketId 발급 결과 조회용 티켓 ID (GetCouponIssueTicketUseCase)
+     */
+    public record Output(
+            String ticketId
+    ){}
+
     /**
      * 쿠폰 발급 요청을 Redis Queue에 추가
      * 실제 발급은 CouponIssueConsumer가 순서대로 처리
+     * - 큐에 넣기 전 CouponIssueGate에서 매진/중복 요청을 거절 (당첨 요청만 큐에 추가)
+     * - 발급 결과는 반환한 티켓 ID로 확인 (QUEUED → ISSUED / REJECTED)
      */
-    public void execute(Input input){
-        couponIssueProducer.produce(input.couponId(), input.userId());
-        log.info("쿠폰 발급 요청이 큐에 추가됨. couponId: {}, userId: {}", input.couponId(), input.userId());
+    public Output execute(Input input){
+        couponIssueGate.admit(input.couponId(), input.userId());
+        String ticketId;
+        try {
+            ticketId = couponIssueProducer.produce(input.couponId(), input.userId());
+        } catch (RuntimeException e) {
+            // 큐에 넣지 못한 입장은 되돌려 수량이 새지 않게 함
+            couponIssueGate.release(input.couponId(), input.userId());
+            throw e;
+        }
+        couponIssueTicketStore.queued(ticketId, input.couponId(), input.userId());
+        log.info("쿠폰 발급 요청이 큐에 추가됨. couponId: {}, userId: {}, ticketId: {}", input.couponId(), input.userId(), ticketId);
+        return new Output(ticketId);
     }
 
 }
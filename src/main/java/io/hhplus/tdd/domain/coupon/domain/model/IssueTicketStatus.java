@@ -0,0 +1,13 @@
+package io.hhplus.tdd.domain.coupon.domain.model;
+
+/**
+ * 쿠폰 발급 요청(티켓) 처리 상태
+ * <ul>
+ *   <li>QUEUED: 게이트를 통과해 발급 큐에서 대기 중</li>
+ *   <li>ISSUED: 발급 완료</li>
+ *   <li>REJECTED: 발급 검증에서 거절되었거나 처리에 실패 (reason 참고)</li>
+ * </ul>
+ */
+public enum IssueTicketStatus {
+    QUEUED, ISSUED, REJECTED
+}
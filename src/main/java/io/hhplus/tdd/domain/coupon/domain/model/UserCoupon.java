@@ -41,13 +41,21 @@ public class UserCoupon extends CreatedBaseEntity {
     @Version
     private Long version;
 
+    // 발급 요청 ID ({partition}:{발급 큐 메시지 ID}, 큐를 거치지 않은 발급은 null) - 재전달된 요청의 중복 발급 방지
+    private String issueRequestId;
+
     public static UserCoupon from(long userId , Coupon coupon){
+        return from(userId, coupon, null);
+    }
+
+    public static UserCoupon from(long userId , Coupon coupon , String issueRequestId){
         return UserCoupon.builder()
                 .userId(userId)
                 .couponId(coupon.getId())
                 .coupon(coupon)
                 .status(Status.ISSUED)
                 .expiredAt(LocalDate.now().plusDays(coupon.getDuration()))
+                .issueRequestId(issueRequestId)
                 .build();
     }
 
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.domain.coupon.domain.service;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
+import io.hhplus.tdd.domain.coupon.exception.CouponException;
+import io.hhplus.tdd.domain.coupon.infrastructure.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 입장 게이트
+ * <p>
+ * 발급 요청을 큐에 넣기 전에 쿠폰별 Redis Hash(COUPON:gate:{couponId})에서
+ * 잔여 수량과 사용자별 발급 한도를 Lua 스크립트 1회로 검증 + 차감합니다.
+ * 매진/중복 요청은 API에서 바로 거절되어 당첨 요청만 큐와 DB에 도달합니다.
+ * <ul>
+ *   <li>게이트가 없으면 DB 쿠폰 값(총 수량 - 발급 수량, 사용자별 한도)으로 적재 후 한 번 더 시도</li>
+ *   <li>최종 발급 검증은 여전히 CouponService(DB)가 담당하며, 거기서 거절되면 release로 입장을 되돌림</li>
+ * </ul>
+ * 게이트 적재 전에 발급된 사용자 기록은 게이트에 없으므로 해당 중복 요청은 통과할 수 있지만,
+ * DB 검증에서 거절된 뒤 release되어 수량이 새지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueGate {
+
+    private static final long RESULT_ADMITTED = 0L;
+    private static final long RESULT_SOLD_OUT = 1L;
+    private static final long RESULT_DUPLICATE = 2L;
+    private static final long RESULT_NOT_LOADED = -1L;
+
+    /**
+     * KEYS[1] = 게이트
+     * ARGV[1] = 사용자 ID
+     * 반환: 0 = 입장 , 1 = 매진 , 2 = 사용자별 한도 초과 , -1 = 게이트 없음
+     */
+    private static final String ADMIT_SCRIPT =
+            "local remaining = redis.call('HGET', KEYS[1], 'remaining') " +
+            "if not remaining then return -1 end " +
+            "local user = 'u:' .. ARGV[1] " +
+            "local issued = tonumber(redis.call('HGET', KEYS[1], user) or '0') " +
+            "if issued >= tonumber(redis.call('HGET', KEYS[1], 'limit')) then return 2 end " +
+            "if tonumber(remaining) <= 0 then return 1 end " +
+            "redis.call('HINCRBY', KEYS[1], 'remaining', -1) " +
+            "redis.call('HINCRBY', KEYS[1], user, 1) " +
+            "return 0";
+
+    /**
+     * KEYS[1] = 게이트
+     * ARGV[1] = 사용자 ID
+     * 반환: 1 = 되돌림 , 0 = 되돌릴 입장이 없음 (게이트 만료/재적재 포함)
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[1], 'remaining') == 0 then return 0 end " +
+            "local user = 'u:' .. ARGV[1] " +
+            "if tonumber(redis.call('HGET', KEYS[1], user) or '0') <= 0 then return 0 end " +
+            "redis.call('HINCRBY', KEYS[1], user, -1) " +
+            "redis.call('HINCRBY', KEYS[1], 'remaining', 1) " +
+            "return 1";
+
+    /**
+     * KEYS[1] = 게이트
+     * ARGV[1] = 잔여 수량 , ARGV[2] = 사용자별 한도 , ARGV[3] = 만료 시각(epoch ms)
+     * 이미 있는 게이트는 유지 (동시에 적재해도 먼저 적재된 값 기준)
+     */
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'remaining', ARGV[1], 'limit', ARGV[2]) " +
+            "redis.call('PEXPIREAT', KEYS[1], ARGV[3]) " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+    private final CouponRepository couponRepository;
+
+    /**
+     * 발급 요청 입장 (원자적 검증 + 차감)
+     *
+     * @throws CouponException 쿠폰 없음, 매진, 사용자별 한도 초과 시
+     */
+    public void admit(long couponId, long userId) {
+        long result = eval(ADMIT_SCRIPT, couponId, String.valueOf(userId));
+        if (result == RESULT_NOT_LOADED) {
+            load(couponId);
+            result = eval(ADMIT_SCRIPT, couponId, String.valueOf(userId));
+        }
+
+        if (result == RESULT_SOLD_OUT) {
+            throw new CouponException(ErrorCode.COUPON_ISSUE_LIMIT, couponId);
+        }
+        if (result == RESULT_DUPLICATE) {
+            throw new CouponException(ErrorCode.COUPON_ISSUE_LIMIT_PER_USER, couponId);
+        }
+        if (result != RESULT_ADMITTED) {
+            throw new CouponException(ErrorCode.COUPON_NOT_FOUND, couponId);
+        }
+    }
+
+    /**
+     * 입장 되돌리기 (큐 추가 실패, DB 발급 검증 실패 시)
+     *
+     * @return 실제로 되돌렸으면 true
+     */
+    public boolean release(long couponId, long userId) {
+        boolean released = eval(RELEASE_SCRIPT, couponId, String.valueOf(userId)) == 1L;
+        log.debug("쿠폰 발급 게이트 되돌림: couponId={}, userId={}, released={}", couponId, userId, released);
+        return released;
+    }
+
+    // DB 쿠폰 값으로 게이트 적재 (유효기간 종료 시 만료)
+    private void load(long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND, couponId));
+        if (LocalDate.now().isAfter(coupon.getValidUntil())) {
+            // 만료 시각이 지난 게이트는 적재 즉시 사라지므로 적재하지 않음
+            throw new CouponException(ErrorCode.COUPON_DURATION_ERR, couponId);
+        }
+
+        long remaining = Math.max(0, coupon.getTotalQuantity() - coupon.getIssuedQuantity());
+        long expireAt = coupon.getValidUntil().plusDays(1)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        eval(LOAD_SCRIPT, couponId,
+                String.valueOf(remaining), String.valueOf(coupon.getLimitPerUser()), String.valueOf(expireAt));
+        log.info("쿠폰 발급 게이트 적재: couponId={}, remaining={}", couponId, remaining);
+    }
+
+    private long eval(String script, long couponId, Object... args) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(RedisKey.COUPON_ISSUE_GATE.getFullKey(String.valueOf(couponId))),
+                args
+        );
+        return result == null ? RESULT_NOT_LOADED : result;
+    }
+}
@@ -5,13 +5,18 @@ import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
 import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
 import io.hhplus.tdd.domain.coupon.exception.CouponException;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.CouponRepository;
+import io.hhplus.tdd.domain.coupon.infrastructure.repository.UserCouponJdbcRepository;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.UserCouponRepository;
 import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponIssueReqDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -19,6 +24,35 @@ public class CouponService {
 
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+
+    /**
+     * 발급 큐 요청
+     * @param requestId 큐 메시지 ID (재전달되어도 같은 값 - 중복 발급 방지 키)
+     */
+    public record IssueRequest(
+            String requestId,
+            Long userId
+    ){}
+
+    /**
+     * 거절된 발급 요청
+     * @param reason 거절 사유 (유효기간, 수량, 사용자별 한도)
+     */
+    public record Rejection(
+            IssueRequest request,
+            ErrorCode reason
+    ){}
+
+    /**
+     * 쿠폰 발급 배치 결과
+     * @param issued   발급된 요청 (이전 전달에서 이미 발급된 요청 포함)
+     * @param rejected 검증에서 거절된 요청
+     */
+    public record BatchIssueResult(
+            List<IssueRequest> issued,
+            List<Rejection> rejected
+    ){}
 
     // 쿠폰 발급 가능 여부를 검증하고 발급 처리합니다.
     @Transactional
@@ -42,6 +76,58 @@ public class CouponService {
         return uc;
     }
 
+    /**
+     * 같은 쿠폰의 발급 요청 여러 건을 한 트랜잭션으로 처리합니다.
+     * - 쿠폰 행 락 1회, 요청 사용자들의 기존 발급 내역 조회 1회
+     * - 요청 순서대로 issueCoupon과 같은 검증을 하고, 거절된 요청만 제외
+     * - 발급 수량 UPDATE 1회(변경 감지), 사용자 쿠폰 배치 INSERT 1회
+     * - 이미 발급된 요청 ID(커밋 후 ack 전에 재전달된 요청)는 다시 발급하지 않고 발급된 것으로 응답
+     */
+    @Transactional
+    public BatchIssueResult issueCoupons(Long couponId, List<IssueRequest> requests) {
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId).orElseThrow(() -> new CouponException(ErrorCode.COUPON_NOT_FOUND));
+
+        List<String> requestIds = requests.stream().map(IssueRequest::requestId).toList();
+        Set<String> alreadyIssued = userCouponRepository.findByIssueRequestIdIn(requestIds).stream()
+                .map(UserCoupon::getIssueRequestId)
+                .collect(Collectors.toSet());
+
+        List<Long> userIds = requests.stream().map(IssueRequest::userId).distinct().toList();
+        Map<Long, Long> issuedCounts = userCouponRepository.findByCouponIdAndUserIdIn(couponId, userIds).stream()
+                .collect(Collectors.groupingBy(UserCoupon::getUserId, Collectors.counting()));
+
+        List<UserCoupon> userCoupons = new ArrayList<>();
+        List<IssueRequest> issued = new ArrayList<>();
+        List<Rejection> rejected = new ArrayList<>();
+        for (IssueRequest request : requests) {
+            if (!alreadyIssued.add(request.requestId())) {
+                issued.add(request);
+                continue;
+            }
+            try {
+                // 1. 쿠폰 발급 검증 (유효기간, 발급 가능 수량)
+                coupon.validIssue();
+
+                // 2. 사용자별 발급 제한 검증
+                if (issuedCounts.getOrDefault(request.userId(), 0L) >= coupon.getLimitPerUser()) {
+                    throw new CouponException(ErrorCode.COUPON_ISSUE_LIMIT_PER_USER, coupon.getId());
+                }
+            } catch (CouponException e) {
+                rejected.add(new Rejection(request, e.getErrCode()));
+                continue;
+            }
+
+            // 3. 쿠폰 발급 수량 증가 (도메인 로직)
+            coupon.increaseIssuedQuantity();
+            issuedCounts.merge(request.userId(), 1L, Long::sum);
+            userCoupons.add(UserCoupon.from(request.userId(), coupon, request.requestId()));
+            issued.add(request);
+        }
+
+        userCouponJdbcRepository.saveAll(userCoupons);
+        return new BatchIssueResult(issued, rejected);
+    }
+
     /**
      * 쿠폰 사용 가능 여부 검증 (사전 검증용 - 주문 생성 시)
      * - 최소 주문 금액 충족 여부
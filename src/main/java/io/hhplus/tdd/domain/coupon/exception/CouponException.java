@@ -14,6 +14,10 @@ public class CouponException extends BusinessException {
         super(errorCode , userId);
     }
 
+    public CouponException(ErrorCode errorCode , String ticketId ) {
+        super(errorCode , ticketId);
+    }
+
     public CouponException(ErrorCode errorCode , long userId , long couponId ) {
         super(errorCode , userId  , couponId);
     }
@@ -1,48 +1,313 @@
 package io.hhplus.tdd.domain.coupon.infrastructure.queue;
 
+import io.hhplus.tdd.common.exception.BusinessException;
+import io.hhplus.tdd.domain.coupon.domain.service.CouponIssueGate;
 import io.hhplus.tdd.domain.coupon.domain.service.CouponService;
-import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponIssueReqDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBlockingQueue;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 발급 큐 소비자 (Redis Stream 컨슈머 그룹)
+ * <p>
+ * 파티션(coupon.issue.partitions)마다 워커 스레드 1개가 자기 파티션 스트림을 컨슈머 그룹으로 읽습니다.
+ * 여러 노드가 같은 그룹으로 읽어도 메시지는 한 컨슈머에게만 전달됩니다.
+ * <ul>
+ *   <li>깨어날 때마다 최대 batch-size건을 읽어 쿠폰별로 묶어 CouponService.issueCoupons로 처리</li>
+ *   <li>배치 트랜잭션이 실패하면 해당 쿠폰 요청을 건별로 다시 처리 (한 건 때문에 전체가 밀리지 않도록)</li>
+ *   <li>커밋 후에만 ack (+ 스트림에서 삭제), 검증에서 거절된 요청은 CouponIssueGate 입장을 되돌리고 ack</li>
+ *   <li>일시적 오류로 처리하지 못한 요청은 ack하지 않고 남겨둠 → visibility-timeout-ms 이상 방치되면
+ *       파티션 워커가 reclaim-interval-ms마다 회수해 재처리 (스케줄러 스레드에서 DB 배치를 돌리지 않음)</li>
+ *   <li>max-deliveries번 전달되고도 처리되지 않은 요청은 DLQ(coupon:issue:dlq)로 옮기고 게이트 입장을 되돌림
+ *       (DLQ는 자동 재처리하지 않으므로 입장을 유지하면 게이트가 DB보다 먼저 매진됨)</li>
+ *   <li>처리 결과는 CouponIssueTicketStore에 기록 (클라이언트는 티켓 ID로 결과 확인)</li>
+ * </ul>
+ * 커밋 후 ack 전에 노드가 죽어 재전달되더라도 발급 요청 ID({partition}:{messageId} = UserCoupon.issueRequestId)로 중복 발급하지 않습니다.
+ * <p>
+ * 지표: coupon.issue.redelivered (reclaim으로 재전달) , coupon.issue.dead-lettered (DLQ 이동)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueConsumer implements ApplicationRunner {
 
-    private static final String COUPON_ISSUE_QUEUE_KEY = "coupon:issue:queue";
+    private static final String GROUP = "coupon-issue";
+    private static final String DEAD_LETTERED = "DEAD_LETTERED";
+
     private final RedissonClient redissonClient;
 
     // 비즈니스 로직과 트랜잭션을 담당할 외부 서비스
     private final CouponService couponService;
+    private final CouponIssueGate couponIssueGate;
+    private final CouponIssueTicketStore couponIssueTicketStore;
+    private final MeterRegistry meterRegistry;
+
+    // 파티션 수 = 워커 수 (CouponIssueProducer와 같은 값을 사용해야 함)
+    @Value("${coupon.issue.partitions:4}")
+    private int partitions = 4;
+
+    @Value("${coupon.issue.consumer.batch-size:100}")
+    private int batchSize = 100;
+
+    // 스트림이 비었을 때 대기 시간 (종료 신호 확인 주기)
+    @Value("${coupon.issue.consumer.poll-timeout-ms:1000}")
+    private long pollTimeoutMs = 1000L;
+
+    // ack되지 않은 채 이 시간 이상 지난 요청은 다른 컨슈머가 가져가 재처리
+    @Value("${coupon.issue.consumer.visibility-timeout-ms:30000}")
+    private long visibilityTimeoutMs = 30000L;
+
+    @Value("${coupon.issue.consumer.reclaim-interval-ms:5000}")
+    private long reclaimIntervalMs = 5000L;
+
+    @Value("${coupon.issue.consumer.max-deliveries:5}")
+    private int maxDeliveries = 5;
+
+    // 노드(인스턴스)별 컨슈머 이름 - 재시작하면 이전 이름의 미처리 요청은 reclaim으로 회수
+    private final String consumerName = "consumer-" + UUID.randomUUID();
+
+    private volatile boolean running = true;
+    private ExecutorService executorService;
+    private Counter redelivered;
+    private Counter deadLettered;
+
+    @PostConstruct
+    void init() {
+        redelivered = Counter.builder("coupon.issue.redelivered").register(meterRegistry);
+        deadLettered = Counter.builder("coupon.issue.dead-lettered").register(meterRegistry);
+    }
 
     @Override
     public void run(ApplicationArguments args) {
-        new Thread(this::consume).start();
+        for (int partition = 0; partition < partitions; partition++) {
+            createGroup(stream(partition));
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(partitions,
+                runnable -> new Thread(runnable, "coupon-issue-" + sequence.getAndIncrement()));
+        for (int partition = 0; partition < partitions; partition++) {
+            int assigned = partition;
+            executorService.submit(() -> consume(assigned));
+        }
     }
 
-    private void consume() {
-        RBlockingQueue<CouponIssueReqDTO> queue = redissonClient.getBlockingQueue(COUPON_ISSUE_QUEUE_KEY);
-        while (true) {
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(pollTimeoutMs * 2, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void consume(int partition) {
+        RStream<String, String> stream = stream(partition);
+        long nextReclaimAt = System.currentTimeMillis() + reclaimIntervalMs;
+        while (running) {
             try {
-                CouponIssueReqDTO request = queue.take();
+                if (System.currentTimeMillis() >= nextReclaimAt) {
+                    nextReclaimAt = System.currentTimeMillis() + reclaimIntervalMs;
+                    reclaim(partition, stream);
+                }
+
+                Map<StreamMessageId, Map<String, String>> messages = stream.readGroup(GROUP, consumerName,
+                        StreamReadGroupArgs.neverDelivered()
+                                .count(batchSize)
+                                .timeout(Duration.ofMillis(pollTimeoutMs)));
+                if (messages == null || messages.isEmpty()) {
+                    continue;
+                }
 
-                log.info(">> 큐 소비 시작: userId={}", request.userId());
+                log.info(">> 큐 소비 시작: partition={}, requests={}", partition, messages.size());
 
-                couponService.issueCoupon(request);
+                process(partition, stream, messages);
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
             } catch (Exception e) {
                 log.error("큐 소비 중 에러 발생", e);
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 오래 ack되지 않은 요청 회수 (파티션 워커 스레드에서 실행)
+     * - 전달 횟수가 max-deliveries에 도달한 요청은 DLQ로, 나머지는 이 컨슈머로 가져와 재처리
+     * - claim은 최소 대기 시간을 다시 확인하므로 여러 노드가 동시에 실행해도 한 노드만 가져감
+     */
+    private void reclaim(int partition, RStream<String, String> stream) {
+        List<PendingEntry> stale = stream.listPending(GROUP, StreamMessageId.MIN, StreamMessageId.MAX,
+                visibilityTimeoutMs, TimeUnit.MILLISECONDS, batchSize);
+        if (stale.isEmpty()) {
+            return;
+        }
+        Map<StreamMessageId, Long> deliveries = new HashMap<>();
+        stale.forEach(entry -> deliveries.put(entry.getId(), entry.getLastTimeDelivered()));
+
+        Map<StreamMessageId, Map<String, String>> claimed = stream.claim(GROUP, consumerName,
+                visibilityTimeoutMs, TimeUnit.MILLISECONDS, deliveries.keySet().toArray(new StreamMessageId[0]));
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<StreamMessageId, Map<String, String>> retry = new LinkedHashMap<>();
+        claimed.forEach((id, body) -> {
+            if (deliveries.getOrDefault(id, 0L) >= maxDeliveries) {
+                deadLetter(partition, stream, id, body);
+            } else {
+                retry.put(id, body);
+            }
+        });
+        if (!retry.isEmpty()) {
+            redelivered.increment(retry.size());
+            log.info("쿠폰 발급 요청 재처리: stream={}, requests={}", stream.getName(), retry.size());
+            process(partition, stream, retry);
+        }
+    }
+
+    private void process(int partition, RStream<String, String> stream, Map<StreamMessageId, Map<String, String>> messages) {
+        Map<Long, List<CouponService.IssueRequest>> byCoupon = new LinkedHashMap<>();
+        Map<String, StreamMessageId> messageIds = new HashMap<>();
+        messages.forEach((id, body) -> {
+            Long couponId = parseLong(body.get(CouponIssueProducer.FIELD_COUPON_ID));
+            Long userId = parseLong(body.get(CouponIssueProducer.FIELD_USER_ID));
+            if (couponId == null || userId == null) {
+                // 처리할 수 없는 메시지는 재시도하지 않고 바로 DLQ로
+                deadLetter(partition, stream, id, body);
+                return;
+            }
+            String requestId = CouponIssueProducer.requestId(partition, id);
+            byCoupon.computeIfAbsent(couponId, key -> new ArrayList<>())
+                    .add(new CouponService.IssueRequest(requestId, userId));
+            messageIds.put(requestId, id);
+        });
+
+        List<StreamMessageId> done = new ArrayList<>();
+        byCoupon.forEach((couponId, requests) -> issueBatch(couponId, requests).forEach(request ->
+                done.add(messageIds.get(request.requestId()))));
+        acknowledge(stream, done);
+    }
+
+    // 처리가 끝난(발급 또는 거절) 요청 반환 - 반환되지 않은 요청은 ack하지 않음
+    private List<CouponService.IssueRequest> issueBatch(Long couponId, List<CouponService.IssueRequest> requests) {
+        try {
+            complete(couponId, couponService.issueCoupons(couponId, requests));
+            return requests;
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 배치 실패, 건별 처리로 전환: couponId={}, requests={}", couponId, requests.size(), e);
+        }
+
+        List<CouponService.IssueRequest> done = new ArrayList<>();
+        for (CouponService.IssueRequest request : requests) {
+            try {
+                complete(couponId, couponService.issueCoupons(couponId, List.of(request)));
+                done.add(request);
+            } catch (BusinessException e) {
+                // 쿠폰 없음 등 재시도해도 성공할 수 없는 요청
+                log.info("쿠폰 발급 실패: couponId={}, userId={}, reason={}", couponId, request.userId(), e.getMessage());
+                complete(couponId, new CouponService.BatchIssueResult(List.of(),
+                        List.of(new CouponService.Rejection(request, e.getErrCode()))));
+                done.add(request);
+            } catch (RuntimeException e) {
+                log.warn("쿠폰 발급 실패, 재전달 대기: couponId={}, requestId={}", couponId, request.requestId(), e);
+            }
+        }
+        return done;
+    }
+
+    // DB 발급 검증에서 거절되면 게이트 입장을 되돌려 다른 사용자가 발급받을 수 있게 함
+    private void complete(Long couponId, CouponService.BatchIssueResult result) {
+        Map<String, String> rejected = new HashMap<>();
+        result.rejected().forEach(rejection -> {
+            release(couponId, rejection.request());
+            rejected.put(rejection.request().requestId(), rejection.reason().name());
+        });
+        couponIssueTicketStore.complete(
+                result.issued().stream().map(CouponService.IssueRequest::requestId).toList(),
+                rejected);
+        log.debug("쿠폰 발급 배치 완료: couponId={}, issued={}, rejected={}",
+                couponId, result.issued().size(), result.rejected().size());
+    }
+
+    private void release(Long couponId, CouponService.IssueRequest request) {
+        couponIssueGate.release(couponId, request.userId());
+    }
+
+    // 재처리하지 않는 요청 - 게이트 입장을 되돌려 다른 사용자가 발급받을 수 있게 함 (최종 수량 검증은 DB 기준)
+    private void deadLetter(int partition, RStream<String, String> stream, StreamMessageId id, Map<String, String> body) {
+        Long couponId = parseLong(body.get(CouponIssueProducer.FIELD_COUPON_ID));
+        Long userId = parseLong(body.get(CouponIssueProducer.FIELD_USER_ID));
+        if (couponId != null && userId != null) {
+            couponIssueGate.release(couponId, userId);
+        }
+
+        Map<String, String> entries = new HashMap<>(body);
+        entries.put("sourceStream", stream.getName());
+        entries.put("sourceId", id.toString());
+        redissonClient.<String, String>getStream(CouponIssueProducer.deadLetterKey(), StringCodec.INSTANCE)
+                .add(StreamAddArgs.entries(entries));
+        acknowledge(stream, List.of(id));
+        couponIssueTicketStore.complete(List.of(), Map.of(CouponIssueProducer.requestId(partition, id), DEAD_LETTERED));
+        deadLettered.increment();
+        log.error("쿠폰 발급 요청 DLQ 이동: stream={}, id={}, body={}", stream.getName(), id, body);
+    }
+
+    private void acknowledge(RStream<String, String> stream, List<StreamMessageId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        StreamMessageId[] array = ids.toArray(new StreamMessageId[0]);
+        stream.ack(GROUP, array);
+        stream.remove(array);
+    }
+
+    private void createGroup(RStream<String, String> stream) {
+        try {
+            stream.createGroup(StreamCreateGroupArgs.name(GROUP).id(StreamMessageId.ALL).makeStream());
+        } catch (RedisException e) {
+            // 이미 그룹이 있으면 그대로 사용 (BUSYGROUP)
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private RStream<String, String> stream(int partition) {
+        return redissonClient.getStream(CouponIssueProducer.streamKey(partition), StringCodec.INSTANCE);
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,29 +1,75 @@
 package io.hhplus.tdd.domain.coupon.infrastructure.queue;
 
-import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponIssueReqDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBlockingQueue;
+import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
+/**
+ * 쿠폰 발급 요청 큐 (Redis Stream)
+ * <p>
+ * couponId 기준 파티션별 스트림(coupon:issue:stream:{partition})에 요청을 추가합니다.
+ * 소비는 CouponIssueConsumer가 컨슈머 그룹으로 처리합니다.
+ * 메시지 ID(<ms>-<seq>)는 스트림 안에서만 유일하므로 "{partition}:{messageId}"를 발급 요청 ID로 사용합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueProducer {
 
-    private static final String COUPON_ISSUE_QUEUE_KEY = "coupon:issue:queue";
+    public static final String FIELD_USER_ID = "userId";
+    public static final String FIELD_COUPON_ID = "couponId";
+
+    private static final String COUPON_ISSUE_STREAM_KEY = "coupon:issue:stream:";
+    private static final String COUPON_ISSUE_DEAD_LETTER_KEY = "coupon:issue:dlq";
+
     private final RedissonClient redissonClient;
 
-    public void produce(Long couponId, Long userId) {
-        // Redisson의 블로킹 큐 객체 가져오기
-        RBlockingQueue<CouponIssueReqDTO> queue = redissonClient.getBlockingQueue(COUPON_ISSUE_QUEUE_KEY);
+    // 파티션 수 (CouponIssueConsumer와 같은 값을 사용해야 함)
+    @Value("${coupon.issue.partitions:4}")
+    private int partitions = 4;
 
-        CouponIssueReqDTO request = new CouponIssueReqDTO(userId, couponId);
+    /**
+     * @return 발급 요청 ID ({partition}:{스트림 메시지 ID})
+     */
+    public String produce(Long couponId, Long userId) {
+        // 같은 쿠폰은 항상 같은 파티션으로 (쿠폰별 순서 유지 + 한 번에 묶어 처리)
+        int partition = partitionOf(couponId);
+        RStream<String, String> stream = redissonClient.getStream(streamKey(partition), StringCodec.INSTANCE);
+
+        StreamMessageId id = stream.add(StreamAddArgs.entries(Map.of(
+                FIELD_USER_ID, String.valueOf(userId),
+                FIELD_COUPON_ID, String.valueOf(couponId)
+        )));
+
+        String requestId = requestId(partition, id);
+        log.info("쿠폰 발급 요청 큐 추가 완료. couponId: {}, userId: {}, requestId: {}", couponId, userId, requestId);
+        return requestId;
+    }
 
-        // 큐에 추가 (Redis List에 저장됨)
-        queue.add(request);
+    private int partitionOf(Long couponId) {
+        return (int) Math.floorMod(couponId, (long) partitions);
+    }
+
+    // 파티션별 스트림 키 (예: coupon:issue:stream:0)
+    public static String streamKey(int partition) {
+        return COUPON_ISSUE_STREAM_KEY + partition;
+    }
+
+    // 파티션 간에 유일한 발급 요청 ID (같은 ms에 여러 파티션이 같은 메시지 ID를 만들 수 있음)
+    public static String requestId(int partition, StreamMessageId id) {
+        return partition + ":" + id;
+    }
 
-        log.info("쿠폰 발급 요청 큐 추가 완료. couponId: {}, userId: {}", couponId, userId);
+    // 최대 전달 횟수를 넘긴 요청을 옮겨두는 스트림
+    public static String deadLetterKey() {
+        return COUPON_ISSUE_DEAD_LETTER_KEY;
     }
-}
\ No newline at end of file
+}
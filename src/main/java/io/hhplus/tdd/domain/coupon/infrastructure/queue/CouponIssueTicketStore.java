@@ -0,0 +1,109 @@
+package io.hhplus.tdd.domain.coupon.infrastructure.queue;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.coupon.domain.model.IssueTicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 요청(티켓) 상태 저장소 (Redis Hash, COUPON:ticket:{ticketId})
+ * 티켓 ID는 파티션 간에 유일한 발급 요청 ID({partition}:{messageId}, CouponIssueProducer.requestId)
+ * <p>
+ * 클라이언트가 사용자 쿠폰 목록(DB)을 반복 조회하지 않고 발급 결과를 확인할 수 있도록
+ * 요청별 처리 상태만 짧은 TTL로 보관합니다.
+ * <ul>
+ *   <li>QUEUED는 상태가 없을 때만 기록 (큐에 넣은 직후 소비자가 먼저 결과를 기록해도 덮어쓰지 않음)</li>
+ *   <li>소비자는 배치의 결과를 RBatch 1회로 기록</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueTicketStore {
+
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_REASON = "reason";
+    private static final String FIELD_COUPON_ID = "couponId";
+    private static final String FIELD_USER_ID = "userId";
+
+    private final RedissonClient redissonClient;
+
+    public record Ticket(
+            String ticketId,
+            Long couponId,
+            Long userId,
+            IssueTicketStatus status,
+            String reason
+    ){}
+
+    public void queued(String ticketId, long couponId, long userId) {
+        RBatch batch = redissonClient.createBatch();
+        RMapAsync<String, String> ticket = ticket(batch, ticketId);
+        ticket.putAllAsync(Map.of(
+                FIELD_COUPON_ID, String.valueOf(couponId),
+                FIELD_USER_ID, String.valueOf(userId)
+        ));
+        ticket.fastPutIfAbsentAsync(FIELD_STATUS, IssueTicketStatus.QUEUED.name());
+        ticket.expireAsync(RedisKey.COUPON_ISSUE_TICKET.getBaseTtl());
+        batch.execute();
+    }
+
+    /**
+     * 처리 결과 기록
+     *
+     * @param issued   발급된 티켓 ID
+     * @param rejected 거절된 티켓 ID → 사유
+     */
+    public void complete(List<String> issued, Map<String, String> rejected) {
+        if (issued.isEmpty() && rejected.isEmpty()) {
+            return;
+        }
+        RBatch batch = redissonClient.createBatch();
+        issued.forEach(ticketId -> record(batch, ticketId, Map.of(FIELD_STATUS, IssueTicketStatus.ISSUED.name())));
+        rejected.forEach((ticketId, reason) -> record(batch, ticketId, Map.of(
+                FIELD_STATUS, IssueTicketStatus.REJECTED.name(),
+                FIELD_REASON, reason
+        )));
+        batch.execute();
+    }
+
+    public Optional<Ticket> find(String ticketId) {
+        Map<String, String> fields = redissonClient.<String, String>getMap(key(ticketId), StringCodec.INSTANCE).readAllMap();
+        String status = fields.get(FIELD_STATUS);
+        if (status == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Ticket(
+                ticketId,
+                toLong(fields.get(FIELD_COUPON_ID)),
+                toLong(fields.get(FIELD_USER_ID)),
+                IssueTicketStatus.valueOf(status),
+                fields.get(FIELD_REASON)
+        ));
+    }
+
+    private void record(RBatch batch, String ticketId, Map<String, String> fields) {
+        RMapAsync<String, String> ticket = ticket(batch, ticketId);
+        ticket.putAllAsync(fields);
+        ticket.expireAsync(RedisKey.COUPON_ISSUE_TICKET.getBaseTtl());
+    }
+
+    private RMapAsync<String, String> ticket(RBatch batch, String ticketId) {
+        return batch.getMap(key(ticketId), StringCodec.INSTANCE);
+    }
+
+    private String key(String ticketId) {
+        return RedisKey.COUPON_ISSUE_TICKET.getFullKey(ticketId);
+    }
+
+    private static Long toLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+}
@@ -1,8 +1,11 @@
 package io.hhplus.tdd.domain.coupon.infrastructure.repository;
 
 import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +13,9 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     @Query("SELECT uc.coupon FROM UserCoupon uc WHERE uc.id = :userCouponId ")
     Optional<Coupon> findCouponWithUserCoupon(Long userCouponId);
+
+    // 쿠폰 발급 배치용 - 여러 노드의 워커가 같은 쿠폰을 동시에 처리해도 발급 수량이 맞도록 행 락
+    @Query("SELECT c FROM Coupon c WHERE c.id = :couponId")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Coupon> findByIdForUpdate(@Param("couponId") Long couponId);
 }
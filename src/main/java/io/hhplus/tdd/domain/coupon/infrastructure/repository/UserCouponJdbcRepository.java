@@ -0,0 +1,43 @@
+package io.hhplus.tdd.domain.coupon.infrastructure.repository;
+
+import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 일괄 저장 (쿠폰 발급 배치)
+ * <p>
+ * UserCoupon은 IDENTITY 전략이라 saveAll로는 Hibernate 배치 INSERT가 되지 않으므로,
+ * 한 쿠폰의 발급분을 JDBC 배치 1회로 저장합니다.
+ * 현재 트랜잭션(JpaTransactionManager)의 커넥션에 참여하므로 실패 시 함께 롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, status, expired_at, version, created_at, issue_request_id) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<UserCoupon> userCoupons) {
+        if (userCoupons.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, userCoupons, userCoupons.size(), (ps, userCoupon) -> {
+            ps.setLong(1, userCoupon.getUserId());
+            ps.setLong(2, userCoupon.getCouponId());
+            ps.setString(3, userCoupon.getStatus().name());
+            ps.setDate(4, Date.valueOf(userCoupon.getExpiredAt()));
+            ps.setTimestamp(5, createdAt);
+            ps.setString(6, userCoupon.getIssueRequestId());
+        });
+    }
+}
@@ -6,16 +6,23 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     List<UserCoupon> findByUserId(long userId);
     List<UserCoupon> findByUserIdAndCouponId(long userId , long couponId);
+    List<UserCoupon> findByCouponIdAndUserIdIn(long couponId , Collection<Long> userIds);
+    List<UserCoupon> findByIssueRequestIdIn(Collection<String> issueRequestIds);
     Optional<UserCoupon> findByUserIdAndIdAndStatus(long userId , long userCouponId , Status status);
 
     @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon WHERE uc.id = :userCouponId")
     Optional<UserCoupon> findByIdWithCoupon(@Param("userCouponId") Long userCouponId);
 
+    // 사용자 쿠폰 목록 조회용 - 쿠폰 정보까지 한 번에 조회 (보유 쿠폰 수와 무관하게 쿼리 1회)
+    @Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon WHERE uc.userId = :userId")
+    List<UserCoupon> findByUserIdWithCoupon(@Param("userId") long userId);
+
 
 }
@@ -1,10 +1,12 @@
 package io.hhplus.tdd.domain.coupon.presentation;
 
 import io.hhplus.tdd.domain.coupon.application.GetAllCouponListUseCase;
+import io.hhplus.tdd.domain.coupon.application.GetCouponIssueTicketUseCase;
 import io.hhplus.tdd.domain.coupon.application.GetUserCouponListUseCase;
 import io.hhplus.tdd.domain.coupon.application.IssueUserCouponUseCase;
 import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponIssueReqDTO;
 import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponUseReqDTO;
+import io.hhplus.tdd.domain.coupon.presentation.dto.res.CouponIssueTicketResDTO;
 import io.hhplus.tdd.domain.coupon.presentation.dto.res.CouponResDTO;
 import io.hhplus.tdd.domain.coupon.presentation.dto.res.UserCouponResDTO;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +26,7 @@ public class CouponController {
     private final GetUserCouponListUseCase getUserCouponListUseCase;
     private final GetAllCouponListUseCase getAllCouponListUseCase;
     private final IssueUserCouponUseCase issueUserCouponUseCase;
+    private final GetCouponIssueTicketUseCase getCouponIssueTicketUseCase;
 
     @GetMapping()
     public List<CouponResDTO> getAllCouponList(){
@@ -42,10 +45,19 @@ public class CouponController {
     }
 
     @PostMapping("/issue")
-    public void issueUserCoupopn(@RequestBody @Validated CouponIssueReqDTO couponIssueReqDTO){
-        issueUserCouponUseCase.execute(
+    public CouponIssueTicketResDTO issueUserCoupopn(@RequestBody @Validated CouponIssueReqDTO couponIssueReqDTO){
+        IssueUserCouponUseCase.Output output = issueUserCouponUseCase.execute(
                 new IssueUserCouponUseCase.Input(couponIssueReqDTO.couponId(), couponIssueReqDTO.userId())
         );
+        return CouponIssueTicketResDTO.queued(output.ticketId());
+    }
+
+    // 발급 결과 확인 (사용자 쿠폰 목록 대신 Redis의 요청 상태만 조회, 본인 티켓만)
+    @GetMapping("/issue/{ticketId}")
+    public CouponIssueTicketResDTO getIssueTicket(@PathVariable String ticketId, @RequestParam Long userId){
+        return CouponIssueTicketResDTO.from(
+                getCouponIssueTicketUseCase.execute(new GetCouponIssueTicketUseCase.Input(ticketId, userId))
+        );
     }
 
 }
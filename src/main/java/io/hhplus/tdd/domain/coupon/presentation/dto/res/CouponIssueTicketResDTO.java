@@ -0,0 +1,19 @@
+package io.hhplus.tdd.domain.coupon.presentation.dto.res;
+
+import io.hhplus.tdd.domain.coupon.application.GetCouponIssueTicketUseCase;
+import io.hhplus.tdd.domain.coupon.domain.model.IssueTicketStatus;
+
+public record CouponIssueTicketResDTO(
+        String ticketId,
+        String status,
+        String reason
+) {
+    // 발급 요청 직후 (큐 대기)
+    public static CouponIssueTicketResDTO queued(String ticketId){
+        return new CouponIssueTicketResDTO(ticketId, IssueTicketStatus.QUEUED.name(), null);
+    }
+
+    public static CouponIssueTicketResDTO from(GetCouponIssueTicketUseCase.Output out){
+        return new CouponIssueTicketResDTO(out.ticketId(), out.status(), out.reason());
+    }
+}
@@ -1,5 +1,6 @@
 package io.hhplus.tdd.domain.order.application;
 
+import io.hhplus.tdd.common.distributedLock.FencingTokenContext;
 import io.hhplus.tdd.common.distributedLock.LockGroupType;
 import io.hhplus.tdd.common.distributedLock.MultiDistributedLockExecutor;
 import io.hhplus.tdd.common.exception.ErrorCode;
@@ -16,9 +17,13 @@ import io.hhplus.tdd.domain.point.domain.model.UserPoint;
 import io.hhplus.tdd.domain.point.domain.service.PointService;
 import io.hhplus.tdd.domain.product.domain.model.Product;
 import io.hhplus.tdd.domain.product.domain.model.ProductOption;
+import io.hhplus.tdd.domain.product.domain.model.StockDeductionMode;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -30,7 +35,9 @@ import java.util.stream.Collectors;
  * 주문 취소 UseCase
  * - PENDING 상태의 주문만 취소 가능
  * - 재고 복구 처리
+ * - 재고 복구 방식은 stock.deduction-mode를 따름 (StockDeductionMode)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CancelOrderUseCase {
@@ -44,6 +51,10 @@ public class CancelOrderUseCase {
     private final CouponService couponService;
     private final MultiDistributedLockExecutor lockExecutor;
     private final TransactionTemplate transactionTemplate;
+    private final StockLedgerService stockLedgerService;
+
+    @Value("${stock.deduction-mode:PESSIMISTIC_LOCK}")
+    private StockDeductionMode deductionMode = StockDeductionMode.PESSIMISTIC_LOCK;
 
     public record Input(
             long orderId
@@ -65,6 +76,11 @@ public class CancelOrderUseCase {
                     .map(OrderItem::getProductOptionId)
                     .toList();
 
+            if (deductionMode != StockDeductionMode.PESSIMISTIC_LOCK) {
+                executeLockFreeCancel(order, orderItems, optionIds);
+                return;
+            }
+
             // 분산 락 키 생성
             List<String> lockKeys = buildLockKeys(order.getUserId(), optionIds);
 
@@ -102,15 +118,67 @@ public class CancelOrderUseCase {
 
         // 상품 옵션 조회 (Pessimistic Lock - DB 레벨 락)
         List<ProductOption> productOptions = productOptionRepository.findAllByIdInForUpdate(optionIds);
+        applyFencingTokens(order, productOptions);
 
         // 재고 복구
         orderService.restoreStock(productOptions, orderItemInfos);
 
-        // 포인트 복구
+        // 포인트, 쿠폰 복구
+        restorePointAndCoupon(order);
+    }
+
+    /**
+     * REDIS_LEDGER / CONDITIONAL_UPDATE / ADAPTIVE 모드 PAID 주문 취소
+     * - 사용자 포인트 락만 사용 (옵션 분산 락, SELECT ... FOR UPDATE 없음)
+     * - REDIS_LEDGER: 커밋 후 Redis 원장 재고 복구, DB 재고는 정산 이벤트로 비동기 반영 (원장 복구 실패 시 정산 컨슈머가 재시도)
+     * - CONDITIONAL_UPDATE / ADAPTIVE: 트랜잭션 안에서 UPDATE ... quantity + ? 로 복구 (복구는 검증이 없어 핫 옵션도 락 불필요)
+     */
+    private void executeLockFreeCancel(Order order, List<OrderItem> orderItems, List<Long> optionIds) {
+        List<String> lockKeys = List.of(LockGroupType.USER_POINT.name() + ":" + order.getUserId());
+
+        lockExecutor.executeWithLocks(lockKeys, () -> {
+            transactionTemplate.executeWithoutResult(status -> {
+                Order managedOrder = orderRepository.findById(order.getId())
+                        .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND, order.getId()));
+
+                orderService.cancelOrder(managedOrder);
+
+                List<OrderService.OrderItemInfo> orderItemInfos = orderItems.stream()
+                        .map(item -> new OrderService.OrderItemInfo(item.getProductOptionId(), item.getQuantity()))
+                        .collect(Collectors.toList());
+                List<ProductOption> productOptions = productOptionRepository.findAllWithProductByIdIn(optionIds);
+                applyFencingTokens(managedOrder, List.of());
+                if (deductionMode == StockDeductionMode.REDIS_LEDGER) {
+                    orderService.recordReleasedStock(managedOrder.getId(), productOptions, orderItemInfos);
+                } else {
+                    orderService.restoreStockConditionally(productOptions, orderItemInfos);
+                }
+
+                restorePointAndCoupon(managedOrder);
+            });
+        });
+
+        if (deductionMode != StockDeductionMode.REDIS_LEDGER) {
+            return;
+        }
+
+        // 취소가 커밋된 뒤에만 원장 복구 (예약 기록으로 중복 복구 방지)
+        // 실패해도 취소와 같은 커밋으로 저장된 RELEASE 정산 이벤트의 컨슈머가 원장 복구를 재시도함
+        List<StockLedgerService.StockLine> lines = orderItems.stream()
+                .map(item -> new StockLedgerService.StockLine(item.getProductId(), item.getProductOptionId(), item.getQuantity()))
+                .toList();
+        try {
+            stockLedgerService.release(order.getId(), lines);
+        } catch (Exception e) {
+            log.error("재고 원장 복구 실패, 정산 컨슈머에서 재시도 - 주문 ID: {}", order.getId(), e);
+        }
+    }
+
+    // 포인트, 쿠폰 복구
+    private void restorePointAndCoupon(Order order) {
         UserPoint userPoint = order.getUserPoint();
         pointService.chargePoint(userPoint, order.getUsePointAmount(), "주문 취소로 인한 포인트 환불");
 
-        // 쿠폰 복구
         UserCoupon userCoupon = order.getUserCoupon();
         if (userCoupon != null) {
             userCoupon.restoreCoupon();
@@ -129,6 +197,16 @@ public class CancelOrderUseCase {
         orderService.cancelOrder(order);
     }
 
+    // 펜싱 토큰 검증 (lock.fencing.enabled - 임대가 만료된 이전 락 소유자의 갱신 거부)
+    private void applyFencingTokens(Order order, List<ProductOption> productOptions) {
+        if (order.getUserPoint() != null) {
+            order.getUserPoint().applyFencingToken(FencingTokenContext.get(LockGroupType.USER_POINT, order.getUserId()));
+        }
+        for (ProductOption option : productOptions) {
+            option.applyFencingToken(FencingTokenContext.get(LockGroupType.PRODUCT_OPTION, option.getId()));
+        }
+    }
+
     // 분산 락 키 리스트 생성
     private List<String> buildLockKeys(Long userId, List<Long> optionIds) {
         List<String> lockKeys = new ArrayList<>();
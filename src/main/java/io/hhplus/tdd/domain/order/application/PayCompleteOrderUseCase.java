@@ -1,5 +1,7 @@
 package io.hhplus.tdd.domain.order.application;
 
+import io.hhplus.tdd.common.distributedLock.FencingTokenContext;
+import io.hhplus.tdd.common.distributedLock.HotKeyDetector;
 import io.hhplus.tdd.common.distributedLock.LockGroupType;
 import io.hhplus.tdd.common.distributedLock.MultiDistributedLockExecutor;
 import io.hhplus.tdd.common.exception.ErrorCode;
@@ -11,9 +13,13 @@ import io.hhplus.tdd.domain.order.exception.OrderException;
 import io.hhplus.tdd.domain.order.infrastructure.repository.OrderItemRepository;
 import io.hhplus.tdd.domain.order.infrastructure.repository.OrderRepository;
 import io.hhplus.tdd.domain.product.domain.model.ProductOption;
+import io.hhplus.tdd.domain.product.domain.model.StockDeductionMode;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -26,7 +32,9 @@ import java.util.stream.Collectors;
  * - PG사 웹훅으로부터 호출
  * - PENDING 상태의 주문을 PAID로 변경
  * - 재고 차감, 포인트 차감, 쿠폰 사용 처리
+ * - 재고 차감 방식은 stock.deduction-mode로 선택 (StockDeductionMode)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PayCompleteOrderUseCase {
@@ -39,6 +47,11 @@ public class PayCompleteOrderUseCase {
     private final MultiDistributedLockExecutor lockExecutor;
     private final TransactionTemplate transactionTemplate;
     private final OrderEventPublisher orderEventPublisher;
+    private final StockLedgerService stockLedgerService;
+    private final HotKeyDetector hotKeyDetector;
+
+    @Value("${stock.deduction-mode:PESSIMISTIC_LOCK}")
+    private StockDeductionMode deductionMode = StockDeductionMode.PESSIMISTIC_LOCK;
 
     public record Input(
             long orderId
@@ -65,6 +78,19 @@ public class PayCompleteOrderUseCase {
                 .map(OrderItem::getProductOptionId)
                 .toList();
 
+        if (deductionMode == StockDeductionMode.REDIS_LEDGER) {
+            executeWithStockLedger(order, orderItems, optionIds);
+            return;
+        }
+        if (deductionMode == StockDeductionMode.CONDITIONAL_UPDATE) {
+            executeWithConditionalUpdate(order, orderItems, optionIds);
+            return;
+        }
+        if (deductionMode == StockDeductionMode.ADAPTIVE) {
+            executeAdaptive(order, orderItems, optionIds);
+            return;
+        }
+
         // 5. 분산 락 키 생성 (상품 옵션들 + 사용자 포인트)
         List<String> lockKeys = buildLockKeys(order.getUserId(), optionIds);
 
@@ -78,6 +104,106 @@ public class PayCompleteOrderUseCase {
         });
     }
 
+    /**
+     * REDIS_LEDGER 모드 결제 완료 처리
+     * - 재고는 Redis 원장에서 주문 전체를 Lua 1회로 예약 (옵션 분산 락, DB 행 락 없음)
+     * - 포인트 정합성을 위해 사용자 포인트 락만 유지
+     * - 트랜잭션 실패 시 이번 호출이 예약한 재고만 원장에 복구 (보상)
+     *   이미 예약된 주문(중복/동시 웹훅)은 차감하지 않았으므로 복구하지 않음 - 복구하면 PAID 주문의 재고가 원장에 되돌아가 초과 판매됨
+     */
+    private void executeWithStockLedger(Order order, List<OrderItem> orderItems, List<Long> optionIds) {
+        List<StockLedgerService.StockLine> lines = toStockLines(orderItems);
+        List<String> lockKeys = List.of(LockGroupType.USER_POINT.name() + ":" + order.getUserId());
+
+        lockExecutor.executeWithLocks(lockKeys, () -> {
+            boolean reserved = stockLedgerService.reserve(order.getId(), lines);
+            try {
+                transactionTemplate.execute(status -> {
+                    executeLockFreePaymentLogic(order, orderItems, optionIds);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                if (reserved) {
+                    log.warn("결제 처리 실패로 재고 원장 예약 복구: orderId={}", order.getId());
+                    stockLedgerService.release(order.getId(), lines);
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * CONDITIONAL_UPDATE 모드 결제 완료 처리
+     * - 재고는 트랜잭션 안에서 조건부 UPDATE로 차감 (옵션 분산 락, SELECT ... FOR UPDATE 없음)
+     * - 포인트 정합성을 위해 사용자 포인트 락만 유지
+     */
+    private void executeWithConditionalUpdate(Order order, List<OrderItem> orderItems, List<Long> optionIds) {
+        List<String> lockKeys = List.of(LockGroupType.USER_POINT.name() + ":" + order.getUserId());
+
+        lockExecutor.executeWithLocks(lockKeys, () -> {
+            transactionTemplate.execute(status -> {
+                executeLockFreePaymentLogic(order, orderItems, optionIds);
+                return null;
+            });
+        });
+    }
+
+    /**
+     * ADAPTIVE 모드 결제 완료 처리
+     * - 핫 옵션만 옵션 분산 락으로 직렬화 (DB 행 락 대기가 커넥션을 붙잡지 않도록 Redis에서 줄 세움)
+     * - 나머지 옵션은 락 없이 조건부 UPDATE로 검증 (CONDITIONAL_UPDATE와 동일)
+     */
+    private void executeAdaptive(Order order, List<OrderItem> orderItems, List<Long> optionIds) {
+        List<Long> hotOptionIds = optionIds.stream()
+                .filter(optionId -> hotKeyDetector.isHot(LockGroupType.PRODUCT_OPTION, optionId))
+                .toList();
+        if (!hotOptionIds.isEmpty()) {
+            log.debug("핫 옵션 분산 락 적용: orderId={}, hotOptionIds={}", order.getId(), hotOptionIds);
+        }
+        List<String> lockKeys = buildLockKeys(order.getUserId(), hotOptionIds);
+
+        lockExecutor.executeWithLocks(lockKeys, () -> {
+            transactionTemplate.execute(status -> {
+                executeLockFreePaymentLogic(order, orderItems, optionIds);
+                return null;
+            });
+        });
+    }
+
+    /**
+     * REDIS_LEDGER / CONDITIONAL_UPDATE / ADAPTIVE 모드 결제 완료 비즈니스 로직 (트랜잭션 내에서 실행됨)
+     */
+    private void executeLockFreePaymentLogic(Order detachedOrder, List<OrderItem> orderItems, List<Long> optionIds) {
+        Order order = orderRepository.findById(detachedOrder.getId())
+                .orElseThrow(() -> new OrderException(ErrorCode.ORDER_NOT_FOUND, detachedOrder.getId()));
+
+        if(order.getStatus() != OrderStatus.PENDING){
+            throw new OrderException(ErrorCode.ORDER_NOT_VALID, order.getId());
+        }
+
+        List<OrderService.OrderItemInfo> orderItemInfos = orderItems.stream()
+                .map(item -> new OrderService.OrderItemInfo(item.getProductOptionId(), item.getQuantity()))
+                .collect(Collectors.toList());
+
+        // 락 없이 조회 (재고는 원장 또는 조건부 UPDATE로 검증)
+        List<ProductOption> productOptions = productOptionRepository.findAllWithProductByIdIn(optionIds);
+        applyFencingTokens(order, List.of());
+
+        if (deductionMode == StockDeductionMode.REDIS_LEDGER) {
+            orderService.completeOrderWithReservedStock(order, productOptions, orderItemInfos);
+        } else {
+            orderService.completeOrderWithConditionalUpdate(order, productOptions, orderItemInfos);
+        }
+
+        orderEventPublisher.publishOrderCompletedEvent(order);
+    }
+
+    private List<StockLedgerService.StockLine> toStockLines(List<OrderItem> orderItems) {
+        return orderItems.stream()
+                .map(item -> new StockLedgerService.StockLine(item.getProductId(), item.getProductOptionId(), item.getQuantity()))
+                .toList();
+    }
+
     /**
      * 결제 완료 비즈니스 로직 (트랜잭션 내에서 실행됨)
      */
@@ -98,6 +224,7 @@ public class PayCompleteOrderUseCase {
 
         // 4. 상품 및 옵션 조회 (Pessimistic Lock - DB 레벨 락)
         List<ProductOption> productOptions = productOptionRepository.findAllByIdInForUpdate(optionIds);
+        applyFencingTokens(order, productOptions);
 
         // 5. 결제 완료 처리 (재고 차감, 포인트 차감, 쿠폰 사용, 상태 변경)
         orderService.completeOrderWithPayment(order, productOptions, orderItemInfos);
@@ -106,6 +233,16 @@ public class PayCompleteOrderUseCase {
         orderEventPublisher.publishOrderCompletedEvent(order);
     }
 
+    // 펜싱 토큰 검증 (lock.fencing.enabled - 임대가 만료된 이전 락 소유자의 갱신 거부)
+    private void applyFencingTokens(Order order, List<ProductOption> productOptions) {
+        if (order.getUserPoint() != null) {
+            order.getUserPoint().applyFencingToken(FencingTokenContext.get(LockGroupType.USER_POINT, order.getUserId()));
+        }
+        for (ProductOption option : productOptions) {
+            option.applyFencingToken(FencingTokenContext.get(LockGroupType.PRODUCT_OPTION, option.getId()));
+        }
+    }
+
     //분산 락 키 리스트 생성
     private List<String> buildLockKeys(Long userId, List<Long> optionIds) {
         List<String> lockKeys = new ArrayList<>();
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.domain.order.domain.service;
 
-import io.hhplus.tdd.common.cache.CacheEvictionService;
+import io.hhplus.tdd.common.distributedLock.HotKeyDetector;
+import io.hhplus.tdd.common.distributedLock.LockGroupType;
 import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
 import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
@@ -12,13 +13,19 @@ import io.hhplus.tdd.domain.point.domain.model.PointHistory;
 import io.hhplus.tdd.domain.point.domain.model.UserPoint;
 import io.hhplus.tdd.domain.point.domain.service.PointService;
 import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryRepository;
+import io.hhplus.tdd.domain.product.domain.event.ProductStockChangedEvent;
+import io.hhplus.tdd.domain.product.domain.event.StockReconcileEvent;
 import io.hhplus.tdd.domain.product.domain.model.Product;
 import io.hhplus.tdd.domain.product.domain.model.ProductOption;
 import io.hhplus.tdd.domain.product.domain.service.RankingService;
 import io.hhplus.tdd.domain.product.exception.ProductException;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionStockJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -36,8 +43,10 @@ public class OrderService {
     private final PointService pointService;
     private final CouponService couponService;
     private final PointHistoryRepository pointHistoryRepository;
-    private final CacheEvictionService cacheEvictionService;
     private final RankingService rankingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductOptionStockJdbcRepository productOptionStockJdbcRepository;
+    private final HotKeyDetector hotKeyDetector;
 
     /**
      * 주문 항목 정보
@@ -75,48 +84,165 @@ public class OrderService {
 
     /**
      * 재고를 차감합니다 (결제 완료 시점에 호출)
-     * 재고 부족 임계값(10개) 미만으로 떨어지면 캐시 무효화
      * 판매량 랭킹 업데이트
+     * 재고 변경 이벤트 발행 (커밋 후 재고 캐시에 반영)
      *
      * @param productOptions 재고 차감할 상품옵션 목록
      * @param orderItems 주문 항목 목록
      */
     public void deductStock(List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
-        Map<Long, ProductOption> optionMap = productOptions.stream()
-                .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
-
+        recordStockDemand(orderItems);
+        Map<Long, ProductOption> optionMap = toOptionMap(productOptions);
         for (OrderItemInfo item : orderItems) {
             ProductOption option = optionMap.get(item.productOptionId());
             if (option != null) {
                 option.deduct(item.quantity());
-
-                // 재고 차감 후 재고가 부족하면 캐시 무효화
-                Long currentStock = option.getQuantity();
-                Long productId = option.getProductId();
-                cacheEvictionService.evictIfLowStock(productId, currentStock);
-
-                // 판매량 랭킹 업데이트 (판매 수량만큼 점수 증가)
-                rankingService.addScore(productId, item.quantity());
             }
         }
+        publishStockDeducted(optionMap, orderItems);
     }
 
     /**
      * 재고를 복구합니다 (주문 취소, 결제 실패 시)
+     * 재고 변경 이벤트 발행 (커밋 후 재고 캐시에 반영)
      *
      * @param productOptions 재고 복구할 상품옵션 목록
      * @param orderItems 주문 항목 목록
      */
     public void restoreStock(List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
-        Map<Long, ProductOption> optionMap = productOptions.stream()
+        Map<Long, ProductOption> optionMap = toOptionMap(productOptions);
+        for (OrderItemInfo item : orderItems) {
+            ProductOption option = optionMap.get(item.productOptionId());
+            if (option != null) {
+                option.restore(item.quantity());
+            }
+        }
+        publishStockRestored(optionMap, orderItems);
+    }
+
+    /**
+     * Redis 재고 원장에서 이미 차감된 재고를 기록합니다 (REDIS_LEDGER 모드)
+     * - 엔티티는 변경하지 않고 DB 정산 이벤트를 발행 (Outbox 저장 후 비동기 반영)
+     * - 판매량 랭킹, 재고 캐시 반영은 deductStock과 동일
+     *
+     * @param orderId 주문 ID
+     * @param productOptions 상품옵션 목록 (락 없이 조회)
+     * @param orderItems 주문 항목 목록
+     */
+    public void recordReservedStock(Long orderId, List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        publishStockDeducted(toOptionMap(productOptions), orderItems);
+        eventPublisher.publishEvent(toReconcileEvent(orderId, StockReconcileEvent.Action.RESERVE, orderItems, -1));
+    }
+
+    /**
+     * Redis 재고 원장에서 복구할 재고를 기록합니다 (REDIS_LEDGER 모드)
+     *
+     * @param orderId 주문 ID
+     * @param productOptions 상품옵션 목록 (락 없이 조회)
+     * @param orderItems 주문 항목 목록
+     */
+    public void recordReleasedStock(Long orderId, List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        publishStockRestored(toOptionMap(productOptions), orderItems);
+        eventPublisher.publishEvent(toReconcileEvent(orderId, StockReconcileEvent.Action.RELEASE, orderItems, 1));
+    }
+
+    /**
+     * 조건부 UPDATE로 재고를 차감합니다 (CONDITIONAL_UPDATE 모드)
+     * - 라인별 UPDATE ... WHERE quantity >= ? 를 JDBC 배치 1회로 실행
+     * - 한 라인이라도 차감되지 않으면 예외 (트랜잭션 롤백으로 다른 라인도 취소)
+     *
+     * @param productOptions 상품옵션 목록 (락 없이 조회, 엔티티는 변경하지 않음)
+     * @param orderItems 주문 항목 목록
+     */
+    public void deductStockConditionally(List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        recordStockDemand(orderItems);
+        Map<Long, ProductOption> optionMap = toOptionMap(productOptions);
+        List<ProductOptionStockJdbcRepository.StockUpdate> failed =
+                productOptionStockJdbcRepository.deductAll(toStockUpdates(orderItems));
+        if (!failed.isEmpty()) {
+            Long optionId = failed.get(0).productOptionId();
+            ProductOption option = optionMap.get(optionId);
+            long productId = option != null ? option.getProductId() : 0L;
+            throw new ProductException(ErrorCode.PRODUCT_NOT_ENOUGH, productId, optionId);
+        }
+        publishStockDeducted(optionMap, orderItems);
+    }
+
+    /**
+     * 조건부 UPDATE로 재고를 복구합니다 (CONDITIONAL_UPDATE 모드)
+     *
+     * @param productOptions 상품옵션 목록 (락 없이 조회, 엔티티는 변경하지 않음)
+     * @param orderItems 주문 항목 목록
+     */
+    public void restoreStockConditionally(List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        List<ProductOptionStockJdbcRepository.StockUpdate> failed =
+                productOptionStockJdbcRepository.restoreAll(toStockUpdates(orderItems));
+        if (!failed.isEmpty()) {
+            throw new ProductException(ErrorCode.PRODUCT_OPTION_NOT_FOUND, failed.stream()
+                    .map(update -> String.valueOf(update.productOptionId()))
+                    .collect(Collectors.joining(",")));
+        }
+        publishStockRestored(toOptionMap(productOptions), orderItems);
+    }
+
+    private List<ProductOptionStockJdbcRepository.StockUpdate> toStockUpdates(List<OrderItemInfo> orderItems) {
+        return orderItems.stream()
+                .map(item -> new ProductOptionStockJdbcRepository.StockUpdate(item.productOptionId(), item.quantity()))
+                .toList();
+    }
+
+    // 옵션별 재고 차감 요청 기록 (ADAPTIVE 모드 핫 옵션 판정용)
+    private void recordStockDemand(List<OrderItemInfo> orderItems) {
+        hotKeyDetector.record(LockGroupType.PRODUCT_OPTION, orderItems.stream()
+                .map(OrderItemInfo::productOptionId)
+                .toList());
+    }
+
+    private Map<Long, ProductOption> toOptionMap(List<ProductOption> productOptions) {
+        return productOptions.stream()
                 .collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+    }
+
+    // 판매량 랭킹 업데이트 + 재고 변경 이벤트 발행 (차감)
+    private void publishStockDeducted(Map<Long, ProductOption> optionMap, List<OrderItemInfo> orderItems) {
+        List<ProductStockChangedEvent.StockChange> changes = new ArrayList<>();
+        Map<Long, Double> salesScores = new HashMap<>();
 
         for (OrderItemInfo item : orderItems) {
             ProductOption option = optionMap.get(item.productOptionId());
             if (option != null) {
-                option.restore(item.quantity());
+                Long productId = option.getProductId();
+                changes.add(new ProductStockChangedEvent.StockChange(productId, option.getId(), -item.quantity()));
+
+                // 판매 수량만큼 점수 증가 (상품별 합산)
+                salesScores.merge(productId, (double) item.quantity(), Double::sum);
+            }
+        }
+
+        // 판매량 랭킹 업데이트 (주문 전체를 파이프라인 1회로 반영)
+        rankingService.addScores(salesScores);
+
+        eventPublisher.publishEvent(new ProductStockChangedEvent(changes));
+    }
+
+    // 재고 변경 이벤트 발행 (복구)
+    private void publishStockRestored(Map<Long, ProductOption> optionMap, List<OrderItemInfo> orderItems) {
+        List<ProductStockChangedEvent.StockChange> changes = new ArrayList<>();
+        for (OrderItemInfo item : orderItems) {
+            ProductOption option = optionMap.get(item.productOptionId());
+            if (option != null) {
+                changes.add(new ProductStockChangedEvent.StockChange(option.getProductId(), option.getId(), item.quantity()));
             }
         }
+        eventPublisher.publishEvent(new ProductStockChangedEvent(changes));
+    }
+
+    private StockReconcileEvent toReconcileEvent(Long orderId, StockReconcileEvent.Action action,
+                                                 List<OrderItemInfo> orderItems, int sign) {
+        List<StockReconcileEvent.Line> lines = orderItems.stream()
+                .map(item -> new StockReconcileEvent.Line(item.productOptionId(), (long) sign * item.quantity()))
+                .toList();
+        return new StockReconcileEvent(orderId, action, lines);
     }
 
     /**
@@ -147,6 +273,52 @@ public class OrderService {
     }
 
 
+    /**
+     * PG 결제 완료 후 주문 완료 처리 (REDIS_LEDGER 모드)
+     * - 재고는 호출 전 Redis 원장에서 예약 완료, 여기서는 정산 이벤트만 발행
+     * - 포인트 차감, 쿠폰 사용, 주문 상태 PAID 변경은 동일
+     *
+     * @param order 주문 엔티티
+     * @param productOptions 상품 목록 (락 없이 조회)
+     * @param orderItems 주문 항목 목록
+     */
+    public void completeOrderWithReservedStock(Order order, List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        // 1. 원장 차감 기록 (DB 정산은 비동기)
+        recordReservedStock(order.getId(), productOptions, orderItems);
+
+        // 2. 포인트 차감
+        processPointDeduction(order);
+
+        // 3. 쿠폰 사용
+        processCouponUsage(order);
+
+        // 4. 주문 완료 처리
+        order.completeOrder();
+    }
+
+    /**
+     * PG 결제 완료 후 주문 완료 처리 (CONDITIONAL_UPDATE 모드)
+     * - 재고는 조건부 UPDATE로 차감 (행 락은 UPDATE 문장 동안만 유지)
+     * - 포인트 차감, 쿠폰 사용, 주문 상태 PAID 변경은 동일
+     *
+     * @param order 주문 엔티티
+     * @param productOptions 상품 목록 (락 없이 조회)
+     * @param orderItems 주문 항목 목록
+     */
+    public void completeOrderWithConditionalUpdate(Order order, List<ProductOption> productOptions, List<OrderItemInfo> orderItems) {
+        // 1. 조건부 UPDATE 재고 차감
+        deductStockConditionally(productOptions, orderItems);
+
+        // 2. 포인트 차감
+        processPointDeduction(order);
+
+        // 3. 쿠폰 사용
+        processCouponUsage(order);
+
+        // 4. 주문 완료 처리
+        order.completeOrder();
+    }
+
     /**
      * 포인트 차감 처리 (private 헬퍼 메서드)
      */
@@ -1,18 +1,20 @@
 package io.hhplus.tdd.domain.point.application;
 
-import io.hhplus.tdd.common.distributedLock.DistributedLock;
+import io.hhplus.tdd.common.distributedLock.FencingTokenContext;
 import io.hhplus.tdd.common.distributedLock.LockGroupType;
 import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.common.exception.UserNotFoundException;
 import io.hhplus.tdd.domain.point.domain.model.PointHistory;
+import io.hhplus.tdd.domain.point.domain.model.PointUpdateStrategy;
+import io.hhplus.tdd.domain.point.domain.model.TransactionType;
 import io.hhplus.tdd.domain.point.domain.model.UserPoint;
 import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryRepository;
 import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
 import io.hhplus.tdd.domain.point.domain.service.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -22,6 +24,15 @@ public class PointChargeUseCase {
     private final PointHistoryRepository pointHistoryRepository;
     private final UserPointRepository userPointRepository;
     private final PointService pointService;
+    private final PointUpdateExecutor pointUpdateExecutor;
+    private final PointGroupCommitter pointGroupCommitter;
+
+    @Value("${point.update-strategy.charge:DISTRIBUTED_LOCK}")
+    private PointUpdateStrategy updateStrategy = PointUpdateStrategy.DISTRIBUTED_LOCK;
+
+    // 같은 사용자의 짧은 시간 내 요청을 모아 한 번에 반영 (PointGroupCommitter)
+    @Value("${point.group-commit.enabled:false}")
+    private boolean groupCommitEnabled = false;
 
     public record Input(
             long userId,
@@ -39,13 +50,30 @@ public class PointChargeUseCase {
         }
     }
 
-    @DistributedLock(group = LockGroupType.USER_POINT, key = "#input.userId")
-    @Transactional
+    /**
+     * 포인트 갱신 방식(point.update-strategy.charge)에 따라 분산 락 또는 낙관적 재시도로 실행
+     * - point.group-commit.enabled 시 같은 사용자의 요청과 묶어 그룹 커밋으로 반영
+     */
     public Output execute(Input input){
+        if (groupCommitEnabled) {
+            PointGroupCommitter.Result result = pointGroupCommitter.execute(
+                    input.userId(), TransactionType.CHARGE, input.amount(), input.description());
+            return new Output(result.userId(), result.balance(), result.version());
+        }
+        if (updateStrategy == PointUpdateStrategy.OPTIMISTIC_RETRY) {
+            return pointUpdateExecutor.withOptimisticRetry(input.userId(), () -> chargePoint(input));
+        }
+        return pointUpdateExecutor.withLock(input.userId(), () -> chargePoint(input));
+    }
+
+    private Output chargePoint(Input input){
 
         UserPoint userPoint = userPointRepository.findById(input.userId())
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND, input.userId()));
 
+        // 펜싱 토큰 검증 (lock.fencing.enabled - 임대가 만료된 이전 락 소유자의 갱신 거부)
+        userPoint.applyFencingToken(FencingTokenContext.get(LockGroupType.USER_POINT, input.userId()));
+
         PointHistory pointHistory = pointService.chargePoint(userPoint, input.amount(), input.description());
 
         pointHistoryRepository.save(pointHistory);
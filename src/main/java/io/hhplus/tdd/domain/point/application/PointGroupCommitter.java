@@ -0,0 +1,193 @@
+package io.hhplus.tdd.domain.point.application;
+
+import io.hhplus.tdd.common.distributedLock.FencingTokenContext;
+import io.hhplus.tdd.common.distributedLock.LockGroupType;
+import io.hhplus.tdd.common.exception.BusinessException;
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.domain.point.domain.model.PointHistory;
+import io.hhplus.tdd.domain.point.domain.model.TransactionType;
+import io.hhplus.tdd.domain.point.domain.model.UserPoint;
+import io.hhplus.tdd.domain.point.domain.service.PointService;
+import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryJdbcRepository;
+import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 포인트 그룹 커밋 (point.group-commit.enabled)
+ * <p>
+ * 같은 사용자에 대해 window-ms 안에 들어온 충전/사용 요청을 모아,
+ * 분산 락 1회 + 트랜잭션 1회로 한꺼번에 반영합니다.
+ * <ul>
+ *   <li>배치를 처음 연 요청 스레드가 리더가 되어 window-ms 동안(또는 max-batch가 찰 때까지) 기다린 뒤 반영</li>
+ *   <li>요청은 도착 순서대로 UserPoint에 적용하며, 검증에 실패한 요청만 해당 예외로 실패 (나머지는 반영)</li>
+ *   <li>잔액 UPDATE는 커밋 시 1회, 이력은 PointHistoryJdbcRepository로 배치 INSERT 1회</li>
+ *   <li>요청마다 자신의 결과(반영 직후 잔액)로 future를 완료</li>
+ * </ul>
+ * 사용자 조회 실패, 락 획득 실패 등 배치 전체가 실패하면 배치의 모든 요청이 같은 예외로 실패합니다.
+ * <p>
+ * 지표: point.group-commit.batch.size (배치당 요청 수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointGroupCommitter {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryJdbcRepository pointHistoryJdbcRepository;
+    private final PointService pointService;
+    private final PointUpdateExecutor pointUpdateExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${point.group-commit.window-ms:5}")
+    private long windowMs = 5L;
+
+    @Value("${point.group-commit.max-batch:100}")
+    private int maxBatch = 100;
+
+    private final Map<Long, Batch> batches = new ConcurrentHashMap<>();
+    private DistributionSummary batchSize;
+
+    public record Result(
+            long userId,
+            long balance,
+            long version
+    ){}
+
+    @PostConstruct
+    void init() {
+        batchSize = DistributionSummary.builder("point.group-commit.batch.size")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 사용자 배치에 넣고 반영 결과를 기다림
+     * - 검증 실패 등 요청의 예외는 원래 예외 그대로 던짐
+     */
+    public Result execute(long userId, TransactionType type, long amount, String description) {
+        try {
+            return submit(userId, type, amount, description).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Result> submit(long userId, TransactionType type, long amount, String description) {
+        Request request = new Request(type, amount, description, new CompletableFuture<>());
+        Batch[] opened = {null};
+
+        batches.compute(userId, (id, current) -> {
+            Batch batch = current;
+            if (batch == null) {
+                batch = new Batch();
+                opened[0] = batch;
+            }
+            batch.requests.add(request);
+            if (batch.requests.size() >= maxBatch) {
+                // 가득 찬 배치는 맵에서 떼어내고 리더를 깨움 (이후 요청은 새 배치로)
+                batch.sealed.countDown();
+                return null;
+            }
+            return batch;
+        });
+
+        if (opened[0] != null) {
+            lead(userId, opened[0]);
+        }
+        return request.future();
+    }
+
+    // 리더: 수집 시간 동안(이미 가득 찼으면 바로) 대기 후 배치를 떼어내 반영
+    private void lead(long userId, Batch batch) {
+        try {
+            batch.sealed.await(windowMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        batches.remove(userId, batch);
+        flush(userId, batch.requests);
+    }
+
+    private void flush(long userId, List<Request> requests) {
+        batchSize.record(requests.size());
+        List<Outcome> outcomes;
+        try {
+            outcomes = pointUpdateExecutor.withLock(userId, () -> apply(userId, requests));
+        } catch (RuntimeException e) {
+            log.warn("포인트 그룹 커밋 실패: userId={}, requests={}", userId, requests.size(), e);
+            requests.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome.error() != null) {
+                requests.get(i).future().completeExceptionally(outcome.error());
+            } else {
+                requests.get(i).future().complete(outcome.result());
+            }
+        }
+    }
+
+    // 락 + 트랜잭션 안에서 실행 (재시도 시 처음부터 다시 적용되도록 결과를 매번 새로 만듦)
+    private List<Outcome> apply(long userId, List<Request> requests) {
+        UserPoint userPoint = userPointRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND, userId));
+
+        // 펜싱 토큰 검증 (lock.fencing.enabled - 임대가 만료된 이전 락 소유자의 갱신 거부)
+        userPoint.applyFencingToken(FencingTokenContext.get(LockGroupType.USER_POINT, userId));
+
+        List<PointHistory> histories = new ArrayList<>(requests.size());
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            try {
+                // UserPoint는 검증을 모두 통과한 뒤에만 잔액을 바꾸므로 실패한 요청은 잔액에 영향 없음
+                histories.add(request.type() == TransactionType.CHARGE
+                        ? pointService.chargePoint(userPoint, request.amount(), request.description())
+                        : pointService.usePoint(userPoint, request.amount(), request.description()));
+                outcomes.add(new Outcome(new Result(userId, userPoint.getBalance(), userPoint.getVersion()), null));
+            } catch (BusinessException e) {
+                outcomes.add(new Outcome(null, e));
+            }
+        }
+
+        pointHistoryJdbcRepository.saveAll(userId, histories);
+        return outcomes;
+    }
+
+    private record Request(
+            TransactionType type,
+            long amount,
+            String description,
+            CompletableFuture<Result> future
+    ){}
+
+    private record Outcome(
+            Result result,
+            RuntimeException error
+    ){}
+
+    // 사용자별 수집 중인 배치 (requests는 batches.compute 안에서만 추가되므로 키 단위로 직렬화됨)
+    private static class Batch {
+        private final List<Request> requests = new ArrayList<>();
+        private final CountDownLatch sealed = new CountDownLatch(1);
+    }
+}
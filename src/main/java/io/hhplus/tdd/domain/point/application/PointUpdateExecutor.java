@@ -0,0 +1,102 @@
+package io.hhplus.tdd.domain.point.application;
+
+import io.hhplus.tdd.common.distributedLock.DistributedLock;
+import io.hhplus.tdd.common.distributedLock.LockGroupType;
+import io.hhplus.tdd.domain.point.exception.PointUpdateConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 포인트 갱신 실행기
+ * <p>
+ * 유스케이스가 선택한 PointUpdateStrategy에 따라 포인트 갱신 로직을 실행합니다.
+ * (프록시를 거쳐야 락/트랜잭션이 적용되므로 방식 선택은 유스케이스에서 하고 이 빈의 메서드를 호출)
+ * <ul>
+ *   <li>DISTRIBUTED_LOCK: @DistributedLock(USER_POINT) + @Transactional (기존 방식)</li>
+ *   <li>OPTIMISTIC_RETRY: 락 없이 트랜잭션을 실행하고, 커밋 시 @Version 충돌이 나면
+ *       point.optimistic-retry 설정에 따라 지터가 섞인 지수 백오프로 트랜잭션 전체를 재시도 (spring-retry)</li>
+ * </ul>
+ * 재시도를 모두 소진하면 PointUpdateConflictException(409)으로 응답합니다.
+ * <p>
+ * 지표: point.update.conflict (result=conflict: 버전 충돌 횟수 , exhausted: 재시도 소진 횟수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointUpdateExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${point.optimistic-retry.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${point.optimistic-retry.initial-interval-ms:10}")
+    private long initialIntervalMs = 10L;
+
+    @Value("${point.optimistic-retry.multiplier:2.0}")
+    private double multiplier = 2.0;
+
+    @Value("${point.optimistic-retry.max-interval-ms:200}")
+    private long maxIntervalMs = 200L;
+
+    private RetryTemplate retryTemplate;
+    private Counter conflicted;
+    private Counter exhausted;
+
+    @PostConstruct
+    void init() {
+        conflicted = conflictCounter("conflict");
+        exhausted = conflictCounter("exhausted");
+        retryTemplate = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(initialIntervalMs, multiplier, maxIntervalMs, true)
+                .retryOn(OptimisticLockingFailureException.class)
+                .traversingCauses()
+                .withListener(new RetryListener() {
+                    @Override
+                    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+                        if (throwable instanceof OptimisticLockingFailureException) {
+                            conflicted.increment();
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @DistributedLock(group = LockGroupType.USER_POINT, key = "#userId")
+    @Transactional
+    public <T> T withLock(long userId, Supplier<T> work) {
+        return work.get();
+    }
+
+    public <T> T withOptimisticRetry(long userId, Supplier<T> work) {
+        return retryTemplate.execute(
+                context -> transactionTemplate.execute(status -> work.get()),
+                context -> {
+                    exhausted.increment();
+                    log.warn("포인트 낙관적 갱신 재시도 소진: userId={}, attempts={}", userId, context.getRetryCount());
+                    throw new PointUpdateConflictException(userId);
+                });
+    }
+
+    private Counter conflictCounter(String result) {
+        return Counter.builder("point.update.conflict")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
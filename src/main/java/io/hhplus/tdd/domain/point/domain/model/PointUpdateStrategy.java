@@ -0,0 +1,13 @@
+package io.hhplus.tdd.domain.point.domain.model;
+
+/**
+ * 포인트 갱신 동시성 제어 방식 (유스케이스별 선택: point.update-strategy.{charge|use})
+ * <ul>
+ *   <li>DISTRIBUTED_LOCK: 사용자별 Redis 분산 락 안에서 갱신 (기본값)</li>
+ *   <li>OPTIMISTIC_RETRY: 락 없이 @Version 충돌 시 트랜잭션 전체를 지터 백오프로 제한 횟수 재시도</li>
+ * </ul>
+ */
+public enum PointUpdateStrategy {
+    DISTRIBUTED_LOCK,
+    OPTIMISTIC_RETRY
+}
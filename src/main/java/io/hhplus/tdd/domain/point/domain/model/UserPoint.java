@@ -2,6 +2,7 @@ package io.hhplus.tdd.domain.point.domain.model;
 
 import io.hhplus.tdd.common.baseEntity.CreatedBaseEntity;
 import io.hhplus.tdd.common.baseEntity.UpdatableBaseEntity;
+import io.hhplus.tdd.common.distributedLock.StaleFencingTokenException;
 import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.point.exception.PointRangeException;
 import jakarta.persistence.*;
@@ -24,6 +25,9 @@ public class UserPoint extends UpdatableBaseEntity{
     @Version
     private Long version;
 
+    // 마지막으로 포인트를 갱신한 락의 펜싱 토큰 (펜싱 미사용 시 null)
+    private Long fenceToken;
+
     // 비즈니스 정책 상수
     private static final long MAX_POINT = 1_000_000_000L;  // 요구사항: 최대 보유 포인트
     private static final long MIN_CHARGE_AMOUNT = 1_000L;   // 비즈니스 정책: 최소 충전 단위 (1,000원)
@@ -31,6 +35,20 @@ public class UserPoint extends UpdatableBaseEntity{
     private static final long MIN_USE_AMOUNT = 100L;        // 비즈니스 정책: 최소 사용 단위 (100원)
 
 
+    /**
+     * 펜싱 토큰 검증 후 기록 (lock.fencing.enabled)
+     * 이미 기록된 토큰보다 작거나 같으면 임대가 만료된 이전 락 소유자로 보고 거부
+     */
+    public void applyFencingToken(Long token){
+        if(token == null){
+            return;
+        }
+        if(this.fenceToken != null && token <= this.fenceToken){
+            throw new StaleFencingTokenException("USER_POINT:" + this.id, token, this.fenceToken);
+        }
+        this.fenceToken = token;
+    }
+
     public void chargePoint(long chargePoint){
 
         if(chargePoint < 0) throw new PointRangeException(ErrorCode.USER_POINT_MUST_POSITIVE , this.id , chargePoint);
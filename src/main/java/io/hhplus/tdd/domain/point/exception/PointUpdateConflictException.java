@@ -0,0 +1,14 @@
+package io.hhplus.tdd.domain.point.exception;
+
+import io.hhplus.tdd.common.exception.BusinessException;
+import io.hhplus.tdd.common.exception.ErrorCode;
+
+/**
+ * 포인트 낙관적 갱신 재시도 소진 (OPTIMISTIC_RETRY)
+ */
+public class PointUpdateConflictException extends BusinessException {
+
+    public PointUpdateConflictException(long userId) {
+        super(ErrorCode.USER_POINT_UPDATE_CONFLICT, userId);
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.domain.point.infrastructure.repository;
+
+import io.hhplus.tdd.domain.point.domain.model.PointHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 이력 일괄 저장 (그룹 커밋)
+ * <p>
+ * PointHistory는 IDENTITY 전략이라 saveAll로는 Hibernate 배치 INSERT가 되지 않으므로,
+ * 한 번에 반영한 여러 건의 이력을 JDBC 배치 1회로 저장합니다.
+ * 현재 트랜잭션(JpaTransactionManager)의 커넥션에 참여하므로 실패 시 함께 롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO point_history (user_id, type, amount, balance_after, description, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(long userId, List<PointHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, history.getType().name());
+            ps.setLong(3, history.getAmount());
+            ps.setLong(4, history.getBalanceAfter());
+            ps.setString(5, history.getDescription());
+            ps.setTimestamp(6, createdAt);
+        });
+    }
+}
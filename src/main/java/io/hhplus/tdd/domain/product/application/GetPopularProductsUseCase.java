@@ -2,6 +2,7 @@ package io.hhplus.tdd.domain.product.application;
 
 import io.hhplus.tdd.common.cache.RedisKey;
 import io.hhplus.tdd.domain.product.domain.model.Product;
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
 import io.hhplus.tdd.domain.product.domain.service.ProductService;
 import io.hhplus.tdd.domain.product.domain.service.RankingService;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
@@ -40,26 +41,28 @@ public class GetPopularProductsUseCase {
         }
     }
 
-    // 전체 결과는 10분 캐시 (스케줄러가 주기적으로 갱신)
+    // 구간(window)별 전체 결과는 10분 캐시 (스케줄러가 주기적으로 갱신)
+    // - TRENDING은 시간 버킷을 감쇠 합산한 '지금 뜨는' 상품
     // - sync=true로 Cache Stampede 방지 (동시 요청 시 첫 요청만 실행)
+    // - 만료 전 확률적 조기 갱신(XFetch): 당첨된 요청 하나만 호출 스레드에서 재계산, 나머지는 기존 값 반환 (EarlyRefreshCache)
     @Transactional(readOnly = true)
     @Cacheable(value = RedisKey.POPULAR_PRODUCTS_NAME, key = RedisKey.POPULAR_PRODUCTS_KEY, sync = true)
-    public List<Output> execute() {
-        return getPopularProducts();
+    public List<Output> execute(RankingWindow window) {
+        return getPopularProducts(window);
     }
 
     // 스케줄러에서 호출 - 캐시 워밍업
     // @CachePut은 항상 메서드를 실행하고 결과를 캐시에 저장
     @Transactional(readOnly = true)
     @CachePut(value = RedisKey.POPULAR_PRODUCTS_NAME, key = RedisKey.POPULAR_PRODUCTS_KEY)
-    public List<Output> refreshCache() {
-        return getPopularProducts();
+    public List<Output> refreshCache(RankingWindow window) {
+        return getPopularProducts(window);
     }
 
     // 실제 비즈니스 로직 - execute()와 refreshCache()에서 공통으로 사용
-    private List<Output> getPopularProducts() {
-        // 1. Redis에서 인기 상품 ID 목록 조회 (스코어 기반 정렬됨)
-        List<Long> popularProductIds = rankingService.getDailyTopRankIds(500);
+    private List<Output> getPopularProducts(RankingWindow window) {
+        // 1. Redis에서 구간별 인기 상품 ID 목록 조회 (스코어 기반 정렬됨)
+        List<Long> popularProductIds = rankingService.getTopRankIds(window, 500);
 
         // 2. ProductService를 통해 상품 정보 조회 (캐시 우선, MGET 활용)
         List<Product> products = productService.getProductsByIds(popularProductIds);
@@ -1,27 +1,27 @@
 package io.hhplus.tdd.domain.product.application;
 
-import io.hhplus.tdd.common.cache.RedisKey;
-import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.product.domain.model.Product;
+import io.hhplus.tdd.domain.product.domain.model.ProductDetailCache;
 import io.hhplus.tdd.domain.product.domain.model.ProductOption;
-import io.hhplus.tdd.domain.product.domain.service.RankingService;
+import io.hhplus.tdd.domain.product.domain.service.ProductService;
+import io.hhplus.tdd.domain.product.domain.service.ProductStockCacheService;
+import io.hhplus.tdd.domain.product.domain.service.RankingScoreAccumulator;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
-import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
-import io.hhplus.tdd.domain.product.exception.ProductException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GetProductDetailUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final ProductStockCacheService productStockCacheService;
     private final ProductOptionRepository productOptionRepository;
-    private final RankingService rankingService;
+    private final RankingScoreAccumulator rankingScoreAccumulator;
 
     public record Input(
             Long id
@@ -50,6 +50,20 @@ public class GetProductDetailUseCase {
             Long basePrice,
             List<OptionOutput> options
     ){
+        public static Output from(ProductDetailCache detail, Map<Long, Long> stocks){
+            List<OptionOutput> optionOutput = detail.options().stream()
+                    .map(option -> new OptionOutput(option.id(), option.optionName(), option.price(), stocks.get(option.id())))
+                    .toList();
+
+            return new Output(
+                    detail.id(),
+                    detail.name(),
+                    detail.description(),
+                    detail.basePrice(),
+                    optionOutput
+            );
+        }
+
         public static Output from(Product product , List<ProductOption> options){
             List<OptionOutput> optionOutput = options.stream()
                     .map(option -> new OptionOutput(option.getId(),option.getOptionName(),option.getPrice(),option.getQuantity()))
@@ -65,28 +79,30 @@ public class GetProductDetailUseCase {
         }
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(
-            value = RedisKey.PRODUCT_DETAIL_NAME,
-            key = RedisKey.PRODUCT_DETAIL_KEY,
-            condition = "#result != null && @productCacheCondition.shouldCache(#result)"
-    )
+    /**
+     * 상품 상세 조회
+     * - 정적 정보(이름, 설명, 옵션)는 @Cacheable 캐시에서 조회
+     * - 재고는 실시간 재고 캐시(Redis Hash)에서 조회 후 합성
+     * - 재고가 적은 상품도 캐시에서 응답 (재고 변경은 커밋 후 재고 캐시에 반영)
+     */
     public Output execute(Input input){
         Long productId = input.id;
 
-        Product product = productRepository.findWithOptionsById(productId).orElseThrow(
-                ()-> new ProductException(ErrorCode.PRODUCT_NOT_FOUND , productId)
+        ProductDetailCache detail = productService.getProductDetail(productId);
+        Map<Long, Long> stocks = productStockCacheService.getStocks(
+                productId,
+                detail.optionIds(),
+                () -> loadStocks(productId)
         );
-        List<ProductOption> optionList = product.getOptions();
-        if (optionList.isEmpty()){
-            throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND , productId);
-        }
 
-        // 조회수 랭킹 업데이트 (조회 1회당 1점)
-        rankingService.addScore(productId, 1.0);
+        // 조회수 랭킹 업데이트 (조회 1회당 1점, 메모리에 모아 주기적으로 반영)
+        rankingScoreAccumulator.add(productId, 1.0);
 
-        return Output.from(product,optionList);
+        return Output.from(detail, stocks);
     }
 
-
+    private Map<Long, Long> loadStocks(Long productId) {
+        return productOptionRepository.findByProductId(productId).stream()
+                .collect(Collectors.toMap(ProductOption::getId, ProductOption::getQuantity));
+    }
 }
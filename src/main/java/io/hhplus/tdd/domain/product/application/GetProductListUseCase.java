@@ -1,9 +1,12 @@
 package io.hhplus.tdd.domain.product.application;
 
+import io.hhplus.tdd.common.cache.RedisKey;
 import io.hhplus.tdd.domain.product.domain.model.Product;
 import io.hhplus.tdd.domain.product.domain.service.ProductService;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +17,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetProductListUseCase {
 
+    // 캐싱하는 앞쪽 페이지 수
+    public static final int CACHED_PAGE_COUNT = 4;
+
     private final ProductRepository productRepository;
     private final ProductService productService;
 
@@ -50,8 +56,23 @@ public class GetProductListUseCase {
         }
     }
 
+    // 첫 4페이지만 10분 캐시 (CacheWarmupEngine이 주기적으로 갱신)
     @Transactional(readOnly = true)
+    @Cacheable(value = RedisKey.PRODUCT_LIST_PAGE_NAME, key = RedisKey.PRODUCT_LIST_PAGE_KEY,
+            condition = "#input.page() < " + CACHED_PAGE_COUNT)
     public List<Output> execute(Input input){
+        return getProductList(input);
+    }
+
+    // 워밍업에서 호출 - 항상 조회 후 캐시 덮어쓰기
+    @Transactional(readOnly = true)
+    @CachePut(value = RedisKey.PRODUCT_LIST_PAGE_NAME, key = RedisKey.PRODUCT_LIST_PAGE_KEY,
+            condition = "#input.page() < " + CACHED_PAGE_COUNT)
+    public List<Output> refreshCache(Input input){
+        return getProductList(input);
+    }
+
+    private List<Output> getProductList(Input input){
         // 페이지에 해당하는 상품 ID만 먼저 조회 
         PageRequest pageRequest = PageRequest.of(input.page(), input.size());
         List<Long> productIds = productRepository.findProductIds(pageRequest);
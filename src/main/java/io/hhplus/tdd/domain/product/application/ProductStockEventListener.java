@@ -0,0 +1,30 @@
+package io.hhplus.tdd.domain.product.application;
+
+import io.hhplus.tdd.domain.product.domain.event.ProductStockChangedEvent;
+import io.hhplus.tdd.domain.product.domain.service.ProductStockCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStockEventListener {
+
+    private final ProductStockCacheService productStockCacheService;
+
+    /**
+     * AFTER_COMMIT: 커밋된 재고 변경량만 재고 캐시에 반영
+     * - 롤백된 차감/복구는 반영되지 않음
+     * - 트랜잭션 밖에서 발행된 경우(fallbackExecution)도 즉시 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void applyStockChanges(ProductStockChangedEvent event) {
+        if (event.changes().isEmpty()) {
+            return;
+        }
+        productStockCacheService.applyChanges(event.changes());
+    }
+}
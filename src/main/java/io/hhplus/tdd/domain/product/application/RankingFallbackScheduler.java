@@ -0,0 +1,65 @@
+package io.hhplus.tdd.domain.product.application;
+
+import io.hhplus.tdd.domain.product.domain.service.RankingService;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 랭킹 부족분 목록 갱신 스케줄러
+ * - 하루 초반 등 랭킹 결과가 부족할 때 채워 넣을 상품 목록을 미리 계산하여 Redis(RANK:fallback)에 저장
+ * - 최근 N일 판매량 상위 상품 → 신상품 순으로 합쳐 최대 size개 유지
+ * - 조회 경로(RankingService.getTopRankIds)는 Redis만 읽으므로 DB 집계는 이 스케줄러에서만 실행
+ * - Redis 임대로 갱신 주기 동안 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingFallbackScheduler {
+
+    private final ProductRepository productRepository;
+    private final RankingService rankingService;
+
+    @Value("${ranking.fallback.sales-days:3}")
+    private int salesDays = 3;
+
+    @Value("${ranking.fallback.size:500}")
+    private int size = 500;
+
+    @Value("${ranking.fallback.refresh-interval-ms:600000}")
+    private long refreshIntervalMs = 600_000L;
+
+    @Scheduled(fixedDelayString = "${ranking.fallback.refresh-interval-ms:600000}")
+    public void refreshFallback() {
+        try {
+            // 임대 TTL을 주기보다 약간 짧게 잡아 다음 주기에 다시 획득 가능하도록 함
+            if (!rankingService.tryAcquireFallbackLease(Duration.ofMillis(refreshIntervalMs * 9 / 10))) {
+                return;
+            }
+
+            Set<Long> ids = new LinkedHashSet<>(productRepository.findTopSellingProductIds(
+                    LocalDateTime.now().minusDays(salesDays), PageRequest.of(0, size)));
+            if (ids.size() < size) {
+                ids.addAll(productRepository.findLatestProductIds(PageRequest.of(0, size)));
+            }
+
+            List<Long> fallbackIds = new ArrayList<>(ids).subList(0, Math.min(ids.size(), size));
+            rankingService.replaceFallbackIds(fallbackIds);
+            log.info("랭킹 부족분 목록 갱신 완료: count={}", fallbackIds.size());
+        } catch (Exception e) {
+            // 실패해도 기존 목록은 TTL 동안 유지
+            log.error("랭킹 부족분 목록 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.domain.product.application;
+
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
+import io.hhplus.tdd.domain.product.domain.service.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간 랭킹 재계산 스케줄러
+ * - 짧은 주기로 깨어나 재계산 주기가 돌아온 구간만 다시 계산
+ * - Redis 임대로 구간별 재계산 주기 동안 한 노드만 실행 (중복 ZUNIONSTORE 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingMaterializeScheduler {
+
+    private final RankingService rankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.materialize.tick-ms:5000}")
+    public void materializeDueWindows() {
+        for (RankingWindow window : RankingWindow.values()) {
+            try {
+                if (rankingService.tryAcquireMaterializeLease(window)) {
+                    rankingService.materialize(window);
+                    log.debug("구간 랭킹 재계산 완료: window={}", window);
+                }
+            } catch (Exception e) {
+                // 실패해도 기존 구간 랭킹은 유지되며, 임대 만료 후 다시 시도
+                log.error("구간 랭킹 재계산 실패: window={}", window, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.domain.product.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.consumed.ConsumedEventLog;
+import io.hhplus.tdd.common.consumed.ConsumedEventLogRepository;
+import io.hhplus.tdd.domain.product.domain.event.StockReconcileEvent;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 재고 원장 정산 컨슈머 (REDIS_LEDGER 모드)
+ * - Redis 원장에서 확정된 주문 단위 재고 변경량을 product_option에 반영
+ * - ConsumedEventLog 기록과 재고 UPDATE를 한 트랜잭션으로 묶어 (orderId, action)당 한 번만 반영
+ * - 반영 실패 시 예외를 던져 컨테이너 에러 핸들러가 재시도
+ * - 파싱 불가 메시지는 재시도 없이 DLT(StockReconcile.DLT)로 이동
+ * - RELEASE는 DB 반영 전에 Redis 원장 복구를 한 번 더 수행 (취소 직후 복구가 실패해도 원장 재고가 유실되지 않음)
+ *   원장 복구는 예약 기록(RELEASED)으로 멱등하므로 취소 직후 복구가 이미 성공했으면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReconcileEventConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final ConsumedEventLogRepository consumedEventLogRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StockLedgerService stockLedgerService;
+
+    @KafkaListener(
+        topics = StockReconcileEventListener.EVENT_TYPE,
+        groupId = "stock-reconcile-group",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeStockReconcile(
+            @Payload String payload,
+            @Header(KafkaHeaders.RECEIVED_KEY) String key,
+            @Header(KafkaHeaders.OFFSET) long offset
+    ) {
+        StockReconcileEvent event;
+        try {
+            event = objectMapper.readValue(payload, StockReconcileEvent.class);
+        } catch (JsonProcessingException e) {
+            // 파싱 불가 메시지는 재시도해도 같으므로 에러 핸들러가 바로 DLT로 보냄 (ack로 재고 변경량이 유실되지 않게)
+            log.error("Failed to parse StockReconcileEvent payload: {}", payload, e);
+            throw new MessageConversionException("StockReconcileEvent 파싱 실패 - offset: " + offset, e);
+        }
+
+        String eventId = event.eventId();
+
+        // 멱등성 검증
+        if (consumedEventLogRepository.existsByEventIdAndEventType(eventId, StockReconcileEventListener.EVENT_TYPE)) {
+            log.warn("이미 정산된 재고 이벤트입니다. EventId: {}", eventId);
+            return;
+        }
+
+        // 원장 복구 실패 시 예외 전파 -> 에러 핸들러가 재시도 후 DLT로 보관 (DB도 반영하지 않아 원장과 어긋나지 않음)
+        if (event.action() == StockReconcileEvent.Action.RELEASE) {
+            releaseLedger(event);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (StockReconcileEvent.Line line : event.lines()) {
+                    productOptionRepository.addQuantity(line.productOptionId(), line.delta());
+                }
+                consumedEventLogRepository.save(ConsumedEventLog.create(
+                        eventId,
+                        StockReconcileEventListener.EVENT_TYPE,
+                        this.getClass().getSimpleName(),
+                        payload
+                ));
+            });
+            log.info("재고 정산 완료 - EventId: {}, Lines: {}, Offset: {}", eventId, event.lines().size(), offset);
+
+        } catch (DataIntegrityViolationException e) {
+            // Unique Constraint 위반 (동일 이벤트가 동시에 처리되려 한 경우) - 트랜잭션 롤백으로 재고도 반영되지 않음
+            log.warn("재고 정산 이벤트 동시 처리 시도 감지, 스킵. EventId: {}", eventId);
+        }
+    }
+
+    // 복구 스크립트는 상품 ID를 사용하지 않음
+    private void releaseLedger(StockReconcileEvent event) {
+        List<StockLedgerService.StockLine> lines = event.lines().stream()
+                .map(line -> new StockLedgerService.StockLine(null, line.productOptionId(), Math.toIntExact(line.delta())))
+                .toList();
+        boolean released = stockLedgerService.release(event.orderId(), lines);
+        if (released) {
+            // 취소 직후 복구가 실패했거나 아직 실행되기 전
+            log.info("정산 단계에서 재고 원장 복구 - OrderId: {}", event.orderId());
+        }
+    }
+}
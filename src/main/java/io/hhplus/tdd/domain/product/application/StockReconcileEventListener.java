@@ -0,0 +1,74 @@
+package io.hhplus.tdd.domain.product.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.outbox.OutboxEventRepository;
+import io.hhplus.tdd.common.outbox.OutboxEventTable;
+import io.hhplus.tdd.common.outbox.OutboxService;
+import io.hhplus.tdd.common.outbox.OutboxStatus;
+import io.hhplus.tdd.domain.product.domain.event.StockReconcileEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 원장 정산 이벤트 Outbox 저장/발행
+ * - 주문 트랜잭션과 같은 커밋으로 Outbox에 저장하여 정산 누락 방지
+ * - 즉시 발행 실패 시 OutboxEventPoller가 재발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReconcileEventListener {
+
+    static final String AGGREGATE_TYPE = "STOCK";
+    static final String EVENT_TYPE = "StockReconcile";
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void saveToOutbox(StockReconcileEvent event) {
+        try {
+            String payloadJson = objectMapper.writeValueAsString(event);
+
+            OutboxEventTable outboxEvent = OutboxEventTable.builder()
+                    .aggregateType(AGGREGATE_TYPE)
+                    .aggregateId(event.eventId())
+                    .eventType(EVENT_TYPE)
+                    .payload(payloadJson)
+                    .build();
+
+            outboxRepository.save(outboxEvent);
+
+            log.info(" [BEFORE_COMMIT] 재고 정산 Outbox 저장 완료 - EventId: {}", event.eventId());
+
+        } catch (JsonProcessingException e) {
+            log.error("재고 정산 Outbox JSON 변환 실패 - EventId: {}", event.eventId(), e);
+            throw new RuntimeException("Outbox 저장 실패", e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishToKafka(StockReconcileEvent event) {
+        OutboxEventTable outboxEvent = outboxRepository
+                .findTopByAggregateTypeAndAggregateIdAndEventTypeAndStatusOrderByCreatedAtDesc(
+                        AGGREGATE_TYPE,
+                        event.eventId(),
+                        EVENT_TYPE,
+                        OutboxStatus.PENDING
+                );
+
+        if (outboxEvent == null) {
+            log.error(" [AFTER_COMMIT] 재고 정산 Outbox 레코드를 찾을 수 없음 - EventId: {}", event.eventId());
+            return;
+        }
+
+        outboxService.publishEvent(outboxEvent);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.domain.product.domain.event;
+
+import java.util.List;
+
+/**
+ * 상품 옵션 재고 변경 이벤트
+ * - 재고 차감/복구 시 발행되며, 커밋 이후 재고 캐시에 변경량을 반영하는 데 사용
+ *
+ * @param changes 옵션별 재고 변경량 (차감은 음수, 복구는 양수)
+ */
+public record ProductStockChangedEvent(
+        List<StockChange> changes
+) {
+    public record StockChange(
+            Long productId,
+            Long productOptionId,
+            long delta
+    ) {}
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.domain.product.domain.event;
+
+import java.util.List;
+
+/**
+ * 재고 원장 정산 이벤트 (REDIS_LEDGER 모드)
+ * - Redis 원장에서 이미 반영된 주문 단위 재고 변경을 DB(product_option)에 비동기로 반영하기 위해 발행
+ * - Outbox에 저장 후 Kafka(StockReconcile)로 전달되며, 컨슈머는 (orderId, action) 단위로 한 번만 반영
+ *
+ * @param orderId 주문 ID
+ * @param action  RESERVE(결제 차감) / RELEASE(취소 복구)
+ * @param lines   옵션별 재고 변경량 (차감은 음수, 복구는 양수)
+ */
+public record StockReconcileEvent(
+        Long orderId,
+        Action action,
+        List<Line> lines
+) {
+    public enum Action {
+        RESERVE,
+        RELEASE
+    }
+
+    public record Line(
+            Long productOptionId,
+            long delta
+    ) {}
+
+    // 멱등성 키 (ConsumedEventLog.eventId , Outbox aggregateId)
+    public String eventId() {
+        return orderId + ":" + action.name();
+    }
+}
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.domain.product.domain.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Redis 캐시에 저장할 상품 상세의 정적 정보
+ * - 이름, 설명, 기본 가격, 옵션(이름/가격)만 포함
+ * - 재고는 자주 변하므로 포함하지 않음 (ProductStockCacheService에서 별도 관리)
+ */
+public record ProductDetailCache(
+        Long id,
+        String name,
+        String description,
+        Long basePrice,
+        List<OptionInfo> options
+) implements Serializable {
+
+    public record OptionInfo(
+            Long id,
+            String optionName,
+            Long price
+    ) implements Serializable {}
+
+    public static ProductDetailCache from(Product product, List<ProductOption> options) {
+        List<OptionInfo> optionInfos = options.stream()
+                .map(option -> new OptionInfo(option.getId(), option.getOptionName(), option.getPrice()))
+                .toList();
+
+        return new ProductDetailCache(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getBasePrice(),
+                optionInfos
+        );
+    }
+
+    public List<Long> optionIds() {
+        return options.stream()
+                .map(OptionInfo::id)
+                .toList();
+    }
+}
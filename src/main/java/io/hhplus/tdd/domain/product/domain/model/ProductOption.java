@@ -1,5 +1,6 @@
 package io.hhplus.tdd.domain.product.domain.model;
 
+import io.hhplus.tdd.common.distributedLock.StaleFencingTokenException;
 import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.product.exception.ProductException;
 import jakarta.persistence.*;
@@ -33,6 +34,23 @@ public class ProductOption {
     @Column(nullable = false)
     private Long quantity;
 
+    // 마지막으로 재고를 갱신한 락의 펜싱 토큰 (펜싱 미사용 시 null)
+    private Long fenceToken;
+
+    /**
+     * 펜싱 토큰 검증 후 기록 (lock.fencing.enabled)
+     * 이미 기록된 토큰보다 작거나 같으면 임대가 만료된 이전 락 소유자로 보고 거부
+     */
+    public void applyFencingToken(Long token){
+        if(token == null){
+            return;
+        }
+        if(this.fenceToken != null && token <= this.fenceToken){
+            throw new StaleFencingTokenException("PRODUCT_OPTION:" + this.id, token, this.fenceToken);
+        }
+        this.fenceToken = token;
+    }
+
 
     /**
      * 재고 충분 여부 검증 (차감하지 않음)
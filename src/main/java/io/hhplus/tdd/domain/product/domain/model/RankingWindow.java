@@ -0,0 +1,52 @@
+package io.hhplus.tdd.domain.product.domain.model;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 인기 상품 랭킹 집계 구간
+ * <p>
+ * 시간/일 단위 랭킹 버킷(RANK:hourly:yyyyMMddHH , RANK:daily:yyyyMMdd)들을 가중 합산하여 구간별 랭킹을 만듭니다.
+ * <ul>
+ *   <li>TRENDING: 최근 24시간 (시간 단위, 반감기 3시간 지수 감쇠) - "지금 뜨는 상품"</li>
+ *   <li>DAILY: 오늘 + 어제(0.5)</li>
+ *   <li>WEEKLY: 최근 7일 (동일 가중치)</li>
+ *   <li>MONTHLY: 최근 30일 (동일 가중치)</li>
+ * </ul>
+ * halfLifeBuckets가 0이면 현재 버킷 1.0 , 지난 버킷 pastBucketWeight를 적용합니다.
+ * refreshInterval: 미리 계산된 랭킹을 다시 만드는 주기
+ */
+@Getter
+public enum RankingWindow {
+
+    TRENDING(ChronoUnit.HOURS, 24, 0.0, 3.0, Duration.ofMinutes(1)),
+    DAILY(ChronoUnit.DAYS, 2, 0.5, 0.0, Duration.ofSeconds(10)),
+    WEEKLY(ChronoUnit.DAYS, 7, 1.0, 0.0, Duration.ofMinutes(1)),
+    MONTHLY(ChronoUnit.DAYS, 30, 1.0, 0.0, Duration.ofMinutes(5));
+
+    private final ChronoUnit bucketUnit;
+    private final int buckets;
+    private final double pastBucketWeight;
+    private final double halfLifeBuckets;
+    private final Duration refreshInterval;
+
+    RankingWindow(ChronoUnit bucketUnit, int buckets, double pastBucketWeight,
+                  double halfLifeBuckets, Duration refreshInterval) {
+        this.bucketUnit = bucketUnit;
+        this.buckets = buckets;
+        this.pastBucketWeight = pastBucketWeight;
+        this.halfLifeBuckets = halfLifeBuckets;
+        this.refreshInterval = refreshInterval;
+    }
+
+    // bucketsAgo번째 이전 버킷의 가중치 (0 = 현재 버킷)
+    public double weightOf(int bucketsAgo) {
+        if (halfLifeBuckets > 0) {
+            // 지수 감쇠: 반감기마다 가중치 절반
+            return Math.pow(0.5, bucketsAgo / halfLifeBuckets);
+        }
+        return bucketsAgo == 0 ? 1.0 : pastBucketWeight;
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.domain.product.domain.model;
+
+/**
+ * 결제 시 재고 차감 방식 (배포 단위로 선택: stock.deduction-mode)
+ * <ul>
+ *   <li>PESSIMISTIC_LOCK: 옵션별 분산 락 + SELECT ... FOR UPDATE 후 엔티티 차감 (기본값)</li>
+ *   <li>REDIS_LEDGER: Redis 재고 원장에서 Lua 스크립트로 주문 전체를 원자적으로 차감, DB는 비동기 정산</li>
+ *   <li>CONDITIONAL_UPDATE: 라인별 조건부 UPDATE(quantity >= ?)를 JDBC 배치로 실행, 락 없이 영향 행 수로 검증</li>
+ *   <li>ADAPTIVE: 핫 옵션(HotKeyDetector)만 옵션 분산 락으로 직렬화하고, 나머지 옵션은 락 없이 조건부 UPDATE로 검증</li>
+ * </ul>
+ */
+public enum StockDeductionMode {
+    PESSIMISTIC_LOCK,
+    REDIS_LEDGER,
+    CONDITIONAL_UPDATE,
+    ADAPTIVE
+}
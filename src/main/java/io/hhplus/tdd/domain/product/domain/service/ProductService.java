@@ -1,12 +1,20 @@
 package io.hhplus.tdd.domain.product.domain.service;
 
+import io.hhplus.tdd.common.cache.CacheLoadLease;
 import io.hhplus.tdd.common.cache.MultiGetCacheService;
 import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.cache.SingleFlightLoader;
+import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.product.domain.model.Product;
 import io.hhplus.tdd.domain.product.domain.model.ProductCache;
+import io.hhplus.tdd.domain.product.domain.model.ProductDetailCache;
+import io.hhplus.tdd.domain.product.exception.ProductException;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -20,42 +28,50 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final MultiGetCacheService multiGetCacheService;
+    private final CacheLoadLease cacheLoadLease;
+
+    @Value("${cache.single-flight.wait-timeout-ms:3000}")
+    private long waitTimeoutMs = 3000L;
+
+    // true: Redis 임대로 클러스터 전체에서 ID당 DB 조회 1회 / false: 노드 내 병합만 적용
+    @Value("${cache.single-flight.cluster-lease.enabled:false}")
+    private boolean clusterLeaseEnabled;
+
+    // 다른 노드의 임대 반환 알림을 기다리는 최대 시간 (초과 시 직접 DB 조회)
+    @Value("${cache.single-flight.cluster-lease.wait-timeout-ms:500}")
+    private long leaseWaitTimeoutMs = 500L;
+
+    // 동시에 들어온 캐시 미스를 ID별로 병합하여 노드당 DB 조회 1회로 제한
+    private SingleFlightLoader<Long, ProductCache> singleFlightLoader;
+
+    @PostConstruct
+    void init() {
+        singleFlightLoader = new SingleFlightLoader<>(Duration.ofMillis(waitTimeoutMs));
+    }
 
     public List<Product> getProductsByIds(List<Long> ids) {
         if (ids == null || ids.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 캐시에서  조회
+        // 캐시에서  조회 (만료 임박 항목은 백그라운드에서 조기 갱신)
         Map<Long, ProductCache> cachedMap = multiGetCacheService.getMap(
                 RedisKey.CACHE_PRODUCT_BY_ID,
                 ids,
-                ProductCache.class
+                ProductCache.class,
+                this::loadFromDb
         );
 
-        // 캐시 미스된 ID
-        List<Long> missingIds = ids.stream()
+        // 캐시 미스된 ID (존재하지 않는 ID로 기록된 항목은 DB 조회 생략)
+        List<Long> missingIds = withoutAbsent(ids.stream()
                 .filter(id -> !cachedMap.containsKey(id))
-                .toList();
+                .distinct()
+                .toList());
 
-        // DB 조회 후 캐시에 저장
+        // 진행 중인 로드와 병합하여 DB 조회 후 캐시에 저장
         if (!missingIds.isEmpty()) {
             log.debug("Cache miss for product ids: {}", missingIds);
-
-            List<Product> dbProducts = productRepository.findAllById(missingIds);
-            Map<Long, ProductCache> dbMap = dbProducts.stream()
-                    .collect(Collectors.toMap(
-                            Product::getId,
-                            ProductCache::from
-                    ));
-
-            // 캐시에 저장
-            multiGetCacheService.putAll(
-                    RedisKey.CACHE_PRODUCT_BY_ID,
-                    dbMap
-            );
-
-            cachedMap.putAll(dbMap);
+            cachedMap.putAll(singleFlightLoader.load(missingIds, this::loadMissing));
         }
 
         return ids.stream()
@@ -65,9 +81,116 @@ public class ProductService {
                 .toList();
     }
 
-    // 상품 정보가 업데이트될 때 캐시 무효화
+    /**
+     * 상품 상세의 정적 정보 조회 (이름, 설명, 옵션)
+     * - 재고를 포함하지 않으므로 재고와 무관하게 항상 캐싱
+     * - 재고는 ProductStockCacheService에서 별도 조회
+     */
+    @Cacheable(value = RedisKey.PRODUCT_DETAIL_NAME, key = RedisKey.PRODUCT_DETAIL_KEY, sync = true)
+    public ProductDetailCache getProductDetail(Long productId) {
+        Product product = productRepository.findWithOptionsById(productId).orElseThrow(
+                () -> new ProductException(ErrorCode.PRODUCT_NOT_FOUND, productId)
+        );
+        if (product.getOptions().isEmpty()) {
+            throw new ProductException(ErrorCode.PRODUCT_NOT_FOUND, productId);
+        }
+        return ProductDetailCache.from(product, product.getOptions());
+    }
+
+    // 상품 정보가 업데이트될 때 캐시 무효화 (Redis 삭제 + 전 노드 L1 무효화)
     public void invalidateCache(List<Long> productIds) {
         multiGetCacheService.deleteByIds(RedisKey.CACHE_PRODUCT_BY_ID, productIds);
+        multiGetCacheService.deleteByIds(RedisKey.CACHE_PRODUCT_ABSENT, productIds);
         log.info("Invalidated product cache for ids: {}", productIds);
     }
+
+    // 노드 내에서 이 요청이 담당하게 된 미스 ID 로드
+    private Map<Long, ProductCache> loadMissing(List<Long> ids) {
+        if (!clusterLeaseEnabled) {
+            return loadFromDbAndCache(ids);
+        }
+
+        // 임대를 얻은 ID만 DB 조회, 나머지는 다른 노드가 채운 캐시를 대기
+        CacheLoadLease.Lease lease = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+        List<Long> leasedIds = lease.ids();
+        Map<Long, ProductCache> result = new HashMap<>();
+        try {
+            result.putAll(loadFromDbAndCache(leasedIds));
+        } finally {
+            cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, lease);
+        }
+
+        List<Long> waitingIds = ids.stream()
+                .filter(id -> !leasedIds.contains(id))
+                .toList();
+        if (!waitingIds.isEmpty()) {
+            result.putAll(awaitOtherNode(waitingIds));
+        }
+        return result;
+    }
+
+    // 다른 노드가 임대 중인 ID는 반환 알림을 기다린 뒤 캐시를 한 번 조회하고, 그래도 없으면 직접 DB 조회
+    private Map<Long, ProductCache> awaitOtherNode(List<Long> ids) {
+        boolean released = cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, ids, Duration.ofMillis(leaseWaitTimeoutMs));
+
+        Map<Long, ProductCache> result = new HashMap<>(
+                multiGetCacheService.getMap(RedisKey.CACHE_PRODUCT_BY_ID, ids, ProductCache.class));
+        List<Long> remaining = withoutAbsent(ids.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList());
+
+        if (!remaining.isEmpty()) {
+            // 임대 보유 노드의 로드 실패 또는 대기 시간 초과
+            log.debug("Cache lease wait finished without value (released={}), loading from DB: {}", released, remaining);
+            result.putAll(loadFromDbAndCache(remaining));
+        }
+        return result;
+    }
+
+    // Negative Cache에 기록된 ID 제외
+    private List<Long> withoutAbsent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        Set<Long> absentIds = multiGetCacheService.getAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, ids);
+        if (absentIds.isEmpty()) {
+            return ids;
+        }
+        return ids.stream()
+                .filter(id -> !absentIds.contains(id))
+                .toList();
+    }
+
+    private Map<Long, ProductCache> loadFromDbAndCache(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long start = System.nanoTime();
+        Map<Long, ProductCache> dbMap = loadFromDb(ids);
+
+        // 캐시에 저장 (조회 비용을 함께 기록하여 조기 갱신 판정에 사용)
+        multiGetCacheService.putAll(
+                RedisKey.CACHE_PRODUCT_BY_ID,
+                dbMap,
+                Duration.ofNanos(System.nanoTime() - start)
+        );
+
+        // DB에도 없는 ID는 짧게 기록하여 반복 요청 시 DB 조회 생략
+        List<Long> absentIds = ids.stream()
+                .filter(id -> !dbMap.containsKey(id))
+                .toList();
+        multiGetCacheService.putAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, absentIds);
+
+        return dbMap;
+    }
+
+    private Map<Long, ProductCache> loadFromDb(List<Long> ids) {
+        List<Product> dbProducts = productRepository.findAllById(ids);
+        return dbProducts.stream()
+                .collect(Collectors.toMap(
+                        Product::getId,
+                        ProductCache::from
+                ));
+    }
 }
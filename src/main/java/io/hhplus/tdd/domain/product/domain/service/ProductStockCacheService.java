@@ -0,0 +1,189 @@
+package io.hhplus.tdd.domain.product.domain.service;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.product.domain.event.ProductStockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 옵션 실시간 재고 캐시
+ * <p>
+ * 상품별 Redis Hash(CACHE:stock:{productId})에 옵션ID → 재고를 보관합니다.
+ * <ul>
+ *   <li>조회: 캐시에 없는 옵션만 DB에서 읽어 HSETNX로 채움 (이미 반영된 최신 값은 덮어쓰지 않음)</li>
+ *   <li>변경: 커밋 이후 변경량을 Lua 스크립트로 원자적으로 반영 (필드가 있을 때만 HINCRBY)</li>
+ *   <li>변경이 반영될 때마다 버전 필드(_v)를 올리고, 채우기는 DB 조회 전에 읽은 버전과 같을 때만 수행</li>
+ * </ul>
+ * 변경량 방식이므로 동시에 커밋된 주문의 반영 순서가 바뀌어도 결과가 같습니다.
+ * DB 조회와 채우기 사이에 커밋된 변경은 필드가 없어 건너뛰어지므로, 버전이 바뀌었으면 그 스냅샷은 버리고
+ * 다음 조회에서 다시 채웁니다. (오래된 스냅샷이 TTL 동안 남지 않도록)
+ * 재고 캐시는 표시용이며, 주문 시 재고 검증은 항상 DB 기준입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockCacheService {
+
+    // 재고 변경 반영 버전 (옵션 ID는 숫자이므로 필드 이름이 겹치지 않음)
+    private static final String VERSION_FIELD = "_v";
+
+    /**
+     * KEYS[1] = 재고 Hash
+     * ARGV[1] = Hash TTL(ms) , ARGV[2..] = 옵션 ID, 변경량 쌍
+     * 필드가 존재하는 옵션만 변경량 반영 (없는 필드는 다음 조회 시 DB 값으로 채워짐)
+     * 버전은 항상 올림 - 진행 중인 채우기가 이 변경 이전의 DB 스냅샷을 쓰지 못하게 함 (Hash가 없으면 TTL과 함께 생성)
+     */
+    private static final String APPLY_DELTA_SCRIPT =
+            "for i = 2, #ARGV, 2 do " +
+            "  if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then " +
+            "    redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  end " +
+            "end " +
+            "redis.call('HINCRBY', KEYS[1], '" + VERSION_FIELD + "', 1) " +
+            "if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return 1";
+
+    /**
+     * KEYS[1] = 재고 Hash
+     * ARGV[1] = DB 조회 전에 읽은 버전 ('' = 버전 없음) , ARGV[2] = Hash TTL(ms) , ARGV[3..] = 옵션 ID, 재고 쌍
+     * 반환: 1 = 채움 , 0 = 그 사이 변경이 반영되어 스냅샷을 버림
+     */
+    private static final String BACKFILL_SCRIPT =
+            "local version = redis.call('HGET', KEYS[1], '" + VERSION_FIELD + "') or '' " +
+            "if version ~= ARGV[1] then return 0 end " +
+            "for i = 3, #ARGV, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 옵션별 재고 조회
+     *
+     * @param productId 상품 ID
+     * @param optionIds 조회할 옵션 ID 목록
+     * @param dbLoader  캐시 미스 시 DB에서 옵션ID → 재고를 읽는 함수
+     * @return 옵션ID → 재고
+     */
+    public Map<Long, Long> getStocks(Long productId, List<Long> optionIds, Supplier<Map<Long, Long>> dbLoader) {
+        String key = stockKey(productId);
+        Map<String, String> raw;
+        try {
+            RMap<String, String> hash = redissonClient.getMap(key, StringCodec.INSTANCE);
+            raw = hash.readAllMap();
+        } catch (Exception e) {
+            log.error("재고 캐시 조회 실패, DB 조회로 대체: productId={}", productId, e);
+            return dbLoader.get();
+        }
+        // DB 조회 전에 읽은 버전 - 채우기 시점까지 바뀌지 않았을 때만 스냅샷을 캐시에 씀
+        String version = raw.getOrDefault(VERSION_FIELD, "");
+        Map<Long, Long> stocks = toLongMap(raw);
+
+        if (stocks.keySet().containsAll(optionIds)) {
+            return stocks;
+        }
+
+        // 캐시에 없는 옵션은 DB 값으로 채움 (HSETNX: 그 사이 반영된 값은 유지)
+        Map<Long, Long> dbStocks = dbLoader.get();
+        backfill(key, version, dbStocks, stocks.keySet());
+
+        Map<Long, Long> merged = new HashMap<>(dbStocks);
+        merged.putAll(stocks);
+        return merged;
+    }
+
+    // 커밋된 재고 변경량을 상품별 Hash에 반영 (파이프라인 1회)
+    public void applyChanges(List<ProductStockChangedEvent.StockChange> changes) {
+        Map<Long, List<ProductStockChangedEvent.StockChange>> byProduct = changes.stream()
+                .collect(Collectors.groupingBy(ProductStockChangedEvent.StockChange::productId));
+
+        RBatch batch = redissonClient.createBatch();
+        String ttlMs = String.valueOf(RedisKey.CACHE_PRODUCT_STOCK.getTtlWithJitter().toMillis());
+        byProduct.forEach((productId, productChanges) -> {
+            List<Object> args = new ArrayList<>();
+            args.add(ttlMs);
+            for (ProductStockChangedEvent.StockChange change : productChanges) {
+                args.add(String.valueOf(change.productOptionId()));
+                args.add(String.valueOf(change.delta()));
+            }
+            batch.getScript(StringCodec.INSTANCE).evalAsync(
+                    RScript.Mode.READ_WRITE,
+                    APPLY_DELTA_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(stockKey(productId)),
+                    args.toArray()
+            );
+        });
+
+        try {
+            batch.execute();
+            log.debug("재고 캐시 반영: products={}, changes={}", byProduct.size(), changes.size());
+        } catch (Exception e) {
+            // 반영 실패 시 해당 상품 재고 캐시를 삭제하여 다음 조회에서 DB 값으로 다시 채움
+            log.error("재고 캐시 반영 실패, 캐시 삭제: productIds={}", byProduct.keySet(), e);
+            evict(byProduct.keySet());
+        }
+    }
+
+    public void evict(Collection<Long> productIds) {
+        try {
+            String[] keys = productIds.stream()
+                    .map(this::stockKey)
+                    .toArray(String[]::new);
+            redissonClient.getKeys().delete(keys);
+        } catch (Exception e) {
+            log.error("재고 캐시 삭제 실패: productIds={}", productIds, e);
+        }
+    }
+
+    private void backfill(String key, String version, Map<Long, Long> dbStocks, Set<Long> cachedOptionIds) {
+        List<Object> args = new ArrayList<>();
+        args.add(version);
+        args.add(String.valueOf(RedisKey.CACHE_PRODUCT_STOCK.getTtlWithJitter().toMillis()));
+        dbStocks.forEach((optionId, quantity) -> {
+            if (!cachedOptionIds.contains(optionId)) {
+                args.add(String.valueOf(optionId));
+                args.add(String.valueOf(quantity));
+            }
+        });
+
+        try {
+            Long filled = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    BACKFILL_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.<Object>of(key),
+                    args.toArray()
+            );
+            if (filled == null || filled == 0L) {
+                log.debug("재고 캐시 적재 생략 (조회 중 재고 변경 반영됨): key={}", key);
+            }
+        } catch (Exception e) {
+            log.error("재고 캐시 적재 실패: key={}", key, e);
+        }
+    }
+
+    private Map<Long, Long> toLongMap(Map<String, String> raw) {
+        Map<Long, Long> result = new HashMap<>();
+        raw.forEach((field, value) -> {
+            if (!VERSION_FIELD.equals(field)) {
+                result.put(Long.valueOf(field), Long.valueOf(value));
+            }
+        });
+        return result;
+    }
+
+    private String stockKey(Long productId) {
+        return RedisKey.CACHE_PRODUCT_STOCK.getFullKey(String.valueOf(productId));
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.domain.product.domain.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 랭킹 점수 메모리 누적기
+ * <p>
+ * 상품 조회마다 Redis에 쓰지 않고 메모리에 상품별 점수를 모아두었다가,
+ * 주기적으로 RankingService.addScores로 한 번에 반영합니다. (파이프라인 1회)
+ * <p>
+ * 노드가 비정상 종료되면 마지막 주기의 조회수는 유실될 수 있습니다. (조회수 랭킹 특성상 허용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingScoreAccumulator {
+
+    private final RankingService rankingService;
+
+    private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+    // 점수 누적 (키 단위 원자적 합산)
+    public void add(long productId, double score) {
+        pending.merge(productId, score, Double::sum);
+    }
+
+    // 누적된 점수를 Redis에 반영 (기본 1초마다)
+    @Scheduled(fixedDelayString = "${ranking.view-flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키별로 원자적으로 꺼내므로 flush 중 들어온 점수는 다음 주기에 반영됨
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long productId : pending.keySet()) {
+            Double score = pending.remove(productId);
+            if (score != null) {
+                scores.put(productId, score);
+            }
+        }
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        try {
+            rankingService.addScores(scores);
+            log.debug("조회수 랭킹 반영: products={}", scores.size());
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            scores.forEach(this::add);
+            log.error("조회수 랭킹 반영 실패, 다음 주기에 재시도: products={}", scores.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,85 +1,207 @@
 package io.hhplus.tdd.domain.product.domain.service;
 
 import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
 import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
     private final RedissonClient redissonClient;
 
-    // 인기상품 점수 추가
-    public void addScore(long productId, double score) {
-        String todayKey = getDailyKey(LocalDate.now());
+    // 구간 랭킹에 보관하는 최대 상품 수
+    @Value("${ranking.materialize.max-size:1000}")
+    private int materializeMaxSize = 1000;
 
-        RScoredSortedSet<String> todaySet = redissonClient.getScoredSortedSet(todayKey);
+    // 버킷별로 유지하는 최대 상품 수
+    @Value("${ranking.bucket.top-k:5000}")
+    private int bucketTopK = 5000;
 
-        todaySet.addScore(String.valueOf(productId), score);
+    private static final DateTimeFormatter DAILY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter HOURLY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
 
-        if (todaySet.remainTimeToLive() == -1) {
-            Duration ttl = RedisKey.RANK_DAILY.getTtlWithJitter();
-            todaySet.expire(ttl.toMillis(), TimeUnit.MILLISECONDS);
+    // 인기상품 점수 추가
+    public void addScore(long productId, double score) {
+        addScores(Map.of(productId, score));
+    }
+
+    /**
+     * 인기상품 점수 일괄 추가
+     * - 일일 버킷과 시간 버킷에 같은 점수를 반영
+     * - 모든 ZINCRBY를 RBatch 파이프라인 1회로 전송
+     * - TTL은 같은 파이프라인에서 EXPIRE NX로 설정 (TTL이 없을 때만 설정 - 삭제/만료 후 다시 생긴 버킷도 TTL을 가짐)
+     *
+     * @param scores 상품 ID → 증가시킬 점수
+     */
+    public void addScores(Map<Long, Double> scores) {
+        if (scores == null || scores.isEmpty()) {
+            return;
         }
+        LocalDateTime now = LocalDateTime.now();
+        String dailyKey = getBucketKey(ChronoUnit.DAYS, now);
+        String hourlyKey = getBucketKey(ChronoUnit.HOURS, now);
+
+        RBatch batch = redissonClient.createBatch();
+        RScoredSortedSetAsync<String> dailySet = batch.getScoredSortedSet(dailyKey);
+        RScoredSortedSetAsync<String> hourlySet = batch.getScoredSortedSet(hourlyKey);
+        scores.forEach((productId, score) -> {
+            dailySet.addScoreAsync(String.valueOf(productId), score);
+            hourlySet.addScoreAsync(String.valueOf(productId), score);
+        });
+
+        // 이미 TTL이 있으면 유지되므로 매번 보내도 만료 시각이 밀리지 않음 (Redis 7+)
+        dailySet.expireIfNotSetAsync(RedisKey.RANK_DAILY.getTtlWithJitter());
+        hourlySet.expireIfNotSetAsync(RedisKey.RANK_HOURLY.getTtlWithJitter());
+
+        batch.execute();
     }
 
     // 1일 인기상품 아이디 조회
     public List<Long> getDailyTopRankIds(int limit) {
-        String todayKey = getDailyKey(LocalDate.now());
-        String yesterdayKey = getDailyKey(LocalDate.now().minusDays(1));
+        return getTopRankIds(RankingWindow.DAILY, limit);
+    }
 
-        // 임시 집합 생성
-        String tempKey = RedisKey.RANK_DAILY_VIEW_TEMP.getFullKey(
-                String.valueOf(System.currentTimeMillis())
-        );
-        RScoredSortedSet<String> tempSet = redissonClient.getScoredSortedSet(tempKey);
+    /**
+     * 구간별 인기상품 아이디 조회
+     * - 미리 계산된 구간 랭킹(RANK:window:{window})에서 ZREVRANGE 1회로 조회
+     * - 구간 랭킹이 아직 없거나 비어 있어도 조회 경로에서 재계산하지 않음 (데이터가 없으면 매 요청 ZUNIONSTORE가 반복됨)
+     *   → 부족분 목록으로 응답하고, 재계산은 임대 기반 RankingMaterializeScheduler가 담당
+     * - 구간 랭킹은 상위 maxSize개만 보관하므로 limit은 maxSize 이하로 사용
+     * - 결과가 limit보다 적으면 미리 계산된 부족분 목록(RANK:fallback)으로 채움 (DB 조회 없음)
+     */
+    public List<Long> getTopRankIds(RankingWindow window, int limit) {
+        RScoredSortedSet<String> windowSet = redissonClient.getScoredSortedSet(getWindowKey(window));
+
+        Collection<String> rawIds = windowSet.valueRangeReversed(0, limit - 1);
+
+        List<Long> resultIds = rawIds.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (resultIds.size() < limit) {
+            fillWithFallback(resultIds, limit);
+        }
+
+        return resultIds;
+    }
 
+    // 부족한 개수를 부족분 목록 순서대로 채움 (이미 랭킹에 있는 상품은 제외)
+    private void fillWithFallback(List<Long> resultIds, int limit) {
+        Collection<String> fallbackIds;
         try {
-            // 가중치 합산
-            Map<String, Double> weights = new HashMap<>();
-            weights.put(todayKey, 1.0);
-            weights.put(yesterdayKey, 0.5); // 어제 데이터 가중치 0.5
+            // 중복 제외 후에도 부족하지 않도록 limit개 조회
+            fallbackIds = redissonClient.<String>getScoredSortedSet(RedisKey.RANK_FALLBACK.getFullKey("all"))
+                    .valueRangeReversed(0, limit - 1);
+        } catch (Exception e) {
+            // 채우기 실패 시 랭킹 결과만 반환
+            log.warn("랭킹 부족분 목록 조회 실패: ranked={}, limit={}", resultIds.size(), limit, e);
+            return;
+        }
+
+        Set<Long> seen = new HashSet<>(resultIds);
+        for (String rawId : fallbackIds) {
+            if (resultIds.size() >= limit) {
+                break;
+            }
+            Long productId = Long.parseLong(rawId);
+            if (seen.add(productId)) {
+                resultIds.add(productId);
+            }
+        }
+    }
 
-            tempSet.union(weights);
+    /**
+     * 부족분 목록 교체
+     * - 전달된 순서가 곧 노출 순서 (앞쪽일수록 높은 점수)
+     * - DEL + ZADD + EXPIRE를 원자적으로 실행하여 조회 중 빈 목록이 보이지 않도록 함
+     */
+    public void replaceFallbackIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            scores.putIfAbsent(String.valueOf(productIds.get(i)), (double) (productIds.size() - i));
+        }
 
-            // 상위 N개 조회
-            Collection<String> rawIds = tempSet.valueRangeReversed(0, limit - 1);
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        RScoredSortedSetAsync<String> fallbackSet = batch.getScoredSortedSet(RedisKey.RANK_FALLBACK.getFullKey("all"));
+        fallbackSet.deleteAsync();
+        fallbackSet.addAllAsync(scores);
+        fallbackSet.expireAsync(RedisKey.RANK_FALLBACK.getBaseTtl().toMillis(), TimeUnit.MILLISECONDS);
+        batch.execute();
+    }
 
-            List<Long> resultIds = rawIds.stream()
-                    .map(Long::parseLong)
-                    .collect(Collectors.toList());
+    // 부족분 목록 갱신 임대 획득 (갱신 주기 동안 한 노드만 DB 집계)
+    public boolean tryAcquireFallbackLease(Duration interval) {
+        RBucket<String> lease = redissonClient.getBucket(RedisKey.RANK_WINDOW_LEASE.getFullKey("FALLBACK"));
+        return lease.trySet("1", interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
-            // TODO: 부족한 개수 채우기 (최신 상품 또는 MD 상품)
-            if (resultIds.size() < limit) {
-                int missingCount = limit - resultIds.size();
-                // 최신 상품 또는 MD상품 가져오기...
-            }
+    /**
+     * 구간 랭킹 재계산
+     * - 구간의 버킷 키들을 가중 합산하여 구간 랭킹 키에 바로 저장 (ZUNIONSTORE는 원자적으로 교체됨)
+     * - 상위 maxSize개만 남기고 정리 후 TTL 설정
+     * - 현재/직전 버킷도 상위 K개만 남기고 정리 (버킷 메모리 제한)
+     * - 파이프라인 1회
+     */
+    public void materialize(RankingWindow window) {
+        LocalDateTime now = LocalDateTime.now();
+        ChronoUnit unit = window.getBucketUnit();
+        Map<String, Double> weights = new HashMap<>();
+        for (int bucketsAgo = 0; bucketsAgo < window.getBuckets(); bucketsAgo++) {
+            weights.put(getBucketKey(unit, now.minus(bucketsAgo, unit)), window.weightOf(bucketsAgo));
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        RScoredSortedSetAsync<String> windowSet = batch.getScoredSortedSet(getWindowKey(window));
+        windowSet.unionAsync(weights);
+        windowSet.removeRangeByRankAsync(0, -(materializeMaxSize + 1));
+        windowSet.expireAsync(RedisKey.RANK_WINDOW.getBaseTtl().toMillis(), TimeUnit.MILLISECONDS);
 
-            return resultIds;
-        } finally {
-            // 임시 집합 삭제
-            tempSet.delete();
+        for (int bucketsAgo = 0; bucketsAgo <= 1; bucketsAgo++) {
+            batch.getScoredSortedSet(getBucketKey(unit, now.minus(bucketsAgo, unit)))
+                    .removeRangeByRankAsync(0, -(bucketTopK + 1));
         }
+        batch.execute();
+    }
+
+    // 구간 랭킹 재계산 임대 획득 (재계산 주기 동안 한 노드만 재계산)
+    public boolean tryAcquireMaterializeLease(RankingWindow window) {
+        RBucket<String> lease = redissonClient.getBucket(RedisKey.RANK_WINDOW_LEASE.getFullKey(window.name()));
+        return lease.trySet("1", window.getRefreshInterval().toMillis(), TimeUnit.MILLISECONDS);
     }
 
-    // 일일 랭킹 키 생성
-    private String getDailyKey(LocalDate date) {
-        return RedisKey.RANK_DAILY.getFullKey(
-                date.format(DateTimeFormatter.ofPattern("yyyyMMdd"))
-        );
+    private String getWindowKey(RankingWindow window) {
+        return RedisKey.RANK_WINDOW.getFullKey(window.name());
+    }
+
+    // 랭킹 버킷 키 생성 (일: RANK:daily:yyyyMMdd , 시간: RANK:hourly:yyyyMMddHH)
+    private String getBucketKey(ChronoUnit unit, LocalDateTime time) {
+        if (unit == ChronoUnit.HOURS) {
+            return RedisKey.RANK_HOURLY.getFullKey(time.format(HOURLY_FORMAT));
+        }
+        return RedisKey.RANK_DAILY.getFullKey(time.format(DAILY_FORMAT));
     }
 }
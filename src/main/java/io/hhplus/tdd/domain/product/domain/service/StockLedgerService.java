@@ -0,0 +1,189 @@
+package io.hhplus.tdd.domain.product.domain.service;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.domain.product.domain.model.ProductOption;
+import io.hhplus.tdd.domain.product.exception.ProductException;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 재고 원장 (REDIS_LEDGER 모드)
+ * <p>
+ * 옵션별 재고를 Redis(STOCK:ledger:{optionId})에 보관하고,
+ * 주문의 모든 라인을 Lua 스크립트 1회로 검증 + 차감합니다. (DB 행 락, 분산 락 없음)
+ * <ul>
+ *   <li>예약 기록(STOCK:reservation:{orderId})으로 같은 주문의 중복 차감/복구를 막음</li>
+ *   <li>원장에 없는 옵션은 DB 값으로 SETNX 적재 후 한 번 더 시도</li>
+ *   <li>DB 반영은 StockReconcileEvent로 비동기 정산</li>
+ * </ul>
+ * 원장은 정산되지 않은 차감을 포함한 최신 값이므로 TTL 없이 유지합니다.
+ * (원장이 지워진 상태에서 정산 전 DB 값으로 다시 적재되면 재고가 과다 계산됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockLedgerService {
+
+    private static final String RESERVED = "RESERVED";
+    private static final String RELEASED = "RELEASED";
+
+    private static final long STATUS_RESERVED = 0L;
+    private static final long STATUS_ALREADY_RESERVED = 1L;
+    private static final long STATUS_NOT_ENOUGH = 2L;
+    private static final long STATUS_NOT_LOADED = 3L;
+
+    /**
+     * KEYS[1] = 예약 기록 , KEYS[2..] = 옵션 원장
+     * ARGV[1] = 예약 기록 TTL(ms) , ARGV[2..] = 차감 수량
+     * 반환: {상태, 라인 번호}
+     *   {0, 0} = 이번 호출로 차감 , {1, 0} = 이미 예약된 주문 (차감 없음)
+     *   {2, k} = k번째 라인 재고 부족 , {3, k} = k번째 라인 원장 없음
+     * 보상으로 복구(RELEASED)된 주문은 결제 재시도 시 다시 예약 가능
+     */
+    private static final String RESERVE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == '" + RESERVED + "' then return {1, 0} end " +
+            "for i = 2, #KEYS do " +
+            "  local stock = redis.call('GET', KEYS[i]) " +
+            "  if not stock then return {3, i - 1} end " +
+            "  if tonumber(stock) < tonumber(ARGV[i]) then return {2, i - 1} end " +
+            "end " +
+            "for i = 2, #KEYS do redis.call('DECRBY', KEYS[i], ARGV[i]) end " +
+            "redis.call('SET', KEYS[1], '" + RESERVED + "', 'PX', ARGV[1]) " +
+            "return {0, 0}";
+
+    /**
+     * KEYS[1] = 예약 기록 , KEYS[2..] = 옵션 원장
+     * ARGV[1] = 예약 기록 TTL(ms) , ARGV[2..] = 복구 수량
+     * 반환: 1 = 복구 , 0 = 이미 복구된 주문
+     * 예약 기록이 만료된 오래된 주문도 복구 (취소 중복은 주문 상태 검증으로 막힘)
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == '" + RELEASED + "' then return 0 end " +
+            "for i = 2, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i]) end " +
+            "end " +
+            "redis.call('SET', KEYS[1], '" + RELEASED + "', 'PX', ARGV[1]) " +
+            "return 1";
+
+    private final RedissonClient redissonClient;
+    private final ProductOptionRepository productOptionRepository;
+
+    /**
+     * 주문 라인
+     */
+    public record StockLine(
+            Long productId,
+            Long productOptionId,
+            int quantity
+    ) {}
+
+    /**
+     * 주문 전체 재고 예약 (원자적 검증 + 차감)
+     *
+     * @return 이번 호출로 차감했으면 true, 이미 예약된 주문(중복 웹훅 등)이면 false
+     *         - false인 경우 이 호출은 차감하지 않았으므로 보상 복구를 하면 안 됨
+     * @throws ProductException 재고 부족 시 (어떤 라인도 차감되지 않음)
+     */
+    public boolean reserve(Long orderId, List<StockLine> lines) {
+        List<Long> result = evalReserve(orderId, lines);
+        if (result.get(0) == STATUS_NOT_LOADED) {
+            // 원장에 없는 옵션이 있으면 DB 값으로 적재 후 재시도
+            loadLedger(lines);
+            result = evalReserve(orderId, lines);
+        }
+
+        long status = result.get(0);
+        if (status == STATUS_NOT_ENOUGH) {
+            StockLine line = lines.get(result.get(1).intValue() - 1);
+            throw new ProductException(ErrorCode.PRODUCT_NOT_ENOUGH, line.productId(), line.productOptionId());
+        }
+        if (status == STATUS_NOT_LOADED) {
+            StockLine line = lines.get(result.get(1).intValue() - 1);
+            throw new ProductException(ErrorCode.PRODUCT_OPTION_NOT_FOUND, String.valueOf(line.productOptionId()));
+        }
+        if (status == STATUS_ALREADY_RESERVED) {
+            log.debug("이미 예약된 주문: orderId={}", orderId);
+            return false;
+        }
+        log.debug("재고 원장 예약 완료: orderId={}, lines={}", orderId, lines.size());
+        return true;
+    }
+
+    /**
+     * 주문 재고 복구 (취소, 결제 처리 실패 보상)
+     *
+     * @return 실제로 복구했으면 true, 이미 복구된 주문이면 false
+     */
+    public boolean release(Long orderId, List<StockLine> lines) {
+        boolean released = eval(RELEASE_SCRIPT, orderId, lines) == 1L;
+        log.debug("재고 원장 복구: orderId={}, released={}", orderId, released);
+        return released;
+    }
+
+    // 원장에 없는 옵션을 DB 재고로 적재 (이미 있는 원장은 유지)
+    private void loadLedger(List<StockLine> lines) {
+        List<Long> optionIds = lines.stream().map(StockLine::productOptionId).toList();
+        List<ProductOption> options = productOptionRepository.findAllById(optionIds);
+
+        RBatch batch = redissonClient.createBatch();
+        for (ProductOption option : options) {
+            batch.<String>getBucket(ledgerKey(option.getId()), StringCodec.INSTANCE)
+                    .setIfAbsentAsync(String.valueOf(option.getQuantity()));
+        }
+        batch.execute();
+        log.info("재고 원장 적재: optionIds={}", optionIds);
+    }
+
+    private List<Long> evalReserve(Long orderId, List<StockLine> lines) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                RESERVE_SCRIPT,
+                RScript.ReturnType.MULTI,
+                keys(orderId, lines),
+                args(lines)
+        );
+    }
+
+    private long eval(String script, Long orderId, List<StockLine> lines) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                script,
+                RScript.ReturnType.INTEGER,
+                keys(orderId, lines),
+                args(lines)
+        );
+        return result == null ? 0L : result;
+    }
+
+    private List<Object> keys(Long orderId, List<StockLine> lines) {
+        List<Object> keys = new ArrayList<>();
+        keys.add(RedisKey.STOCK_RESERVATION.getFullKey(String.valueOf(orderId)));
+        for (StockLine line : lines) {
+            keys.add(ledgerKey(line.productOptionId()));
+        }
+        return keys;
+    }
+
+    private Object[] args(List<StockLine> lines) {
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(RedisKey.STOCK_RESERVATION.getBaseTtl().toMillis()));
+        for (StockLine line : lines) {
+            args.add(String.valueOf(line.quantity()));
+        }
+        return args.toArray();
+    }
+
+    private String ledgerKey(Long productOptionId) {
+        return RedisKey.STOCK_LEDGER.getFullKey(String.valueOf(productOptionId));
+    }
+}
@@ -4,6 +4,7 @@ import io.hhplus.tdd.domain.product.domain.model.ProductOption;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,4 +20,9 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption,Lon
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<ProductOption> findAllByIdInForUpdate(@Param("optionIds") List<Long> optionIds);
 
+    // 재고 원장 정산용 - 엔티티 조회 없이 변경량만 반영 (재고 검증은 Redis 원장에서 완료됨)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductOption po SET po.quantity = po.quantity + :delta WHERE po.id = :optionId")
+    int addQuantity(@Param("optionId") Long optionId, @Param("delta") long delta);
+
 }
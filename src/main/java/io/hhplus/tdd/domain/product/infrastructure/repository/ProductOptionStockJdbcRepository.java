@@ -0,0 +1,86 @@
+package io.hhplus.tdd.domain.product.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 상품 옵션 재고 조건부 UPDATE (CONDITIONAL_UPDATE 모드)
+ * <p>
+ * 엔티티를 락으로 읽어 Java에서 변경하는 대신, 라인마다 조건부 UPDATE 한 문장으로 검증 + 차감합니다.
+ * 주문의 모든 라인을 JDBC 배치 1회로 전송하고, 라인별 영향 행 수로 성공 여부를 판단합니다.
+ * <p>
+ * 여러 주문이 같은 옵션들을 동시에 갱신할 때 교착을 피하기 위해 옵션 ID 순으로 정렬해 실행합니다.
+ * 현재 트랜잭션(JpaTransactionManager)의 커넥션에 참여하므로 실패 시 함께 롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductOptionStockJdbcRepository {
+
+    private static final String DEDUCT_SQL =
+            "UPDATE product_option SET quantity = quantity - ? WHERE id = ? AND quantity >= ?";
+    private static final String RESTORE_SQL =
+            "UPDATE product_option SET quantity = quantity + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StockUpdate(
+            Long productOptionId,
+            int quantity
+    ) {}
+
+    /**
+     * 재고가 충분한 라인만 차감
+     *
+     * @return 재고 부족으로 차감되지 않은 라인 (모두 성공 시 빈 목록)
+     */
+    public List<StockUpdate> deductAll(List<StockUpdate> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        List<StockUpdate> sorted = sortByOptionId(updates);
+        int[] counts = jdbcTemplate.batchUpdate(DEDUCT_SQL, sorted, sorted.size(), (ps, update) -> {
+            ps.setLong(1, update.quantity());
+            ps.setLong(2, update.productOptionId());
+            ps.setLong(3, update.quantity());
+        })[0];
+
+        return failedUpdates(sorted, counts);
+    }
+
+    /**
+     * 재고 복구
+     *
+     * @return 존재하지 않아 복구되지 않은 라인 (모두 성공 시 빈 목록)
+     */
+    public List<StockUpdate> restoreAll(List<StockUpdate> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+        List<StockUpdate> sorted = sortByOptionId(updates);
+        int[] counts = jdbcTemplate.batchUpdate(RESTORE_SQL, sorted, sorted.size(), (ps, update) -> {
+            ps.setLong(1, update.quantity());
+            ps.setLong(2, update.productOptionId());
+        })[0];
+
+        return failedUpdates(sorted, counts);
+    }
+
+    private List<StockUpdate> sortByOptionId(List<StockUpdate> updates) {
+        return updates.stream()
+                .sorted(Comparator.comparing(StockUpdate::productOptionId))
+                .toList();
+    }
+
+    // 영향 행 수가 0인 라인 (드라이버가 행 수를 주지 않는 SUCCESS_NO_INFO(-2)는 성공으로 간주하지 않음)
+    private List<StockUpdate> failedUpdates(List<StockUpdate> sorted, int[] counts) {
+        return IntStream.range(0, sorted.size())
+                .filter(i -> counts[i] < 1)
+                .mapToObj(sorted::get)
+                .toList();
+    }
+}
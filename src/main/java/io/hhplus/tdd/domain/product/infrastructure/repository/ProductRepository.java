@@ -21,6 +21,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             "GROUP BY p.id ORDER BY SUM(oi.quantity) DESC")
     List<ProductSalesDto> findPopular(@Param("threeDaysAgo") LocalDateTime threeDaysAgo);
 
+    // 랭킹 부족분 채우기용 - 상품 조인 없이 기간 내 판매량 상위 상품 id만 조회
+    @Query("SELECT oi.productId FROM OrderItem oi " +
+            "WHERE oi.createdAt >= :since " +
+            "GROUP BY oi.productId ORDER BY SUM(oi.quantity) DESC")
+    List<Long> findTopSellingProductIds(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 랭킹 부족분 채우기용 - 최신 등록 상품 id 조회
+    @Query("SELECT p.id FROM Product p ORDER BY p.id DESC")
+    List<Long> findLatestProductIds(Pageable pageable);
+
     @Query("SELECT p FROM Product p JOIN FETCH p.options WHERE p.id = :id")
     Optional<Product> findWithOptionsById(Long id);
 
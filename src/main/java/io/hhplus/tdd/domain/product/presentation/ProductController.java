@@ -4,6 +4,7 @@ package io.hhplus.tdd.domain.product.presentation;
 import io.hhplus.tdd.domain.product.application.GetPopularProductsUseCase;
 import io.hhplus.tdd.domain.product.application.GetProductDetailUseCase;
 import io.hhplus.tdd.domain.product.application.GetProductListUseCase;
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
 import io.hhplus.tdd.domain.product.presentation.dto.res.ProductDetailResDTO;
 import io.hhplus.tdd.domain.product.presentation.dto.res.ProductResDTO;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -55,19 +56,23 @@ public class ProductController {
     /**
      * 인기 상품 리스트 조회 (메모리 기반 페이징)
      * 전체 리스트가 캐싱되어 있으므로 메모리 상에서 페이징 처리
-     * 매일 12:00에 캐시가 자동 갱신됨
+     * 구간 랭킹은 RankingMaterializeScheduler가 구간별 주기(RankingWindow.refreshInterval)마다 다시 계산
+     * (TRENDING 1분, DAILY 10초, WEEKLY 1분, MONTHLY 5분)
+     * 목록 캐시는 TTL 10분 + 조기 갱신(XFetch), 캐시 워밍업(30분 주기)에서도 갱신됨
      *
+     * @param window 집계 구간 (TRENDING, DAILY, WEEKLY, MONTHLY / 기본값: DAILY)
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 당 상품 개수 (기본값: 10)
      * @return 인기 상품 리스트
      */
     @GetMapping("/popular")
     public List<ProductResDTO> getPopularProducts(
+            @RequestParam(defaultValue = "DAILY") RankingWindow window,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ){
         // 전체 인기 상품 리스트를 캐시에서 가져옴
-        List<GetPopularProductsUseCase.Output> allPopularProducts = getPopularProductsUseCase.execute();
+        List<GetPopularProductsUseCase.Output> allPopularProducts = getPopularProductsUseCase.execute(window);
 
         //  페이징 처리
         int start = page * size;
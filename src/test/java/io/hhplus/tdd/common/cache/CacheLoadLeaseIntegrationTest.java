@@ -0,0 +1,149 @@
+package io.hhplus.tdd.common.cache;
+
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("캐시 로드 임대(클러스터 Single Flight) 테스트")
+class CacheLoadLeaseIntegrationTest extends ContainerIntegrationTest {
+
+    @Autowired
+    private CacheLoadLease cacheLoadLease;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("여러 요청이 동시에 같은 ID의 임대를 시도해도 ID당 한 요청만 로드하고, 나머지는 반환 알림 후 진행한다")
+    void 동시_임대_ID당_로드_1회() throws Exception {
+        // given
+        long base = System.nanoTime();
+        List<Long> ids = LongStream.range(base, base + 5).boxed().toList();
+        Map<Long, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when : 임대를 얻은 ID만 로드, 나머지는 반환 대기
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                CacheLoadLease.Lease lease = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+                List<Long> leased = lease.ids();
+                try {
+                    leased.forEach(id -> loadCounts.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet());
+                    TimeUnit.MILLISECONDS.sleep(200);
+                } finally {
+                    cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, lease);
+                }
+                List<Long> waiting = ids.stream().filter(id -> !leased.contains(id)).toList();
+                return cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, waiting, Duration.ofSeconds(3));
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+        assertThat(loadCounts).hasSize(ids.size());
+        loadCounts.forEach((id, count) -> assertThat(count.get()).as("id=%d", id).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("반환을 기다리는 요청은 제한 시간까지 폴링하지 않고 반환 알림을 받는 즉시 깨어난다")
+    void 반환_알림_즉시_대기_해제() throws Exception {
+        // given
+        List<Long> ids = List.of(System.nanoTime());
+        CacheLoadLease.Lease lease = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+        assertThat(lease.ids()).isEqualTo(ids);
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(
+                () -> cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, ids, Duration.ofSeconds(10)));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(waiter).isNotDone();
+
+        // when
+        long releasedAt = System.nanoTime();
+        cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, lease);
+
+        // then
+        assertThat(waiter.get(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - releasedAt)).isLessThan(3);
+    }
+
+    @Test
+    @DisplayName("임대가 없으면 바로 반환하고, 반환되지 않는 임대는 제한 시간 후 false를 반환한다")
+    void 임대_없음_또는_시간_초과() {
+        List<Long> free = List.of(System.nanoTime());
+        assertThat(cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, free, Duration.ofSeconds(10))).isTrue();
+
+        List<Long> held = List.of(System.nanoTime());
+        CacheLoadLease.Lease lease = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, held);
+        try {
+            assertThat(cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, held, Duration.ofMillis(200))).isFalse();
+        } finally {
+            cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, lease);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키를 기다리던 요청 하나가 먼저 시간 초과돼도 나머지 요청은 반환 알림으로 깨어난다")
+    void 먼저_떠난_대기_요청이_다른_대기_요청에_영향_없음() throws Exception {
+        // given
+        List<Long> ids = List.of(System.nanoTime());
+        CacheLoadLease.Lease lease = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+        CompletableFuture<Boolean> longWaiter = CompletableFuture.supplyAsync(
+                () -> cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, ids, Duration.ofSeconds(10)));
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        // when : 짧게 기다린 요청이 먼저 떠난 뒤 반환
+        assertThat(cacheLoadLease.awaitRelease(RedisKey.CACHE_PRODUCT_BY_ID, ids, Duration.ofMillis(100))).isFalse();
+        assertThat(longWaiter).isNotDone();
+        cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, lease);
+
+        // then
+        assertThat(longWaiter.get(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 임대를 반환해도 다른 요청이 새로 잡은 임대는 지우지 않는다")
+    void 만료된_임대_반환은_새_임대_유지() {
+        // given : 첫 임대가 만료되어 다른 요청이 같은 키를 다시 잡음
+        List<Long> ids = List.of(System.nanoTime());
+        CacheLoadLease.Lease expired = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+        redissonClient.getKeys().delete(RedisKey.CACHE_LOAD_LEASE.getFullKey(RedisKey.CACHE_PRODUCT_BY_ID.getFullKey(String.valueOf(ids.get(0)))));
+        CacheLoadLease.Lease current = cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids);
+        assertThat(current.ids()).isEqualTo(ids);
+
+        // when
+        cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, expired);
+
+        // then : 새 임대는 유지되어 다른 요청은 여전히 획득 실패
+        try {
+            assertThat(cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids).ids()).isEmpty();
+        } finally {
+            cacheLoadLease.release(RedisKey.CACHE_PRODUCT_BY_ID, current);
+        }
+        assertThat(cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, ids).ids()).isEqualTo(ids);
+    }
+}
@@ -0,0 +1,271 @@
+package io.hhplus.tdd.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조기 갱신(XFetch) 캐시 단위 테스트")
+class EarlyRefreshCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long START = 1_000_000L;
+
+    @Nested
+    @DisplayName("CacheEnvelope 판정")
+    class EnvelopeTest {
+
+        @Test
+        @DisplayName("재계산 비용이 없거나 beta가 0 이하면 만료 시각이 지나도 조기 갱신하지 않는다")
+        void 비용_없거나_beta_0이면_미갱신() {
+            CacheEnvelope<String> noCost = new CacheEnvelope<>("v", 0L, 10_000L);
+            CacheEnvelope<String> withCost = new CacheEnvelope<>("v", 100L, 10_000L);
+
+            assertThat(noCost.shouldRefreshEarly(1.0, 20_000L, 0.5)).isFalse();
+            assertThat(withCost.shouldRefreshEarly(0.0, 20_000L, 0.5)).isFalse();
+        }
+
+        @Test
+        @DisplayName("now - delta * beta * ln(rand) >= expiry 일 때만 갱신한다")
+        void XFetch_경계() {
+            // delta 100ms, rand 0.5 → gap = 100 * ln2 ≈ 69.3ms
+            CacheEnvelope<String> envelope = new CacheEnvelope<>("v", 100L, 10_000L);
+
+            assertThat(envelope.shouldRefreshEarly(1.0, 9_930L, 0.5)).isFalse();
+            assertThat(envelope.shouldRefreshEarly(1.0, 9_931L, 0.5)).isTrue();
+            // beta 2 → gap ≈ 138.6ms 이므로 더 일찍 갱신
+            assertThat(envelope.shouldRefreshEarly(2.0, 9_862L, 0.5)).isTrue();
+            // rand 1 → gap 0, 만료 시각부터 갱신
+            assertThat(envelope.shouldRefreshEarly(1.0, 9_999L, 1.0)).isFalse();
+            assertThat(envelope.shouldRefreshEarly(1.0, 10_000L, 1.0)).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료 시각은 저장 시각 + TTL, 재계산 비용은 ms 단위로 저장한다")
+        void 생성() {
+            CacheEnvelope<String> envelope = CacheEnvelope.of("v", Duration.ofMillis(250), TTL, START);
+
+            assertThat(envelope.value()).isEqualTo("v");
+            assertThat(envelope.deltaMillis()).isEqualTo(250L);
+            assertThat(envelope.expiryAtMillis()).isEqualTo(START + TTL.toMillis());
+        }
+
+        @Test
+        @DisplayName("1ms 미만으로 계산된 값이나 비용 없이 저장된 값도 최소 1ms 비용으로 만료 직전 조기 갱신된다")
+        void 밀리초_미만_계산() {
+            CacheEnvelope<String> subMillis = CacheEnvelope.of("v", Duration.ofNanos(300_000), TTL, START);
+            CacheEnvelope<String> unknownCost = CacheEnvelope.of("v", Duration.ZERO, TTL, START);
+            long expiry = START + TTL.toMillis();
+
+            assertThat(subMillis.deltaMillis()).isEqualTo(CacheEnvelope.MIN_DELTA_MILLIS);
+            assertThat(unknownCost.deltaMillis()).isEqualTo(CacheEnvelope.MIN_DELTA_MILLIS);
+            // rand 0.01 → gap = 1 * ln100 ≈ 4.6ms
+            assertThat(subMillis.shouldRefreshEarly(1.0, expiry - 4, 0.01)).isTrue();
+            assertThat(unknownCost.shouldRefreshEarly(1.0, expiry - 4, 0.01)).isTrue();
+            assertThat(subMillis.shouldRefreshEarly(1.0, expiry - 5, 0.01)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("EarlyRefreshCache 조회")
+    class CacheTest {
+
+        private final ConcurrentMapCache delegate = new ConcurrentMapCache(RedisKey.POPULAR_PRODUCTS_NAME);
+        private final EarlyRefreshExecutor refreshExecutor = new EarlyRefreshExecutor();
+        private final MutableClock clock = new MutableClock(START);
+        // 1.0 이면 gap 0 (만료 시각 전에는 갱신하지 않음)
+        private double random = 1.0;
+        private final EarlyRefreshCache cache =
+                new EarlyRefreshCache(delegate, TTL, 1.0, refreshExecutor, clock, () -> random);
+
+        @AfterEach
+        void tearDown() {
+            refreshExecutor.shutdown();
+        }
+
+        @Test
+        @DisplayName("미스면 값을 계산하여 Envelope로 저장하고 값만 반환한다")
+        void 미스_계산_저장() {
+            String value = cache.get("k", () -> "loaded");
+
+            assertThat(value).isEqualTo("loaded");
+            assertThat(delegate.get("k").get()).isInstanceOfSatisfying(CacheEnvelope.class,
+                    envelope -> assertThat(envelope.expiryAtMillis()).isEqualTo(START + TTL.toMillis()));
+            assertThat(cache.get("k").get()).isEqualTo("loaded");
+            assertThat(cache.get("k", String.class)).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("판정에 당첨되지 않으면 valueLoader를 호출하지 않고 기존 값을 반환한다")
+        void 미당첨_기존값() {
+            delegate.put("k", new CacheEnvelope<>("old", 100L, START + TTL.toMillis()));
+            AtomicInteger calls = new AtomicInteger();
+
+            String value = cache.get("k", () -> {
+                calls.incrementAndGet();
+                return "new";
+            });
+
+            assertThat(value).isEqualTo("old");
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("당첨되면 호출 스레드에서 재계산하여 새 값을 저장하고 반환한다")
+        void 당첨_호출_스레드_재계산() {
+            // 만료까지 50ms, rand 0.01 → gap = 100 * ln(100) ≈ 460ms 이므로 당첨
+            random = 0.01;
+            delegate.put("k", new CacheEnvelope<>("old", 100L, START + 50L));
+            AtomicReference<Thread> loaderThread = new AtomicReference<>();
+
+            String value = cache.get("k", () -> {
+                loaderThread.set(Thread.currentThread());
+                return "new";
+            });
+
+            assertThat(value).isEqualTo("new");
+            assertThat(loaderThread.get()).isSameAs(Thread.currentThread());
+            assertThat(cache.get("k").get()).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("재계산이 실패하면 아직 유효한 기존 값을 반환하고 저장된 값은 유지한다")
+        void 재계산_실패_기존값() {
+            // 만료까지 50ms, rand 0.01 → gap = 100 * ln(100) ≈ 460ms 이므로 당첨
+            random = 0.01;
+            CacheEnvelope<String> stored = new CacheEnvelope<>("old", 100L, START + 50L);
+            delegate.put("k", stored);
+
+            String value = cache.get("k", () -> {
+                throw new IllegalStateException("DB 장애");
+            });
+
+            assertThat(value).isEqualTo("old");
+            assertThat(delegate.get("k").get()).isEqualTo(stored);
+        }
+
+        @Test
+        @DisplayName("같은 키를 다른 요청이 재계산 중이면 기다리지 않고 기존 값을 반환한다")
+        void 재계산_중_기존값() throws Exception {
+            // 만료까지 50ms, rand 0.01 → gap = 100 * ln(100) ≈ 460ms 이므로 당첨
+            random = 0.01;
+            delegate.put("k", new CacheEnvelope<>("old", 100L, START + 50L));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+
+            Thread first = new Thread(() -> cache.get("k", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                release.await();
+                return "new";
+            }));
+            first.start();
+            assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+
+            String value = cache.get("k", () -> {
+                calls.incrementAndGet();
+                return "other";
+            });
+
+            release.countDown();
+            first.join();
+            assertThat(value).isEqualTo("old");
+            assertThat(calls).hasValue(1);
+            assertThat(cache.get("k").get()).isEqualTo("new");
+        }
+
+        @Test
+        @DisplayName("Envelope 도입 이전에 저장된 값은 그대로 반환하고 재계산하지 않는다")
+        void 이전_형식_값() {
+            delegate.put("k", "legacy");
+
+            assertThat(cache.get("k", () -> "new")).isEqualTo("legacy");
+            assertThat(cache.get("k").get()).isEqualTo("legacy");
+        }
+
+        @Test
+        @DisplayName("직접 저장한 값도 Envelope로 감싸고 저장 시각 기준으로 만료 시각을 기록한다")
+        void 직접_저장() {
+            clock.millis = START + 1_000L;
+
+            cache.put("k", "put");
+
+            assertThat(delegate.get("k").get()).isInstanceOfSatisfying(CacheEnvelope.class,
+                    envelope -> assertThat(envelope.expiryAtMillis()).isEqualTo(START + 1_000L + TTL.toMillis()));
+            assertThat(cache.get("k").get()).isEqualTo("put");
+        }
+    }
+
+    @Nested
+    @DisplayName("EarlyRefreshCacheManager")
+    class ManagerTest {
+
+        private final EarlyRefreshExecutor refreshExecutor = new EarlyRefreshExecutor();
+        private final EarlyRefreshCacheManager cacheManager =
+                new EarlyRefreshCacheManager(new ConcurrentMapCacheManager(), refreshExecutor);
+
+        @AfterEach
+        void tearDown() {
+            refreshExecutor.shutdown();
+        }
+
+        @Test
+        @DisplayName("beta가 설정된 캐시만 감싸고, 같은 이름은 같은 인스턴스를 반환한다")
+        void 조기_갱신_캐시만_감쌈() {
+            Cache popular = cacheManager.getCache(RedisKey.POPULAR_PRODUCTS_NAME);
+            Cache productList = cacheManager.getCache(RedisKey.PRODUCT_LIST_PAGE_NAME);
+            Cache unknown = cacheManager.getCache("unknown");
+
+            assertThat(popular).isInstanceOf(EarlyRefreshCache.class);
+            assertThat(cacheManager.getCache(RedisKey.POPULAR_PRODUCTS_NAME)).isSameAs(popular);
+            assertThat(productList).isNotInstanceOf(EarlyRefreshCache.class);
+            assertThat(unknown).isNotInstanceOf(EarlyRefreshCache.class);
+        }
+    }
+
+    // 테스트에서 시각을 옮길 수 있는 Clock
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
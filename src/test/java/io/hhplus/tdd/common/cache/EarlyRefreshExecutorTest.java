@@ -0,0 +1,90 @@
+package io.hhplus.tdd.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조기 갱신 실행기 중복 제거 테스트")
+class EarlyRefreshExecutorTest {
+
+    private final EarlyRefreshExecutor refreshExecutor = new EarlyRefreshExecutor();
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("겹치는 ID 목록으로 동시에 제출하면 이미 재계산 중인 항목은 제외하고 나머지만 재계산한다")
+    void 항목별_중복_제거() throws Exception {
+        // given : [1, 2, 3] 재계산이 진행 중
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> first = new CompletableFuture<>();
+        refreshExecutor.submitEach("CACHE_PRODUCT_BY_ID", List.of(1L, 2L, 3L), ids -> {
+            first.complete(ids);
+            await(release);
+        });
+        assertThat(first.get(3, TimeUnit.SECONDS)).containsExactly(1L, 2L, 3L);
+
+        // when : [2, 3, 4] 제출
+        CompletableFuture<List<Long>> second = new CompletableFuture<>();
+        refreshExecutor.submitEach("CACHE_PRODUCT_BY_ID", List.of(2L, 3L, 4L), second::complete);
+
+        // then : 4만 재계산
+        assertThat(second.get(3, TimeUnit.SECONDS)).containsExactly(4L);
+
+        // 모두 재계산 중이면 제출 자체를 생략
+        CompletableFuture<List<Long>> third = new CompletableFuture<>();
+        refreshExecutor.submitEach("CACHE_PRODUCT_BY_ID", List.of(1L, 2L), third::complete);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(third).isNotDone();
+
+        // 재계산이 끝나면 다시 제출 가능
+        release.countDown();
+        CompletableFuture<List<Long>> fourth = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (!fourth.isDone() && System.nanoTime() < deadline) {
+            refreshExecutor.submitEach("CACHE_PRODUCT_BY_ID", List.of(1L), fourth::complete);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(fourth.get(3, TimeUnit.SECONDS)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("호출 스레드 갱신은 같은 키가 진행 중이면 실행하지 않고 null을 반환하며, 실패해도 예외를 던지지 않는다")
+    void 호출_스레드_갱신() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread running = new Thread(() -> refreshExecutor.callIfIdle("k", () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        running.start();
+        assertThat(started.await(3, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(refreshExecutor.<String>callIfIdle("k", () -> "second")).isNull();
+
+        release.countDown();
+        running.join();
+        assertThat(refreshExecutor.<String>callIfIdle("k", () -> "third")).isEqualTo("third");
+        assertThat(refreshExecutor.<String>callIfIdle("k", () -> {
+            throw new IllegalStateException("DB 장애");
+        })).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.common.cache;
+
+import io.hhplus.tdd.common.cache.codec.CacheCodecRegistry;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import io.hhplus.tdd.domain.product.domain.model.ProductCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("L1(Near Cache) + 노드 간 무효화 테스트")
+class NearCacheIntegrationTest extends ContainerIntegrationTest {
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private EarlyRefreshExecutor earlyRefreshExecutor;
+
+    @Autowired
+    private CacheCodecRegistry cacheCodecRegistry;
+
+    // 같은 Redis를 바라보는 두 노드
+    private NearCacheManager nearCacheA;
+    private NearCacheManager nearCacheB;
+    private MultiGetCacheService nodeA;
+    private MultiGetCacheService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nearCacheA = new NearCacheManager(redissonClient, new SimpleMeterRegistry());
+        nearCacheB = new NearCacheManager(redissonClient, new SimpleMeterRegistry());
+        nearCacheA.init();
+        nearCacheB.init();
+        nodeA = new MultiGetCacheService(redissonClient, nearCacheA, earlyRefreshExecutor, cacheCodecRegistry);
+        nodeB = new MultiGetCacheService(redissonClient, nearCacheB, earlyRefreshExecutor, cacheCodecRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCacheA.destroy();
+        nearCacheB.destroy();
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 값은 L1에 적재되어 다음 조회는 Redis 없이 L1에서 응답한다")
+    void L2_적중_후_L1_적재() {
+        // given
+        long id = System.nanoTime();
+        ProductCache value = new ProductCache(id, "상품", "설명", 1_000L);
+        nodeA.putAll(RedisKey.CACHE_PRODUCT_BY_ID, Map.of(id, value));
+
+        // when : B는 L2에서 읽어 L1에 적재
+        assertThat(nodeB.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).containsEntry(id, value);
+        redissonClient.getKeys().delete(RedisKey.CACHE_PRODUCT_BY_ID.getFullKey(String.valueOf(id)));
+
+        // then : Redis에서 지워져도 L1에서 응답
+        assertThat(nearCacheB.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).containsEntry(id, value);
+        assertThat(nodeB.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).containsEntry(id, value);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 deleteByIds 하면 다른 노드의 L1도 Pub/Sub으로 무효화된다")
+    void 삭제시_다른_노드_L1_무효화() throws InterruptedException {
+        // given : 두 노드 모두 L1에 적재
+        long id = System.nanoTime();
+        long otherId = id + 1;
+        ProductCache value = new ProductCache(id, "상품", "설명", 1_000L);
+        ProductCache other = new ProductCache(otherId, "다른 상품", "설명", 2_000L);
+        nodeA.putAll(RedisKey.CACHE_PRODUCT_BY_ID, Map.of(id, value, otherId, other));
+        nodeB.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id, otherId), ProductCache.class);
+        assertThat(nearCacheB.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id, otherId), ProductCache.class)).hasSize(2);
+
+        // when
+        nodeA.deleteByIds(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id));
+
+        // then : A는 즉시, B는 메시지 수신 후 무효화 (삭제하지 않은 ID는 유지)
+        assertThat(nearCacheA.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).isEmpty();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (!nearCacheB.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class).isEmpty()
+                && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(nearCacheB.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).isEmpty();
+        assertThat(nearCacheB.getAll(RedisKey.CACHE_PRODUCT_BY_ID, List.of(otherId), ProductCache.class)).containsEntry(otherId, other);
+        assertThat(nodeB.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(id), ProductCache.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("L1을 사용하지 않는 키는 적재/무효화 대상이 아니다")
+    void L1_미사용_키() {
+        nearCacheA.putAll(RedisKey.CACHE_PRODUCT_ABSENT, Map.of(1L, "1"));
+
+        assertThat(nearCacheA.getAll(RedisKey.CACHE_PRODUCT_ABSENT, List.of(1L), String.class)).isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("캐시 미스 요청 병합(Single Flight) 테스트")
+class SingleFlightLoaderTest {
+
+    @Test
+    @DisplayName("겹치는 ID 목록으로 동시에 요청해도 ID당 로드는 한 번이고, 모든 요청이 같은 결과를 받는다")
+    void 동시_요청_ID당_로드_1회() throws Exception {
+        // given
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(Duration.ofSeconds(5));
+        Map<Long, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+        int threadCount = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when : 요청마다 [i % 3 .. i % 3 + 4] 범위의 ID 조회 (서로 겹침)
+        List<Future<Map<Long, String>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            long from = i % 3;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return loader.load(List.of(from, from + 1, from + 2, from + 3, from + 4), ids -> {
+                    ids.forEach(id -> loadCounts.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet());
+                    sleep(200);
+                    Map<Long, String> loaded = new HashMap<>();
+                    ids.forEach(id -> loaded.put(id, "product-" + id));
+                    return loaded;
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Map<Long, String>> future : futures) {
+            Map<Long, String> result = future.get(10, TimeUnit.SECONDS);
+            assertThat(result).hasSize(5);
+            result.forEach((id, value) -> assertThat(value).isEqualTo("product-" + id));
+        }
+        executor.shutdown();
+        assertThat(loadCounts).hasSize(7);
+        loadCounts.forEach((id, count) -> assertThat(count.get()).as("id=%d", id).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ID는 결과에서 빠지고, 대기 중인 요청도 다시 로드하지 않는다")
+    void 없는_ID_병합() throws Exception {
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+
+        Thread owner = new Thread(() -> loader.load(List.of(404L), ids -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            sleep(200);
+            return Map.of();
+        }));
+        owner.start();
+        assertThat(loading.await(3, TimeUnit.SECONDS)).isTrue();
+
+        Map<Long, String> result = loader.load(List.of(404L), ids -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        owner.join();
+
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("담당 요청의 로드가 실패하면 담당 요청은 예외를, 대기 요청은 직접 로드한 결과를 받는다")
+    void 담당_요청_실패시_대기_요청_직접_로드() throws Exception {
+        SingleFlightLoader<Long, String> loader = new SingleFlightLoader<>(Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        Map<String, Throwable> ownerError = new ConcurrentHashMap<>();
+
+        Thread owner = new Thread(() -> {
+            try {
+                loader.load(List.of(1L), ids -> {
+                    loading.countDown();
+                    sleep(200);
+                    throw new IllegalStateException("DB 장애");
+                });
+            } catch (IllegalStateException e) {
+                ownerError.put("owner", e);
+            }
+        });
+        owner.start();
+        assertThat(loading.await(3, TimeUnit.SECONDS)).isTrue();
+
+        Map<Long, String> result = loader.load(List.of(1L), ids -> Map.of(1L, "retry"));
+        owner.join();
+
+        assertThat(result).containsEntry(1L, "retry");
+        assertThat(ownerError).containsKey("owner");
+        // 실패한 키는 진행 중 목록에서 제거되어 다음 요청이 다시 담당
+        assertThat(loader.load(List.of(1L), ids -> Map.of(1L, "next"))).containsEntry(1L, "next");
+        assertThatThrownBy(() -> loader.load(List.of(2L), ids -> {
+            throw new IllegalStateException("DB 장애");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
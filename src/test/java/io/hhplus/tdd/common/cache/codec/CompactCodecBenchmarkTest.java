@@ -0,0 +1,188 @@
+package io.hhplus.tdd.common.cache.codec;
+
+import io.hhplus.tdd.common.cache.CacheEnvelope;
+import io.hhplus.tdd.config.CacheCodecConfig;
+import io.hhplus.tdd.domain.coupon.application.GetAllCouponListUseCase;
+import io.hhplus.tdd.domain.product.application.GetPopularProductsUseCase;
+import io.hhplus.tdd.domain.product.application.GetProductDetailUseCase;
+import io.hhplus.tdd.domain.product.domain.model.ProductCache;
+import io.hhplus.tdd.domain.product.domain.model.ProductDetailCache;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CompactCodec vs Redisson 기본 코덱(Kryo5) 비교
+ * - 엔트리당 바이트 수, 인코딩/디코딩 평균 지연을 로그로 남김 (지연은 실행 환경에 따라 달라지므로 검증하지 않음)
+ * - 왕복 변환 결과가 원본과 같은지, 압축 결과가 기본 코덱보다 작은지 검증
+ */
+@Slf4j
+class CompactCodecBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final Codec defaultCodec = new Kryo5Codec();
+    private final CompactCodec compactCodec = new CompactCodec(defaultCodec, CacheCodecConfig.serializers());
+
+    @Test
+    void 상품_개별_캐시_크기와_지연_비교() throws Exception {
+        ProductCache value = new ProductCache(123L, "무선 이어폰 프로", "노이즈 캔슬링 지원 블루투스 이어폰", 159_000L);
+        CacheEnvelope<ProductCache> envelope = CacheEnvelope.of(value, Duration.ofMillis(12), Duration.ofHours(1));
+
+        assertThat(roundTrip(compactCodec, envelope)).isEqualTo(envelope);
+        report("CACHE_PRODUCT_BY_ID", envelope);
+    }
+
+    @Test
+    void 인기_상품_500건_리스트_크기와_지연_비교() throws Exception {
+        List<GetPopularProductsUseCase.Output> value = LongStream.rangeClosed(1, 500)
+                .mapToObj(id -> new GetPopularProductsUseCase.Output(id, "상품" + id, "상품 설명 " + id, id * 1_000))
+                .toList();
+
+        assertThat(roundTrip(compactCodec, value)).isEqualTo(value);
+        report("POPULAR_PRODUCTS(500)", value);
+    }
+
+    @Test
+    void 상품_상세_크기와_지연_비교() throws Exception {
+        List<ProductDetailCache.OptionInfo> options = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            options.add(new ProductDetailCache.OptionInfo(i, "옵션" + i, 10_000L * i));
+        }
+        ProductDetailCache value = new ProductDetailCache(1L, "티셔츠", "면 100%", 19_900L, options);
+
+        assertThat(roundTrip(compactCodec, value)).isEqualTo(value);
+        report("PRODUCT_DETAIL", value);
+    }
+
+    @Test
+    void 재고를_포함하던_v1_상품_상세도_읽을_수_있다() throws Exception {
+        // v1 레이아웃: 옵션마다 id, 이름, 가격, 재고
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[]{(byte) 0xCA, (byte) 0xC7, 1}); // MAGIC , FORMAT_VERSION
+        out.writeByte(3);                                     // TAG_RECORD
+        out.writeShort(3);                                    // ProductDetailSerializer typeId
+        out.writeByte(1);                                     // 스키마 v1
+        CompactSerializer.writeNullableLong(out, 1L);
+        CompactSerializer.writeNullableString(out, "티셔츠");
+        CompactSerializer.writeNullableString(out, "면 100%");
+        CompactSerializer.writeNullableLong(out, 19_900L);
+        CompactSerializer.writeVarInt(out, 2);
+        for (long i = 1; i <= 2; i++) {
+            CompactSerializer.writeNullableLong(out, i);
+            CompactSerializer.writeNullableString(out, "옵션" + i);
+            CompactSerializer.writeNullableLong(out, 10_000L * i);
+            CompactSerializer.writeNullableLong(out, 50L);   // 재고 (v2에서 제거)
+        }
+
+        ByteBuf legacy = Unpooled.wrappedBuffer(bytes.toByteArray());
+        try {
+            assertThat(compactCodec.getValueDecoder().decode(legacy, null)).isEqualTo(new ProductDetailCache(
+                    1L, "티셔츠", "면 100%", 19_900L, List.of(
+                            new ProductDetailCache.OptionInfo(1L, "옵션1", 10_000L),
+                            new ProductDetailCache.OptionInfo(2L, "옵션2", 20_000L))));
+        } finally {
+            legacy.release();
+        }
+    }
+
+    @Test
+    void 쿠폰_목록_크기와_지연_비교() throws Exception {
+        List<GetAllCouponListUseCase.Output> value = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> new GetAllCouponListUseCase.Output(id, "신규가입 쿠폰" + id, "PERCENT", 10,
+                        1_000, 10, 1, 30, 10_000, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .toList();
+
+        assertThat(roundTrip(compactCodec, value)).isEqualTo(value);
+        report("COUPON_LIST(20)", value);
+    }
+
+    @Test
+    void 기존_코덱으로_저장된_값도_읽을_수_있다() throws Exception {
+        ProductCache value = new ProductCache(1L, "상품", "설명", 1_000L);
+
+        ByteBuf legacy = defaultCodec.getValueEncoder().encode(value);
+        try {
+            assertThat(compactCodec.getValueDecoder().decode(legacy, null)).isEqualTo(value);
+        } finally {
+            legacy.release();
+        }
+    }
+
+    @Test
+    void 등록되지_않은_타입은_기본_코덱으로_포함된다() throws Exception {
+        GetProductDetailUseCase.Input value = new GetProductDetailUseCase.Input(7L);
+
+        assertThat(roundTrip(compactCodec, value)).isEqualTo(value);
+    }
+
+    private void report(String name, Object value) throws Exception {
+        int defaultBytes = size(defaultCodec, value);
+        int compactBytes = size(compactCodec, value);
+        double[] defaultNanos = measure(defaultCodec, value);
+        double[] compactNanos = measure(compactCodec, value);
+
+        log.info("[{}] bytes: default={}, compact={} ({}%)",
+                name, defaultBytes, compactBytes, String.format("%.1f", 100.0 * compactBytes / defaultBytes));
+        log.info("[{}] encode ns: default={}, compact={} / decode ns: default={}, compact={}",
+                name, Math.round(defaultNanos[0]), Math.round(compactNanos[0]), Math.round(defaultNanos[1]), Math.round(compactNanos[1]));
+
+        assertThat(compactBytes).isLessThan(defaultBytes);
+    }
+
+    // [평균 인코딩 ns, 평균 디코딩 ns]
+    private double[] measure(Codec codec, Object value) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            roundTrip(codec, value);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            ByteBuf buf = codec.getValueEncoder().encode(value);
+            long encoded = System.nanoTime();
+            try {
+                codec.getValueDecoder().decode(buf, null);
+                decodeNanos += System.nanoTime() - encoded;
+                encodeNanos += encoded - start;
+            } finally {
+                buf.release();
+            }
+        }
+        return new double[]{(double) encodeNanos / ITERATIONS, (double) decodeNanos / ITERATIONS};
+    }
+
+    private int size(Codec codec, Object value) throws Exception {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    private Object roundTrip(Codec codec, Object value) throws Exception {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return codec.getValueDecoder().decode(buf, null);
+        } finally {
+            buf.release();
+        }
+    }
+}
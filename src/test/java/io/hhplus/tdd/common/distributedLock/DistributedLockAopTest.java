@@ -0,0 +1,130 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import jakarta.persistence.LockTimeoutException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("분산 락 AOP - 로컬 Striped 락 연동 테스트")
+class DistributedLockAopTest {
+
+    private static final long WAIT_MILLIS = 1_000L;
+
+    @InjectMocks
+    DistributedLockAop distributedLockAop;
+
+    @Mock
+    RedissonClient redissonClient;
+
+    @Mock
+    LocalStripedLock localStripedLock;
+
+    @Mock
+    LockLeasePolicy lockLeasePolicy;
+
+    @Mock
+    FencingTokenIssuer fencingTokenIssuer;
+
+    @Mock
+    LockMetrics lockMetrics;
+
+    @Mock
+    RLock rLock;
+
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    @Mock
+    MethodSignature signature;
+
+    static class OptionFixture {
+        @DistributedLock(group = LockGroupType.PRODUCT_OPTION, key = "#optionId", waitTime = WAIT_MILLIS)
+        public void execute(long optionId) {}
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Method method = OptionFixture.class.getMethod("execute", long.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(method);
+        given(signature.getParameterNames()).willReturn(new String[]{"optionId"});
+        given(joinPoint.getArgs()).willReturn(new Object[]{1L});
+        given(redissonClient.getLock(anyString())).willReturn(rLock);
+        given(localStripedLock.isEnabled()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("로컬 대기에 쓴 시간만큼 Redis 대기 시간을 줄이고, Redis 락을 먼저 해제한 뒤 로컬 stripe를 해제한다")
+    void 대기_시간_분할과_해제_순서() throws Throwable {
+        // given : 로컬 stripe 획득에 200ms 소요
+        ReentrantLock stripe = spy(new ReentrantLock());
+        given(localStripedLock.tryLock(eq(LockGroupType.PRODUCT_OPTION), anyString(), anyLong(), eq(TimeUnit.NANOSECONDS)))
+                .willAnswer(invocation -> {
+                    TimeUnit.MILLISECONDS.sleep(200);
+                    stripe.lock();
+                    return stripe;
+                });
+        given(lockLeasePolicy.leaseMillis(LockGroupType.PRODUCT_OPTION)).willReturn(LockLeasePolicy.WATCHDOG);
+        given(rLock.tryLock(anyLong(), eq(TimeUnit.NANOSECONDS))).willReturn(true);
+        given(rLock.isLocked()).willReturn(true);
+        given(rLock.isHeldByCurrentThread()).willReturn(true);
+        given(joinPoint.proceed()).willReturn("ok");
+
+        // when
+        Object result = distributedLockAop.lock(joinPoint);
+
+        // then : Redis 대기 시간 = 전체 대기 - 로컬 대기
+        assertThat(result).isEqualTo("ok");
+        ArgumentCaptor<Long> redisWait = ArgumentCaptor.forClass(Long.class);
+        verify(rLock).tryLock(redisWait.capture(), eq(TimeUnit.NANOSECONDS));
+        assertThat(redisWait.getValue())
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(WAIT_MILLIS - 200));
+
+        // Redis 락 해제 후 로컬 stripe 해제 (로컬 대기자가 깨어났을 때 Redis 락이 비어 있도록)
+        InOrder order = inOrder(rLock, stripe);
+        order.verify(rLock).unlock();
+        order.verify(stripe).unlock();
+        assertThat(stripe.isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 stripe 대기 시간이 초과되면 Redis 락을 요청하지 않고 실패한다")
+    void 로컬_대기_시간_초과() throws Throwable {
+        // given
+        given(localStripedLock.tryLock(eq(LockGroupType.PRODUCT_OPTION), anyString(), anyLong(), eq(TimeUnit.NANOSECONDS)))
+                .willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> distributedLockAop.lock(joinPoint))
+                .isInstanceOf(LockTimeoutException.class);
+        verify(rLock, never()).tryLock(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(joinPoint, never()).proceed();
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분산 락 키 해석 비용 비교
+ * - 기존: 매 호출 getAnnotation + SpEL 파싱 + StandardEvaluationContext 생성
+ * - 개선: Method별 LockMetadata 캐시 (파싱된 식 재사용, 컴파일 모드, 경량 컨텍스트)
+ * - 두 방식의 키가 같은지 검증하고, 호출당 평균 지연은 로그로만 남김 (실행 환경에 따라 달라지므로 검증하지 않음)
+ */
+@Slf4j
+class DistributedLockKeyBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static final ExpressionParser LEGACY_PARSER = new SpelExpressionParser();
+
+    record Input(long userId, long amount) {}
+
+    static class PointFixture {
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "#input.userId")
+        public void execute(Input input) {}
+    }
+
+    private final Method method = findMethod();
+    private final String[] parameterNames = new DefaultParameterNameDiscoverer().getParameterNames(method);
+
+    @Test
+    void 캐시된_메타데이터와_기존_방식의_키가_같다() {
+        Object[] args = {new Input(42L, 1_000L)};
+        DistributedLockAop.LockMetadata metadata = DistributedLockAop.LockMetadata.of(method, parameterNames);
+
+        Object legacy = resolveLegacy(args);
+        for (int i = 0; i < 10; i++) {
+            // 컴파일 전/후 모두 같은 결과
+            assertThat(metadata.resolveKey(args)).isEqualTo(legacy);
+        }
+        assertThat(String.valueOf(legacy)).isEqualTo("42");
+    }
+
+    @Test
+    void 호출당_키_해석_지연_비교() {
+        Object[] args = {new Input(42L, 1_000L)};
+        DistributedLockAop.LockMetadata metadata = DistributedLockAop.LockMetadata.of(method, parameterNames);
+
+        long legacyNanos = measure(() -> resolveLegacy(args));
+        long cachedNanos = measure(() -> metadata.resolveKey(args));
+
+        log.info("[DistributedLock key] legacy={}ns/op, cached={}ns/op (x{})",
+                legacyNanos, cachedNanos, String.format("%.1f", (double) legacyNanos / Math.max(1, cachedNanos)));
+    }
+
+    // 기존 AOP 경로 (매 호출 어노테이션 조회 + 파싱 + StandardEvaluationContext 생성)
+    private Object resolveLegacy(Object[] args) {
+        DistributedLock annotation = method.getAnnotation(DistributedLock.class);
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < parameterNames.length; i++) {
+            context.setVariable(parameterNames[i], args[i]);
+        }
+        return LEGACY_PARSER.parseExpression(annotation.key()).getValue(context, Object.class);
+    }
+
+    private long measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static Method findMethod() {
+        try {
+            return PointFixture.class.getMethod("execute", Input.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("분산 락 키 SpEL 문법 테스트")
+class DistributedLockKeyExpressionTest {
+
+    private static final String[] PARAMETER_NAMES = {"input", "ids"};
+
+    record User(long id) {}
+
+    record Input(long userId, User user) {}
+
+    static class Fixture {
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "#input.userId")
+        public void property(Input input, List<Long> ids) {}
+
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "'USER:' + #input.user.id + ':' + #ids[0]")
+        public void composite(Input input, List<Long> ids) {}
+
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "#input.userId()")
+        public void methodCall(Input input, List<Long> ids) {}
+
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "@userPointService")
+        public void beanReference(Input input, List<Long> ids) {}
+
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "T(java.lang.String).valueOf(#input.userId)")
+        public void typeReference(Input input, List<Long> ids) {}
+
+        @DistributedLock(group = LockGroupType.USER_POINT, key = "new String('1')")
+        public void constructor(Input input, List<Long> ids) {}
+    }
+
+    private final Object[] args = {new Input(42L, new User(7L)), List.of(100L)};
+
+    @Test
+    @DisplayName("파라미터 변수와 record 접근자 프로퍼티 참조로 키를 만든다")
+    void 프로퍼티_참조() {
+        assertThat(metadata("property").resolveKey(args)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("리터럴 연결, 중첩 프로퍼티, 인덱스를 함께 쓸 수 있다")
+    void 리터럴_중첩_인덱스() {
+        assertThat(metadata("composite").resolveKey(args)).isEqualTo("USER:7:100");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"methodCall", "beanReference", "typeReference", "constructor"})
+    @DisplayName("메서드 호출, 빈/타입 참조, 생성자는 메타데이터 생성(첫 호출) 시 메서드와 키를 담아 실패한다")
+    void 지원하지_않는_문법(String methodName) {
+        Method method = method(methodName);
+        String key = method.getAnnotation(DistributedLock.class).key();
+
+        assertThatThrownBy(() -> DistributedLockAop.LockMetadata.of(method, PARAMETER_NAMES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Fixture." + methodName)
+                .hasMessageContaining(key);
+    }
+
+    private DistributedLockAop.LockMetadata metadata(String methodName) {
+        return DistributedLockAop.LockMetadata.of(method(methodName), PARAMETER_NAMES);
+    }
+
+    private static Method method(String name) {
+        try {
+            return Fixture.class.getMethod(name, Input.class, List.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
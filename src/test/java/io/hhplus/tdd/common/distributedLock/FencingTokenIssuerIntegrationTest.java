@@ -0,0 +1,73 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import io.hhplus.tdd.domain.point.domain.model.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("펜싱 토큰 발급/복구 테스트")
+class FencingTokenIssuerIntegrationTest extends ContainerIntegrationTest {
+
+    @Autowired
+    private FencingTokenIssuer fencingTokenIssuer;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("같은 키의 토큰은 단조 증가하고, 여러 키를 한 번에 발급해도 키별로 증가한다")
+    void 토큰_단조_증가() {
+        String pointKey = "USER_POINT:" + System.nanoTime();
+        String optionKey = "PRODUCT_OPTION:" + System.nanoTime();
+
+        long first = fencingTokenIssuer.issue(pointKey);
+        Map<String, Long> tokens = fencingTokenIssuer.issueAll(List.of(pointKey, optionKey));
+
+        assertThat(tokens.get(pointKey)).isEqualTo(first + 1);
+        assertThat(tokens.get(optionKey)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("카운터가 유실되면 검증 실패 후 엔티티의 최신 토큰까지 보정되어 다음 소유자는 통과한다")
+    void 카운터_유실_복구() {
+        // given : 엔티티에는 토큰 10이 기록되어 있고 Redis 카운터는 유실됨
+        long userId = System.nanoTime();
+        String logicalKey = FencingTokenContext.logicalKey(LockGroupType.USER_POINT, userId);
+        UserPoint userPoint = UserPoint.builder().id(userId).balance(0L).fenceToken(10L).build();
+        redissonClient.getAtomicLong(RedisKey.LOCK_FENCE.getFullKey(logicalKey)).delete();
+
+        // when : 재발급된 작은 토큰은 거부되고 카운터 보정
+        long restarted = fencingTokenIssuer.issue(logicalKey);
+        assertThat(restarted).isEqualTo(1L);
+        StaleFencingTokenException stale = catchThrowableOfType(() -> userPoint.applyFencingToken(restarted), StaleFencingTokenException.class);
+        assertThat(stale).isNotNull();
+        fencingTokenIssuer.recover(stale);
+
+        // then : 다음 토큰은 기록된 토큰보다 커서 통과
+        long next = fencingTokenIssuer.issue(logicalKey);
+        assertThat(next).isEqualTo(11L);
+        userPoint.applyFencingToken(next);
+        assertThat(userPoint.getFenceToken()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("보정은 카운터를 낮추지 않는다 (이전 소유자의 실패로 토큰이 되돌아가지 않음)")
+    void 보정은_카운터를_낮추지_않음() {
+        String logicalKey = "PRODUCT_OPTION:" + System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            fencingTokenIssuer.issue(logicalKey);
+        }
+
+        assertThat(fencingTokenIssuer.advanceTo(logicalKey, 3L)).isEqualTo(5L);
+        assertThat(fencingTokenIssuer.issue(logicalKey)).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,129 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.domain.point.domain.model.UserPoint;
+import io.hhplus.tdd.domain.product.domain.model.ProductOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("펜싱 토큰 / 락 임대 정책 단위 테스트")
+class FencingTokenTest {
+
+    @AfterEach
+    void tearDown() {
+        FencingTokenContext.unbind(FencingTokenContext.logicalKey(LockGroupType.USER_POINT, 1L));
+        FencingTokenContext.unbind(FencingTokenContext.logicalKey(LockGroupType.PRODUCT_OPTION, 1L));
+    }
+
+    @Test
+    @DisplayName("포인트: 기록된 토큰보다 큰 토큰만 기록되고, 작거나 같은 토큰은 거부된다")
+    void 포인트_오래된_토큰_거부() {
+        UserPoint userPoint = UserPoint.builder().id(1L).balance(0L).build();
+
+        userPoint.applyFencingToken(5L);
+        assertThat(userPoint.getFenceToken()).isEqualTo(5L);
+
+        assertThatThrownBy(() -> userPoint.applyFencingToken(5L))
+                .isInstanceOf(StaleFencingTokenException.class)
+                .satisfies(e -> {
+                    StaleFencingTokenException stale = (StaleFencingTokenException) e;
+                    assertThat(stale.getResource()).isEqualTo("USER_POINT:1");
+                    assertThat(stale.getLatestToken()).isEqualTo(5L);
+                });
+        assertThatThrownBy(() -> userPoint.applyFencingToken(4L))
+                .isInstanceOf(StaleFencingTokenException.class);
+        assertThat(userPoint.getFenceToken()).isEqualTo(5L);
+
+        userPoint.applyFencingToken(6L);
+        assertThat(userPoint.getFenceToken()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("상품 옵션: 기록된 토큰보다 작거나 같은 토큰은 거부되고 기록은 유지된다")
+    void 상품옵션_오래된_토큰_거부() {
+        ProductOption option = ProductOption.builder().id(1L).quantity(10L).price(1_000L).optionName("기본").build();
+
+        option.applyFencingToken(3L);
+
+        assertThatThrownBy(() -> option.applyFencingToken(2L))
+                .isInstanceOf(StaleFencingTokenException.class)
+                .satisfies(e -> assertThat(((StaleFencingTokenException) e).getResource()).isEqualTo("PRODUCT_OPTION:1"));
+        assertThat(option.getFenceToken()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면(펜싱 미사용, 락 밖) 검증과 기록을 모두 생략한다")
+    void 토큰_없으면_검증_생략() {
+        UserPoint userPoint = UserPoint.builder().id(1L).balance(0L).fenceToken(10L).build();
+        ProductOption option = ProductOption.builder().id(1L).quantity(10L).price(1_000L).optionName("기본").build();
+
+        userPoint.applyFencingToken(null);
+        option.applyFencingToken(null);
+
+        assertThat(userPoint.getFenceToken()).isEqualTo(10L);
+        assertThat(option.getFenceToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("락 키별로 토큰이 등록/해제되고, 모두 해제되면 락 밖과 같이 null을 반환한다")
+    void 컨텍스트_등록_해제() {
+        String pointKey = FencingTokenContext.logicalKey(LockGroupType.USER_POINT, 1L);
+        String optionKey = FencingTokenContext.logicalKey(LockGroupType.PRODUCT_OPTION, 1L);
+        assertThat(pointKey).isEqualTo("USER_POINT:1");
+
+        FencingTokenContext.bind(pointKey, 7L);
+        FencingTokenContext.bind(optionKey, 8L);
+        assertThat(FencingTokenContext.get(LockGroupType.USER_POINT, 1L)).isEqualTo(7L);
+        assertThat(FencingTokenContext.get(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(8L);
+
+        FencingTokenContext.unbind(pointKey);
+        assertThat(FencingTokenContext.get(LockGroupType.USER_POINT, 1L)).isNull();
+        assertThat(FencingTokenContext.get(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(8L);
+
+        FencingTokenContext.unbind(optionKey);
+        assertThat(FencingTokenContext.get(LockGroupType.PRODUCT_OPTION, 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 스레드의 토큰은 보이지 않는다")
+    void 컨텍스트_스레드_격리() throws InterruptedException {
+        FencingTokenContext.bind(FencingTokenContext.logicalKey(LockGroupType.USER_POINT, 1L), 7L);
+
+        Long[] seen = new Long[1];
+        Thread other = new Thread(() -> seen[0] = FencingTokenContext.get(LockGroupType.USER_POINT, 1L));
+        other.start();
+        other.join();
+
+        assertThat(seen[0]).isNull();
+        assertThat(FencingTokenContext.get(LockGroupType.USER_POINT, 1L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("임대 시간: 설정한 그룹만 적용되고, 여러 그룹이면 가장 짧은 임대, 모두 미설정이면 watchdog")
+    void 임대_정책() {
+        LockLeasePolicy onlyOption = policy(new MockEnvironment()
+                .withProperty("lock.lease-ms.PRODUCT_OPTION", "3000"));
+        assertThat(onlyOption.leaseMillis(LockGroupType.PRODUCT_OPTION)).isEqualTo(3000L);
+        assertThat(onlyOption.leaseMillis(LockGroupType.USER_POINT)).isEqualTo(LockLeasePolicy.WATCHDOG);
+        assertThat(onlyOption.leaseMillis(List.of(LockGroupType.USER_POINT, LockGroupType.PRODUCT_OPTION))).isEqualTo(3000L);
+        assertThat(onlyOption.leaseMillis(List.of(LockGroupType.USER_POINT))).isEqualTo(LockLeasePolicy.WATCHDOG);
+        assertThat(onlyOption.leaseMillis(List.of())).isEqualTo(LockLeasePolicy.WATCHDOG);
+
+        LockLeasePolicy both = policy(new MockEnvironment()
+                .withProperty("lock.lease-ms.PRODUCT_OPTION", "3000")
+                .withProperty("lock.lease-ms.USER_POINT", "2000"));
+        assertThat(both.leaseMillis(List.of(LockGroupType.PRODUCT_OPTION, LockGroupType.USER_POINT))).isEqualTo(2000L);
+    }
+
+    private LockLeasePolicy policy(MockEnvironment environment) {
+        LockLeasePolicy policy = new LockLeasePolicy(environment);
+        policy.init();
+        return policy;
+    }
+}
@@ -0,0 +1,229 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("핫 키 감지기 (슬라이딩 윈도우) 테스트")
+class HotKeyDetectorTest {
+
+    // 윈도우 1초 = 100ms 구간 10개
+    private static final long START = 1_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(START);
+    private HotKeyDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new HotKeyDetector(meterRegistry);
+        ReflectionTestUtils.setField(detector, "clock", clock);
+        ReflectionTestUtils.setField(detector, "windowMs", 1000L);
+        ReflectionTestUtils.setField(detector, "sliceCount", 10);
+        ReflectionTestUtils.setField(detector, "threshold", 5L);
+        ReflectionTestUtils.setField(detector, "coolDownMs", 2000L);
+        ReflectionTestUtils.setField(detector, "maxKeys", 2);
+        detector.init();
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 구간의 요청은 합계에서 빠지고, 지난 슬롯은 재사용된다")
+    void 구간_롤오버() {
+        // given : 0ms에 3건, 500ms에 1건
+        record(1L, 3);
+        clock.advance(500);
+        record(1L, 1);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(4L);
+
+        // when & then : 1000ms 경과 시 첫 구간이 빠짐
+        clock.advance(500);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(1L);
+
+        // 같은 슬롯(인덱스 0)에 새 구간 기록 시 이전 값은 버려짐
+        record(1L, 2);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(3L);
+
+        // 500ms 구간도 벗어나면 마지막 기록만 남음
+        clock.advance(500);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("윈도우 내 요청 수가 임계값에 도달하는 순간 한 번만 핫으로 전환된다")
+    void 임계값_핫_전환() {
+        // when : 임계값 직전
+        record(1L, 4);
+
+        // then
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 1L)).isFalse();
+        assertThat(transitions("hot")).isZero();
+
+        // when : 임계값 도달 후 추가 요청
+        record(1L, 3);
+
+        // then
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 1L)).isTrue();
+        assertThat(detector.isHot(LockGroupType.USER_POINT, 1L)).isFalse();
+        assertThat(transitions("hot")).isEqualTo(1.0);
+        assertThat(hotCount()).isEqualTo(1.0);
+        assertThat(detector.hotKeys().get(LockGroupType.PRODUCT_OPTION.name())).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("핫 판정 후에는 요청이 줄어도 쿨다운 동안 핫을 유지하고, 정리 시 한 번만 해제로 기록한다")
+    void 쿨다운_히스테리시스() {
+        // given
+        record(1L, 5);
+
+        // when : 윈도우 합계는 0이지만 쿨다운 중
+        clock.advance(1500);
+
+        // then
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isZero();
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 1L)).isTrue();
+        detector.sweep();
+        assertThat(transitions("cold")).isZero();
+
+        // when : 쿨다운 종료
+        clock.advance(500);
+
+        // then : 조회는 바로 콜드, 전환 기록은 정리 시점
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 1L)).isFalse();
+        assertThat(hotCount()).isZero();
+        detector.sweep();
+        detector.sweep();
+        assertThat(transitions("cold")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("임계값 이상 요청이 이어지면 쿨다운이 연장된다")
+    void 쿨다운_연장() {
+        // given
+        record(1L, 5);
+
+        // when : 쿨다운 만료 직전 다시 임계값 도달
+        clock.advance(1900);
+        record(1L, 5);
+        clock.advance(1000);
+
+        // then : 첫 판정 기준으로는 만료됐지만 연장되어 유지, 전환은 1회
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 1L)).isTrue();
+        assertThat(transitions("hot")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("정리는 요청이 없고 핫이 아닌 키만 제거한다")
+    void 정리_제거_대상() {
+        // given : 1은 아직 윈도우 안, 2는 핫
+        record(1L, 1);
+        record(2L, 5);
+
+        // when : 윈도우는 지났지만 2는 쿨다운 중
+        clock.advance(1000);
+        detector.sweep();
+
+        // then : 1만 제거되어 새 키를 추적할 수 있음
+        record(3L, 1);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 3L)).isEqualTo(1L);
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("추적 키 수가 max-keys에 도달하면 새 키는 정리 전까지 집계하지 않는다")
+    void 추적_키_한도() {
+        // given
+        record(1L, 1);
+        record(2L, 1);
+
+        // when
+        record(3L, 5);
+
+        // then : 기존 키는 계속 집계
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 3L)).isZero();
+        assertThat(detector.isHot(LockGroupType.PRODUCT_OPTION, 3L)).isFalse();
+        record(1L, 1);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 1L)).isEqualTo(2L);
+
+        // 다른 그룹은 별도 한도
+        detector.record(LockGroupType.USER_POINT, List.of(3L));
+        assertThat(detector.count(LockGroupType.USER_POINT, 3L)).isEqualTo(1L);
+
+        // 정리 후 다시 추적
+        clock.advance(1000);
+        detector.sweep();
+        record(3L, 1);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 3L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다중 락 키는 그룹 접두사로 나눠 기록하고, 그룹 형식이 아닌 키는 무시한다")
+    void 다중_락_키_기록() {
+        detector.recordLockKeys(List.of("PRODUCT_OPTION:7", "USER_POINT:8", "ORDER:9"));
+
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 7L)).isEqualTo(1L);
+        assertThat(detector.count(LockGroupType.USER_POINT, 8L)).isEqualTo(1L);
+        assertThat(detector.count(LockGroupType.PRODUCT_OPTION, 9L)).isZero();
+    }
+
+    private void record(Long id, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(LockGroupType.PRODUCT_OPTION, Collections.singletonList(id));
+        }
+    }
+
+    private double transitions(String to) {
+        return meterRegistry.get("lock.hot-key.transition")
+                .tags("group", LockGroupType.PRODUCT_OPTION.name(), "to", to)
+                .counter().count();
+    }
+
+    private double hotCount() {
+        return meterRegistry.get("lock.hot-key.count")
+                .tag("group", LockGroupType.PRODUCT_OPTION.name())
+                .gauge().value();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeySketchTest {
+
+    @Test
+    void 용량보다_많은_키가_들어와도_경합이_잦은_키가_상위에_남는다() {
+        HotKeySketch sketch = new HotKeySketch(8);
+
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("hot-1", 1L);
+            if (i % 2 == 0) {
+                sketch.offer("hot-2", 1L);
+            }
+            sketch.offer("cold-" + i, 1L);
+        }
+
+        List<HotKeySketch.HotKey> top = sketch.top(2);
+        assertThat(top).extracting(HotKeySketch.HotKey::key).containsExactly("hot-1", "hot-2");
+        // 실제 빈도는 count - error 이상 count 이하
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(1_000L);
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(1_000L);
+    }
+
+    @Test
+    void 감쇠하면_카운트가_절반이_되고_0이_된_키는_제거된다() {
+        HotKeySketch sketch = new HotKeySketch(4);
+        sketch.offer("a", 10L);
+        sketch.offer("b", 1L);
+
+        sketch.decay();
+
+        assertThat(sketch.top(10))
+                .containsExactly(new HotKeySketch.HotKey("a", 5L, 0L));
+
+        // 비워진 슬롯은 다시 사용
+        sketch.offer("b", 3L);
+        assertThat(sketch.top(10)).extracting(HotKeySketch.HotKey::key).containsExactly("a", "b");
+    }
+}
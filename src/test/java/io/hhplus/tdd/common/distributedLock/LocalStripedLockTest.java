@@ -0,0 +1,105 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노드 내 Striped 락 테스트")
+class LocalStripedLockTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalStripedLock localStripedLock;
+
+    @BeforeEach
+    void setUp() {
+        localStripedLock = new LocalStripedLock(meterRegistry);
+        localStripedLock.init();
+    }
+
+    @Test
+    @DisplayName("같은 stripe를 다른 스레드가 보유 중이면 대기 시간 후 null을 반환한다")
+    void 같은_stripe_대기_시간_초과() throws Exception {
+        // given : 다른 스레드가 stripe 보유
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = holdStripe("PRODUCT_OPTION:1", held, release);
+        assertThat(held.await(3, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        long start = System.nanoTime();
+        ReentrantLock stripe = localStripedLock.tryLock(LockGroupType.PRODUCT_OPTION, "PRODUCT_OPTION:1", 200, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(stripe).isNull();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200L);
+        assertThat(count("timeout")).isEqualTo(1.0);
+
+        release.countDown();
+        holder.get(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("보유 스레드가 대기 시간 안에 해제하면 대기 중인 스레드가 획득한다")
+    void 같은_stripe_해제_후_획득() throws Exception {
+        // given
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = holdStripe("PRODUCT_OPTION:1", held, release);
+        assertThat(held.await(3, TimeUnit.SECONDS)).isTrue();
+
+        // when : 100ms 후 해제
+        CompletableFuture.runAsync(() -> {
+            sleep(100);
+            release.countDown();
+        });
+        ReentrantLock stripe = localStripedLock.tryLock(LockGroupType.PRODUCT_OPTION, "PRODUCT_OPTION:1", 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(stripe).isNotNull();
+        assertThat(stripe.isHeldByCurrentThread()).isTrue();
+        stripe.unlock();
+        holder.get(3, TimeUnit.SECONDS);
+        assertThat(count("uncontended")).isEqualTo(1.0);
+        assertThat(count("contended")).isEqualTo(1.0);
+    }
+
+    // 별도 스레드에서 stripe를 잡고 release 신호까지 보유
+    private CompletableFuture<Void> holdStripe(String key, CountDownLatch held, CountDownLatch release) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                ReentrantLock stripe = localStripedLock.tryLock(LockGroupType.PRODUCT_OPTION, key, 1, TimeUnit.SECONDS);
+                held.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } finally {
+                    stripe.unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("lock.local.acquire")
+                .tags("group", LockGroupType.PRODUCT_OPTION.name(), "result", result)
+                .counter()
+                .count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("락 대기열 순서/거절/티켓 갱신 테스트")
+class LockAdmissionQueueIntegrationTest extends ContainerIntegrationTest {
+
+    private static final long WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    // 스케줄러와 분리된 인스턴스 (갱신 시점을 테스트에서 제어)
+    private LockAdmissionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new LockAdmissionQueue(redissonClient);
+        ReflectionTestUtils.setField(queue, "contentionThreshold", 1);
+        ReflectionTestUtils.setField(queue, "pollIntervalMs", 10L);
+        ReflectionTestUtils.setField(queue, "maxPollIntervalMs", 20L);
+    }
+
+    @Test
+    @DisplayName("먼저 받은 티켓부터 입장하고, 앞선 티켓이 나가야 다음 티켓이 입장한다")
+    void 대기열_FIFO() throws Exception {
+        // given
+        String key = "PRODUCT_OPTION:" + System.nanoTime();
+        LockAdmissionQueue.Ticket first = queue.admit(List.of(key), WAIT_NANOS);
+        CompletableFuture<LockAdmissionQueue.Ticket> second = admitAsync(List.of(key));
+        waitUntilQueued(key, 2);
+        CompletableFuture<LockAdmissionQueue.Ticket> third = admitAsync(List.of(key));
+
+        // when & then
+        assertThat(first).isNotNull();
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(second).isNotDone();
+        assertThat(third).isNotDone();
+
+        queue.leave(first);
+        LockAdmissionQueue.Ticket secondTicket = second.get(3, TimeUnit.SECONDS);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(third).isNotDone();
+
+        queue.leave(secondTicket);
+        queue.leave(third.get(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("대기열이 최대 길이에 도달하면 대기 없이 즉시 거절한다")
+    void 대기열_가득_차면_즉시_거절() throws Exception {
+        // given : 순번과 무관하게 입장하도록 임계치를 높이고 최대 길이 2
+        ReflectionTestUtils.setField(queue, "contentionThreshold", 100);
+        ReflectionTestUtils.setField(queue, "maxLength", 2);
+        String key = "PRODUCT_OPTION:" + System.nanoTime();
+        LockAdmissionQueue.Ticket first = queue.admit(List.of(key), WAIT_NANOS);
+        LockAdmissionQueue.Ticket second = queue.admit(List.of(key), WAIT_NANOS);
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> queue.admit(List.of(key), WAIT_NANOS))
+                .isInstanceOf(LockQueueFullException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(WAIT_NANOS / 1_000_000);
+
+        // 자리가 나면 다시 입장 가능
+        queue.leave(first);
+        LockAdmissionQueue.Ticket third = queue.admit(List.of(key), WAIT_NANOS);
+        queue.leave(second);
+        queue.leave(third);
+    }
+
+    @Test
+    @DisplayName("다중 키 티켓은 모든 대기열에 같은 순번을 받아, 뒤에 온 단일 키 요청이 앞지르지 않는다")
+    void 다중_키_순서_유지() throws Exception {
+        // given : A(K1) 입장 → B(K1,K2) 는 K1에서 대기 → C(K2) 는 K2에서 B 뒤
+        String k1 = "PRODUCT_OPTION:" + System.nanoTime();
+        String k2 = "PRODUCT_OPTION:" + (System.nanoTime() + 1);
+        LockAdmissionQueue.Ticket a = queue.admit(List.of(k1), WAIT_NANOS);
+        CompletableFuture<LockAdmissionQueue.Ticket> b = admitAsync(List.of(k1, k2));
+        waitUntilQueued(k2, 1);
+        CompletableFuture<LockAdmissionQueue.Ticket> c = admitAsync(List.of(k2));
+
+        // when & then : K2 에는 C 앞에 B만 있지만 B가 나가기 전에는 C도 입장하지 못함
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(b).isNotDone();
+        assertThat(c).isNotDone();
+
+        queue.leave(a);
+        LockAdmissionQueue.Ticket bTicket = b.get(3, TimeUnit.SECONDS);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(c).isNotDone();
+
+        queue.leave(bTicket);
+        queue.leave(c.get(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("입장 후 락을 기다리거나 보유하는 동안 티켓이 갱신되어 ticket-ttl-ms 가 지나도 뒤 요청이 앞당겨지지 않는다")
+    void 보유_중_티켓_갱신() throws Exception {
+        // given : 티켓 TTL 300ms
+        ReflectionTestUtils.setField(queue, "ticketTtlMs", 300L);
+        String key = "PRODUCT_OPTION:" + System.nanoTime();
+        LockAdmissionQueue.Ticket holder = queue.admit(List.of(key), WAIT_NANOS);
+        CompletableFuture<LockAdmissionQueue.Ticket> waiter = admitAsync(List.of(key));
+
+        // when : TTL의 3배 동안 보유 (주기 갱신)
+        for (int i = 0; i < 9; i++) {
+            TimeUnit.MILLISECONDS.sleep(100);
+            queue.refreshActiveTickets();
+        }
+
+        // then
+        assertThat(waiter).isNotDone();
+        queue.leave(holder);
+        queue.leave(waiter.get(3, TimeUnit.SECONDS));
+    }
+
+    private CompletableFuture<LockAdmissionQueue.Ticket> admitAsync(List<String> keys) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.admit(keys, WAIT_NANOS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // 비동기 티켓이 대기열에 등록될 때까지 대기 (발급 순서 고정)
+    private void waitUntilQueued(String lockKey, int size) throws InterruptedException {
+        String queueKey = RedisKey.LOCK_QUEUE.getFullKey(lockKey);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (redissonClient.getScoredSortedSet(queueKey).size() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기열 등록 대기 시간 초과: " + lockKey);
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.common.distributedLock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("락 지표 등록 테스트")
+class LockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        lockMetrics = new LockMetrics(meterRegistry);
+        lockMetrics.init();
+    }
+
+    @Test
+    @DisplayName("기록될 수 있는 경로/그룹/키 수/결과 조합만 미리 등록한다")
+    void 도달_가능한_조합만_등록() {
+        // SINGLE: 단일 그룹 2개 x 결과 3개 (거절 없음), 키 1개
+        assertThat(meterRegistry.find("lock.wait").tag("path", "single").timers()).hasSize(2 * 3);
+        assertThat(meterRegistry.find("lock.hold").tag("path", "single").timers()).hasSize(2);
+        assertThat(meterRegistry.find("lock.wait").tags("path", "single", "group", "PRODUCT_OPTION+USER_POINT").timers()).isEmpty();
+        assertThat(meterRegistry.find("lock.wait").tags("path", "single", "result", "rejected").timers()).isEmpty();
+
+        // MULTI: 키 1개는 UNKNOWN/단일 그룹 3개, 키 2개 이상은 조합 4개씩 x 구간 2개 → 11개 x 결과 4개
+        assertThat(meterRegistry.find("lock.wait").tag("path", "multi").timers()).hasSize(11 * 4);
+        assertThat(meterRegistry.find("lock.hold").tag("path", "multi").timers()).hasSize(11);
+        assertThat(meterRegistry.find("lock.wait").tags("path", "multi", "group", "PRODUCT_OPTION+USER_POINT", "keys", "1").timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실제 기록은 해당 조합의 Timer에 쌓인다")
+    void 기록() {
+        int mask = LockMetrics.groupMask(List.of("PRODUCT_OPTION:1", "USER_POINT:2"));
+
+        lockMetrics.recordWait(LockMetrics.LockPath.MULTI, mask, 2, LockMetrics.Result.ACQUIRED, TimeUnit.MILLISECONDS.toNanos(3));
+        lockMetrics.recordHold(LockMetrics.LockPath.SINGLE, LockMetrics.groupMask(LockGroupType.USER_POINT), 1, TimeUnit.MILLISECONDS.toNanos(7));
+
+        assertThat(meterRegistry.get("lock.wait")
+                .tags("path", "multi", "group", "PRODUCT_OPTION+USER_POINT", "keys", "2-4", "result", "acquired")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("lock.hold")
+                .tags("path", "single", "group", "USER_POINT", "keys", "1")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("미리 등록하지 않은 조합이 기록되면 그때 등록한다")
+    void 미등록_조합_지연_등록() {
+        int mask = LockMetrics.groupMask(List.of("PRODUCT_OPTION:1", "USER_POINT:2"));
+
+        lockMetrics.recordWait(LockMetrics.LockPath.SINGLE, mask, 2, LockMetrics.Result.REJECTED, 1L);
+
+        assertThat(meterRegistry.get("lock.wait")
+                .tags("path", "single", "group", "PRODUCT_OPTION+USER_POINT", "keys", "2-4", "result", "rejected")
+                .timer().count()).isEqualTo(1L);
+    }
+}
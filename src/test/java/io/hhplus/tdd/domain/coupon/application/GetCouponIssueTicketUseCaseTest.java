@@ -0,0 +1,65 @@
+package io.hhplus.tdd.domain.coupon.application;
+
+import io.hhplus.tdd.domain.coupon.domain.model.IssueTicketStatus;
+import io.hhplus.tdd.domain.coupon.exception.CouponException;
+import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueTicketStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class GetCouponIssueTicketUseCaseTest {
+
+    @InjectMocks
+    GetCouponIssueTicketUseCase getCouponIssueTicketUseCase;
+
+    @Mock
+    CouponIssueTicketStore couponIssueTicketStore;
+
+    @Test
+    void 발급_요청_상태_조회_성공() {
+        // given
+        String ticketId = "0:1700000000000-0";
+        given(couponIssueTicketStore.find(ticketId)).willReturn(Optional.of(
+                new CouponIssueTicketStore.Ticket(ticketId, 1L, 2L, IssueTicketStatus.REJECTED, "COUPON_ISSUE_LIMIT")));
+
+        // when
+        GetCouponIssueTicketUseCase.Output output = getCouponIssueTicketUseCase.execute(new GetCouponIssueTicketUseCase.Input(ticketId, 2L));
+
+        // then
+        assertThat(output.ticketId()).isEqualTo(ticketId);
+        assertThat(output.couponId()).isEqualTo(1L);
+        assertThat(output.status()).isEqualTo("REJECTED");
+        assertThat(output.reason()).isEqualTo("COUPON_ISSUE_LIMIT");
+    }
+
+    @Test
+    void 없거나_만료된_요청은_예외() {
+        // given
+        given(couponIssueTicketStore.find("unknown")).willReturn(Optional.empty());
+
+        // when , then
+        assertThatThrownBy(() -> getCouponIssueTicketUseCase.execute(new GetCouponIssueTicketUseCase.Input("unknown", 2L)))
+                .isInstanceOf(CouponException.class);
+    }
+
+    @Test
+    void 다른_사용자의_티켓은_조회할_수_없음() {
+        // given
+        String ticketId = "0:1700000000000-0";
+        given(couponIssueTicketStore.find(ticketId)).willReturn(Optional.of(
+                new CouponIssueTicketStore.Ticket(ticketId, 1L, 2L, IssueTicketStatus.ISSUED, null)));
+
+        // when , then : 없는 티켓과 같은 예외 (다른 사용자의 티켓 존재 여부를 드러내지 않음)
+        assertThatThrownBy(() -> getCouponIssueTicketUseCase.execute(new GetCouponIssueTicketUseCase.Input(ticketId, 3L)))
+                .isInstanceOf(CouponException.class);
+    }
+}
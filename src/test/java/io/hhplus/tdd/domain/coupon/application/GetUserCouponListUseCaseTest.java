@@ -4,7 +4,6 @@ import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
 import io.hhplus.tdd.domain.coupon.domain.model.DiscountType;
 import io.hhplus.tdd.domain.coupon.domain.model.Status;
 import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
-import io.hhplus.tdd.domain.coupon.infrastructure.repository.CouponRepository;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.UserCouponRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +15,8 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -32,9 +29,6 @@ class GetUserCouponListUseCaseTest {
     @Mock
     UserCouponRepository userCouponRepository;
 
-    @Mock
-    CouponRepository couponRepository;
-
     @Test
     void 사용자_쿠폰_목록_조회_성공() {
         // given
@@ -88,9 +82,7 @@ class GetUserCouponListUseCaseTest {
                 .build();
 
         List<UserCoupon> userCoupons = Arrays.asList(userCoupon1, userCoupon2);
-        given(userCouponRepository.findByUserId(userId)).willReturn(userCoupons);
-        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon1));
-        given(couponRepository.findById(2L)).willReturn(Optional.of(coupon2));
+        given(userCouponRepository.findByUserIdWithCoupon(userId)).willReturn(userCoupons);
 
         // when
         GetUserCouponListUseCase.Input input = new GetUserCouponListUseCase.Input(userId);
@@ -109,16 +101,15 @@ class GetUserCouponListUseCaseTest {
         assertThat(result.get(1).couponName()).isEqualTo("VIP 회원 할인 쿠폰");
         assertThat(result.get(1).userCouponStatus()).isEqualTo("USED");
 
-        verify(userCouponRepository).findByUserId(userId);
-        verify(couponRepository).findById(1L);
-        verify(couponRepository).findById(2L);
+        // 쿠폰 정보는 fetch join 결과를 사용하므로 조회는 1회
+        verify(userCouponRepository).findByUserIdWithCoupon(userId);
     }
 
     @Test
     void 사용자가_발급받은_쿠폰이_없는_경우_빈_리스트_반환() {
         // given
         long userId = 1L;
-        given(userCouponRepository.findByUserId(userId)).willReturn(Collections.emptyList());
+        given(userCouponRepository.findByUserIdWithCoupon(userId)).willReturn(Collections.emptyList());
 
         // when
         GetUserCouponListUseCase.Input input = new GetUserCouponListUseCase.Input(userId);
@@ -126,6 +117,6 @@ class GetUserCouponListUseCaseTest {
 
         // then
         assertThat(result).isEmpty();
-        verify(userCouponRepository).findByUserId(userId);
+        verify(userCouponRepository).findByUserIdWithCoupon(userId);
     }
 }
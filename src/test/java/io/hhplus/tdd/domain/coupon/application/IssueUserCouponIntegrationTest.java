@@ -1,11 +1,15 @@
 package io.hhplus.tdd.domain.coupon.application;
 
+import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.IntegrationTest;
 import io.hhplus.tdd.domain.coupon.domain.model.Coupon;
 import io.hhplus.tdd.domain.coupon.domain.model.DiscountType;
+import io.hhplus.tdd.domain.coupon.domain.model.IssueTicketStatus;
 import io.hhplus.tdd.domain.coupon.domain.model.Status;
 import io.hhplus.tdd.domain.coupon.domain.model.UserCoupon;
 import io.hhplus.tdd.domain.coupon.domain.service.CouponService;
+import io.hhplus.tdd.domain.coupon.exception.CouponException;
+import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueProducer;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.CouponRepository;
 import io.hhplus.tdd.domain.coupon.infrastructure.repository.UserCouponRepository;
 import io.hhplus.tdd.domain.coupon.presentation.dto.req.CouponIssueReqDTO;
@@ -13,21 +17,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 
 @SpringBootTest
 @Testcontainers
@@ -46,6 +60,12 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
     @Autowired
     private CouponService couponService;
 
+    @Autowired
+    private GetCouponIssueTicketUseCase getCouponIssueTicketUseCase;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
     // Consumer는 백그라운드에서 돌고 있으므로 주입만 받아두거나(필요시),
     // 실제 로직 호출은 하지 않습니다.
 
@@ -64,13 +84,17 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
         long userId = 1L;
 
         // when
-        issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
+        IssueUserCouponUseCase.Output output = issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
 
         // then
         await()
                 .atMost(2, SECONDS)
                 .pollInterval(300, MILLISECONDS)
                 .untilAsserted(() -> {
+                    GetCouponIssueTicketUseCase.Output ticket = getCouponIssueTicketUseCase.execute(
+                            new GetCouponIssueTicketUseCase.Input(output.ticketId(), userId));
+                    assertThat(ticket.status()).isEqualTo(IssueTicketStatus.ISSUED.name());
+
                     List<UserCoupon> userCoupons = userCouponRepository.findByUserIdAndCouponId(userId, savedCoupon.getId());
                     assertThat(userCoupons).hasSize(1);
 
@@ -90,13 +114,14 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
         Coupon savedCoupon = couponRepository.save(coupon);
         long userId = 1L;
 
-        // when
-        issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
+        // when , then
+        // 매진된 쿠폰은 게이트에서 바로 거절 (큐에 들어가지 않음)
+        assertThatThrownBy(() -> issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId)))
+                .isInstanceOf(CouponException.class);
 
         // 처리 대기 (실패라서 DB에 안 쌓이겠지만, 처리가 끝날 시간은 줘야 함)
         Thread.sleep(1000);
 
-        // then
         List<UserCoupon> userCoupons = userCouponRepository.findByUserIdAndCouponId(userId, savedCoupon.getId());
         assertThat(userCoupons).isEmpty(); // 발급되지 않아야 함
     }
@@ -116,7 +141,7 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
 
         // when
         // 2. 같은 유저가 또 요청
-        issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
+        IssueUserCouponUseCase.Output output = issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
 
         // 처리 대기
         Thread.sleep(1000);
@@ -124,6 +149,12 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
         // then
         List<UserCoupon> userCoupons = userCouponRepository.findByUserIdAndCouponId(userId, savedCoupon.getId());
         assertThat(userCoupons).hasSize(1); // 기존 1개만 유지되어야 함 (2개가 되면 안됨)
+
+        // 게이트 적재 전 발급분이라 큐까지 갔지만 DB 검증에서 거절되고 사유가 기록됨
+        GetCouponIssueTicketUseCase.Output ticket = getCouponIssueTicketUseCase.execute(
+                new GetCouponIssueTicketUseCase.Input(output.ticketId(), userId));
+        assertThat(ticket.status()).isEqualTo(IssueTicketStatus.REJECTED.name());
+        assertThat(ticket.reason()).isEqualTo(ErrorCode.COUPON_ISSUE_LIMIT_PER_USER.name());
     }
 
     @Test
@@ -162,8 +193,178 @@ class IssueUserCouponIntegrationTest extends IntegrationTest {
                 });
     }
 
+    @Test
+    @DisplayName("게이트 테스트 - 수량보다 많은 요청과 중복 요청은 큐에 들어가기 전에 거절된다")
+    void 쿠폰_발급_게이트_매진_중복_거절() throws InterruptedException {
+        // given
+        int quantity = 10;
+        int userCount = 30;
+        Coupon savedCoupon = couponRepository.save(createCoupon(quantity, 0));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(userCount * 2);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when : 사용자마다 두 번씩 요청
+        for (int i = 0; i < userCount * 2; i++) {
+            long userId = i % userCount + 1;
+            executorService.submit(() -> {
+                try {
+                    issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), userId));
+                    admitted.incrementAndGet();
+                } catch (CouponException e) {
+                    rejected.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(admitted.get()).isEqualTo(quantity);
+        assertThat(rejected.get()).isEqualTo(userCount * 2 - quantity);
+        await()
+                .atMost(10, SECONDS)
+                .pollInterval(100, MILLISECONDS)
+                .untilAsserted(() -> {
+                    Coupon c = couponRepository.findById(savedCoupon.getId()).orElseThrow();
+                    assertThat(c.getIssuedQuantity()).isEqualTo(quantity);
+                });
+    }
+
+    @Test
+    @DisplayName("배치 발급 - 한 트랜잭션에서 수량/사용자별 한도를 검증하고 거절된 요청만 제외한다")
+    void 쿠폰_배치_발급() {
+        // given : 잔여 2개
+        Coupon savedCoupon = couponRepository.save(createCoupon(3, 1));
+        Long couponId = savedCoupon.getId();
+        List<CouponService.IssueRequest> requests = List.of(
+                new CouponService.IssueRequest("1-0", 1L),
+                new CouponService.IssueRequest("1-1", 1L), // 사용자별 한도 초과
+                new CouponService.IssueRequest("1-2", 2L),
+                new CouponService.IssueRequest("1-3", 3L)  // 수량 소진
+        );
+
+        // when
+        CouponService.BatchIssueResult result = couponService.issueCoupons(couponId, requests);
+
+        // then
+        assertThat(result.issued()).extracting(CouponService.IssueRequest::requestId).containsExactly("1-0", "1-2");
+        assertThat(result.rejected()).extracting(rejection -> rejection.request().requestId()).containsExactly("1-1", "1-3");
+        assertThat(result.rejected()).extracting(CouponService.Rejection::reason)
+                .containsExactly(ErrorCode.COUPON_ISSUE_LIMIT_PER_USER, ErrorCode.COUPON_ISSUE_LIMIT);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(3);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(1L, couponId)).hasSize(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(2L, couponId)).hasSize(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(3L, couponId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재전달 - 이미 발급된 요청 ID는 다시 발급하지 않는다")
+    void 쿠폰_재전달_중복_발급_방지() {
+        // given : 사용자별 한도가 넉넉해도 같은 요청은 한 번만 발급
+        Coupon savedCoupon = couponRepository.save(Coupon.builder()
+                .couponName("테스트 쿠폰")
+                .discountType(DiscountType.PERCENTAGE)
+                .discountValue(10)
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .limitPerUser(5)
+                .duration(30)
+                .minOrderValue(10000)
+                .validFrom(LocalDate.now().minusDays(1))
+                .validUntil(LocalDate.now().plusDays(30))
+                .build());
+        Long couponId = savedCoupon.getId();
+        CouponService.IssueRequest request = new CouponService.IssueRequest("2-0", 1L);
+        couponService.issueCoupons(couponId, List.of(request));
+
+        // when : 커밋 후 ack 전에 노드가 죽어 같은 메시지가 다시 전달됨
+        CouponService.BatchIssueResult result = couponService.issueCoupons(couponId, List.of(request));
+
+        // then
+        assertThat(result.issued()).containsExactly(request);
+        assertThat(couponRepository.findById(couponId).orElseThrow().getIssuedQuantity()).isEqualTo(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(1L, couponId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("파티션 - 두 파티션에 같은 메시지 ID가 생겨도 각각 발급된다")
+    void 쿠폰_발급_파티션간_메시지_ID_충돌() {
+        // given : 서로 다른 파티션에 배정되는 쿠폰 2개
+        Coupon couponA = couponRepository.save(createCoupon(100, 0));
+        Coupon couponB = couponRepository.save(createCoupon(100, 0));
+        int partitions = 4;
+        int partitionA = Math.floorMod(couponA.getId(), partitions);
+        int partitionB = Math.floorMod(couponB.getId(), partitions);
+        assertThat(partitionA).isNotEqualTo(partitionB);
+
+        // when : 같은 ms에 두 파티션이 같은 메시지 ID를 만든 상황 (스트림 마지막 ID보다 큰 ID를 직접 지정)
+        StreamMessageId sameId = new StreamMessageId(System.currentTimeMillis() + 60_000, 0);
+        addIssueMessage(partitionA, sameId, couponA.getId(), 1L);
+        addIssueMessage(partitionB, sameId, couponB.getId(), 2L);
+
+        // then : 한쪽이 "이미 발급됨"으로 처리되거나 유니크 키 충돌로 막히지 않고 둘 다 발급
+        await()
+                .atMost(5, SECONDS)
+                .pollInterval(200, MILLISECONDS)
+                .untilAsserted(() -> {
+                    List<UserCoupon> issuedA = userCouponRepository.findByUserIdAndCouponId(1L, couponA.getId());
+                    List<UserCoupon> issuedB = userCouponRepository.findByUserIdAndCouponId(2L, couponB.getId());
+                    assertThat(issuedA).hasSize(1);
+                    assertThat(issuedB).hasSize(1);
+                    assertThat(issuedA.get(0).getIssueRequestId()).isEqualTo(CouponIssueProducer.requestId(partitionA, sameId));
+                    assertThat(issuedB.get(0).getIssueRequestId()).isEqualTo(CouponIssueProducer.requestId(partitionB, sameId));
+                });
+    }
+
+    @Test
+    @DisplayName("DLQ - 재처리 한도를 넘긴 요청은 DLQ로 옮기고 게이트 입장을 되돌린다")
+    void 쿠폰_발급_DLQ_이동시_게이트_입장_반환() {
+        // given : 1장짜리 쿠폰, DB 발급이 계속 실패하는 상황
+        Coupon savedCoupon = couponRepository.save(createCoupon(1, 0));
+        doThrow(new IllegalStateException("DB 장애")).when(couponService).issueCoupons(eq(savedCoupon.getId()), anyList());
+        ReflectionTestUtils.setField(couponIssueConsumer, "visibilityTimeoutMs", 100L);
+        ReflectionTestUtils.setField(couponIssueConsumer, "reclaimIntervalMs", 200L);
+        ReflectionTestUtils.setField(couponIssueConsumer, "maxDeliveries", 1);
+
+        try {
+            // when
+            IssueUserCouponUseCase.Output output = issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), 1L));
+
+            // then : DLQ로 옮겨지고 결과가 기록됨
+            await()
+                    .atMost(10, SECONDS)
+                    .pollInterval(200, MILLISECONDS)
+                    .untilAsserted(() -> {
+                        GetCouponIssueTicketUseCase.Output ticket = getCouponIssueTicketUseCase.execute(
+                                new GetCouponIssueTicketUseCase.Input(output.ticketId(), 1L));
+                        assertThat(ticket.status()).isEqualTo(IssueTicketStatus.REJECTED.name());
+                        assertThat(ticket.reason()).isEqualTo("DEAD_LETTERED");
+                    });
+
+            // 입장이 반환되어 다른 사용자가 게이트를 통과할 수 있음 (매진으로 거절되지 않음)
+            issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(savedCoupon.getId(), 2L));
+        } finally {
+            ReflectionTestUtils.setField(couponIssueConsumer, "visibilityTimeoutMs", 30000L);
+            ReflectionTestUtils.setField(couponIssueConsumer, "reclaimIntervalMs", 5000L);
+            ReflectionTestUtils.setField(couponIssueConsumer, "maxDeliveries", 5);
+        }
+    }
+
     // --- Helper Methods ---
 
+    private void addIssueMessage(int partition, StreamMessageId id, Long couponId, Long userId) {
+        redissonClient.<String, String>getStream(CouponIssueProducer.streamKey(partition), StringCodec.INSTANCE)
+                .add(id, StreamAddArgs.entries(Map.of(
+                        CouponIssueProducer.FIELD_COUPON_ID, String.valueOf(couponId),
+                        CouponIssueProducer.FIELD_USER_ID, String.valueOf(userId)
+                )));
+    }
+
     private Coupon createCoupon(int total, int issued) {
         return Coupon.builder()
                 .couponName("테스트 쿠폰")
@@ -1,12 +1,22 @@
 package io.hhplus.tdd.domain.coupon.application;
 
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.domain.coupon.domain.service.CouponIssueGate;
+import io.hhplus.tdd.domain.coupon.exception.CouponException;
 import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueProducer;
+import io.hhplus.tdd.domain.coupon.infrastructure.queue.CouponIssueTicketStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,17 +28,55 @@ class IssueUserCouponUseCaseTest {
     @Mock
     CouponIssueProducer couponIssueProducer;
 
+    @Mock
+    CouponIssueGate couponIssueGate;
+
+    @Mock
+    CouponIssueTicketStore couponIssueTicketStore;
+
     @Test
     void 쿠폰_발급_요청이_큐에_추가된다() {
         // given
         long couponId = 1L;
         long userId = 1L;
         IssueUserCouponUseCase.Input input = new IssueUserCouponUseCase.Input(couponId, userId);
+        given(couponIssueProducer.produce(couponId, userId)).willReturn("0:1700000000000-0");
 
         // when
-        issueUserCouponUseCase.execute(input);
+        IssueUserCouponUseCase.Output output = issueUserCouponUseCase.execute(input);
 
         // then
+        assertThat(output.ticketId()).isEqualTo("0:1700000000000-0");
+        verify(couponIssueGate).admit(couponId, userId);
         verify(couponIssueProducer).produce(couponId, userId);
+        verify(couponIssueTicketStore).queued("0:1700000000000-0", couponId, userId);
+    }
+
+    @Test
+    void 게이트에서_거절되면_큐에_추가되지_않는다() {
+        // given
+        long couponId = 1L;
+        long userId = 1L;
+        willThrow(new CouponException(ErrorCode.COUPON_ISSUE_LIMIT, couponId))
+                .given(couponIssueGate).admit(couponId, userId);
+
+        // when , then
+        assertThatThrownBy(() -> issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(couponId, userId)))
+                .isInstanceOf(CouponException.class);
+        verify(couponIssueProducer, never()).produce(anyLong(), anyLong());
+    }
+
+    @Test
+    void 큐_추가에_실패하면_게이트_입장을_되돌린다() {
+        // given
+        long couponId = 1L;
+        long userId = 1L;
+        willThrow(new IllegalStateException("redis down"))
+                .given(couponIssueProducer).produce(couponId, userId);
+
+        // when , then
+        assertThatThrownBy(() -> issueUserCouponUseCase.execute(new IssueUserCouponUseCase.Input(couponId, userId)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(couponIssueGate).release(couponId, userId);
     }
 }
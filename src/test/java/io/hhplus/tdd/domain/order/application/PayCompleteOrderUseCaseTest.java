@@ -1,5 +1,7 @@
 package io.hhplus.tdd.domain.order.application;
 
+import io.hhplus.tdd.common.distributedLock.HotKeyDetector;
+import io.hhplus.tdd.common.distributedLock.LockGroupType;
 import io.hhplus.tdd.common.distributedLock.MultiDistributedLockExecutor;
 import io.hhplus.tdd.common.exception.ErrorCode;
 import io.hhplus.tdd.domain.order.domain.model.Order;
@@ -12,6 +14,8 @@ import io.hhplus.tdd.domain.order.infrastructure.repository.OrderRepository;
 import io.hhplus.tdd.domain.point.domain.model.UserPoint;
 import io.hhplus.tdd.domain.product.domain.model.Product;
 import io.hhplus.tdd.domain.product.domain.model.ProductOption;
+import io.hhplus.tdd.domain.product.domain.model.StockDeductionMode;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
 import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
@@ -33,6 +38,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +71,12 @@ class PayCompleteOrderUseCaseTest {
     @Mock
     OrderEventPublisher orderEventPublisher;
 
+    @Mock
+    StockLedgerService stockLedgerService;
+
+    @Mock
+    HotKeyDetector hotKeyDetector;
+
     @Nested
     class 결제_완료_처리_성공 {
 
@@ -250,4 +262,188 @@ class PayCompleteOrderUseCaseTest {
             verify(orderService, never()).completeOrderWithPayment(any(), anyList(), anyList());
         }
     }
+
+    @Nested
+    class 재고_원장_모드 {
+
+        private Order order;
+        private OrderItem orderItem;
+        private ProductOption productOption;
+
+        private void setUp() {
+            ReflectionTestUtils.setField(payCompleteOrderUseCase, "deductionMode", StockDeductionMode.REDIS_LEDGER);
+
+            UserPoint userPoint = UserPoint.builder()
+                    .id(1L)
+                    .balance(100000L)
+                    .build();
+
+            Product product = Product.builder()
+                    .id(100L)
+                    .name("테스트 상품")
+                    .basePrice(10000L)
+                    .build();
+
+            productOption = ProductOption.builder()
+                    .id(200L)
+                    .product(product)
+                    .productId(100L)
+                    .optionName("기본")
+                    .price(10000L)
+                    .quantity(100L)
+                    .build();
+
+            order = Order.builder()
+                    .id(1L)
+                    .userId(1L)
+                    .userPoint(userPoint)
+                    .userCoupon(null)
+                    .status(OrderStatus.PENDING)
+                    .totalAmount(20000L)
+                    .discountAmount(0L)
+                    .usePointAmount(0L)
+                    .finalAmount(20000L)
+                    .build();
+
+            orderItem = OrderItem.builder()
+                    .id(1L)
+                    .order(order)
+                    .orderId(1L)
+                    .product(product)
+                    .productId(100L)
+                    .productOption(productOption)
+                    .productOptionId(200L)
+                    .quantity(2)
+                    .unitPrice(10000L)
+                    .subtotal(20000L)
+                    .build();
+
+            willAnswer(invocation -> {
+                Runnable task = invocation.getArgument(1);
+                task.run();
+                return null;
+            }).given(lockExecutor).executeWithLocks(anyList(), any(Runnable.class));
+
+            willAnswer(invocation -> {
+                org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
+                return callback.doInTransaction(null);
+            }).given(transactionTemplate).execute(any());
+
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order));
+            given(orderItemRepository.findByOrderId(1L)).willReturn(Arrays.asList(orderItem));
+        }
+
+        @Test
+        void 원장_예약_후_행_락_없이_결제_완료() {
+            // given
+            setUp();
+            given(stockLedgerService.reserve(eq(1L), anyList())).willReturn(true);
+            given(productOptionRepository.findAllWithProductByIdIn(anyList()))
+                    .willReturn(Arrays.asList(productOption));
+
+            // when
+            payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L));
+
+            // then
+            verify(lockExecutor).executeWithLocks(eq(List.of("USER_POINT:1")), any(Runnable.class));
+            verify(stockLedgerService).reserve(eq(1L), anyList());
+            verify(productOptionRepository, never()).findAllByIdInForUpdate(anyList());
+            verify(orderService).completeOrderWithReservedStock(any(Order.class), anyList(), anyList());
+            verify(orderService, never()).completeOrderWithPayment(any(), anyList(), anyList());
+            verify(stockLedgerService, never()).release(anyLong(), anyList());
+        }
+
+        @Test
+        void 조건부_UPDATE_모드는_원장과_행_락_없이_결제_완료() {
+            // given
+            setUp();
+            ReflectionTestUtils.setField(payCompleteOrderUseCase, "deductionMode", StockDeductionMode.CONDITIONAL_UPDATE);
+            given(productOptionRepository.findAllWithProductByIdIn(anyList()))
+                    .willReturn(Arrays.asList(productOption));
+
+            // when
+            payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L));
+
+            // then
+            verify(lockExecutor).executeWithLocks(eq(List.of("USER_POINT:1")), any(Runnable.class));
+            verify(productOptionRepository, never()).findAllByIdInForUpdate(anyList());
+            verify(orderService).completeOrderWithConditionalUpdate(any(Order.class), anyList(), anyList());
+            verifyNoInteractions(stockLedgerService);
+        }
+
+        @Test
+        void 적응형_모드는_핫_옵션만_분산_락을_잡고_조건부_UPDATE로_결제_완료() {
+            // given
+            setUp();
+            ReflectionTestUtils.setField(payCompleteOrderUseCase, "deductionMode", StockDeductionMode.ADAPTIVE);
+            given(hotKeyDetector.isHot(LockGroupType.PRODUCT_OPTION, 200L)).willReturn(true);
+            given(productOptionRepository.findAllWithProductByIdIn(anyList()))
+                    .willReturn(Arrays.asList(productOption));
+
+            // when
+            payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L));
+
+            // then
+            verify(lockExecutor).executeWithLocks(eq(List.of("USER_POINT:1", "PRODUCT_OPTION:200")), any(Runnable.class));
+            verify(productOptionRepository, never()).findAllByIdInForUpdate(anyList());
+            verify(orderService).completeOrderWithConditionalUpdate(any(Order.class), anyList(), anyList());
+            verifyNoInteractions(stockLedgerService);
+        }
+
+        @Test
+        void 적응형_모드에서_핫_옵션이_없으면_포인트_락만_사용() {
+            // given
+            setUp();
+            ReflectionTestUtils.setField(payCompleteOrderUseCase, "deductionMode", StockDeductionMode.ADAPTIVE);
+            given(hotKeyDetector.isHot(LockGroupType.PRODUCT_OPTION, 200L)).willReturn(false);
+            given(productOptionRepository.findAllWithProductByIdIn(anyList()))
+                    .willReturn(Arrays.asList(productOption));
+
+            // when
+            payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L));
+
+            // then
+            verify(lockExecutor).executeWithLocks(eq(List.of("USER_POINT:1")), any(Runnable.class));
+            verify(orderService).completeOrderWithConditionalUpdate(any(Order.class), anyList(), anyList());
+        }
+
+        @Test
+        void 결제_처리_실패시_원장_예약_복구() {
+            // given
+            setUp();
+            given(stockLedgerService.reserve(eq(1L), anyList())).willReturn(true);
+            given(productOptionRepository.findAllWithProductByIdIn(anyList()))
+                    .willReturn(Arrays.asList(productOption));
+            willThrow(new IllegalStateException("포인트 부족"))
+                    .given(orderService).completeOrderWithReservedStock(any(Order.class), anyList(), anyList());
+
+            // when & then
+            assertThatThrownBy(() -> payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L)))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(stockLedgerService).reserve(eq(1L), anyList());
+            verify(stockLedgerService).release(eq(1L), anyList());
+        }
+
+        @Test
+        void 이미_결제된_주문의_중복_웹훅은_원장을_복구하지_않음() {
+            // given : 웹훅 진입 시점에는 PENDING, 트랜잭션 안에서는 먼저 도착한 웹훅이 PAID로 변경
+            setUp();
+            Order paidOrder = Order.builder()
+                    .id(1L)
+                    .userId(1L)
+                    .status(OrderStatus.PAID)
+                    .build();
+            given(orderRepository.findById(1L)).willReturn(Optional.of(order), Optional.of(paidOrder));
+            given(stockLedgerService.reserve(eq(1L), anyList())).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> payCompleteOrderUseCase.execute(new PayCompleteOrderUseCase.Input(1L)))
+                    .isInstanceOf(OrderException.class);
+
+            verify(stockLedgerService).reserve(eq(1L), anyList());
+            verify(stockLedgerService, never()).release(anyLong(), anyList());
+            verify(orderService, never()).completeOrderWithReservedStock(any(), anyList(), anyList());
+        }
+    }
 }
@@ -2,11 +2,13 @@ package io.hhplus.tdd.domain.point.application;
 
 import io.hhplus.tdd.common.exception.UserNotFoundException;
 import io.hhplus.tdd.domain.point.domain.model.PointHistory;
+import io.hhplus.tdd.domain.point.domain.model.PointUpdateStrategy;
 import io.hhplus.tdd.domain.point.domain.model.UserPoint;
 import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryRepository;
 import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
 import io.hhplus.tdd.domain.point.domain.service.PointService;
 import io.hhplus.tdd.domain.point.exception.PointRangeException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +17,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +44,18 @@ class PointChargeUseCaseTest {
     @Mock
     PointService pointService;
 
+    @Mock
+    PointUpdateExecutor pointUpdateExecutor;
+
+    // 락/재시도 실행기는 전달받은 갱신 로직을 그대로 실행
+    @BeforeEach
+    void setUpExecutor() {
+        lenient().when(pointUpdateExecutor.withLock(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(pointUpdateExecutor.withOptimisticRetry(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Nested
     class 포인트_충전_성공 {
 
@@ -163,4 +179,47 @@ class PointChargeUseCaseTest {
                     .isInstanceOf(PointRangeException.class);
         }
     }
+
+    @Nested
+    class 포인트_갱신_방식 {
+
+        private void givenUserPoint(long userId) {
+            UserPoint userPoint = UserPoint.builder()
+                    .id(userId)
+                    .balance(0L)
+                    .version(0L)
+                    .build();
+            given(userPointRepository.findById(userId)).willReturn(Optional.of(userPoint));
+            given(pointService.chargePoint(any(UserPoint.class), anyLong(), any(String.class)))
+                    .willReturn(PointHistory.createForCharge(userPoint, 1000L, 1000L, "테스트 충전"));
+        }
+
+        @Test
+        void 기본값은_분산_락으로_실행() {
+            // given
+            givenUserPoint(1L);
+
+            // when
+            pointChargeUseCase.execute(new PointChargeUseCase.Input(1L, 1000L, "테스트 충전"));
+
+            // then
+            verify(pointUpdateExecutor).withLock(eq(1L), any());
+            verify(pointUpdateExecutor, never()).withOptimisticRetry(anyLong(), any());
+        }
+
+        @Test
+        void 낙관적_재시도_방식은_락_없이_실행() {
+            // given
+            ReflectionTestUtils.setField(pointChargeUseCase, "updateStrategy", PointUpdateStrategy.OPTIMISTIC_RETRY);
+            givenUserPoint(1L);
+
+            // when
+            pointChargeUseCase.execute(new PointChargeUseCase.Input(1L, 1000L, "테스트 충전"));
+
+            // then
+            verify(pointUpdateExecutor).withOptimisticRetry(eq(1L), any());
+            verify(pointUpdateExecutor, never()).withLock(anyLong(), any());
+            verify(pointHistoryRepository).save(any(PointHistory.class));
+        }
+    }
 }
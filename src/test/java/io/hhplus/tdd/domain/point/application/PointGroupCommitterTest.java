@@ -0,0 +1,157 @@
+package io.hhplus.tdd.domain.point.application;
+
+import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.domain.point.domain.model.PointHistory;
+import io.hhplus.tdd.domain.point.domain.model.TransactionType;
+import io.hhplus.tdd.domain.point.domain.model.UserPoint;
+import io.hhplus.tdd.domain.point.domain.service.PointService;
+import io.hhplus.tdd.domain.point.exception.PointRangeException;
+import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryJdbcRepository;
+import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointGroupCommitterTest {
+
+    @Mock
+    UserPointRepository userPointRepository;
+
+    @Mock
+    PointHistoryJdbcRepository pointHistoryJdbcRepository;
+
+    @Mock
+    PointUpdateExecutor pointUpdateExecutor;
+
+    PointGroupCommitter pointGroupCommitter;
+
+    ExecutorService executorService;
+
+    // 배치가 찰 때까지 기다리도록 수집 시간은 길게, 배치 크기는 요청 수만큼
+    @BeforeEach
+    void setUp() {
+        pointGroupCommitter = new PointGroupCommitter(userPointRepository, pointHistoryJdbcRepository,
+                new PointService(), pointUpdateExecutor, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pointGroupCommitter, "windowMs", 5_000L);
+        pointGroupCommitter.init();
+
+        lenient().when(pointUpdateExecutor.withLock(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void 같은_사용자의_요청을_한_번에_반영() throws Exception {
+        // given
+        long userId = 1L;
+        UserPoint userPoint = UserPoint.builder().id(userId).balance(0L).version(0L).build();
+        given(userPointRepository.findById(userId)).willReturn(Optional.of(userPoint));
+        ReflectionTestUtils.setField(pointGroupCommitter, "maxBatch", 3);
+
+        // when
+        List<Future<PointGroupCommitter.Result>> futures = List.of(
+                charge(userId, 1_000L),
+                charge(userId, 1_000L),
+                charge(userId, 1_000L)
+        );
+
+        // then
+        List<Long> balances = futures.stream().map(this::await).map(PointGroupCommitter.Result::balance).sorted().toList();
+        assertThat(balances).containsExactly(1_000L, 2_000L, 3_000L);
+        assertThat(userPoint.getBalance()).isEqualTo(3_000L);
+
+        verify(pointUpdateExecutor, times(1)).withLock(eq(userId), any());
+        verify(userPointRepository, times(1)).findById(userId);
+        ArgumentCaptor<List<PointHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryJdbcRepository, times(1)).saveAll(eq(userId), histories.capture());
+        assertThat(histories.getValue()).hasSize(3);
+    }
+
+    @Test
+    void 검증에_실패한_요청만_실패() {
+        // given
+        long userId = 1L;
+        UserPoint userPoint = UserPoint.builder().id(userId).balance(0L).version(0L).build();
+        given(userPointRepository.findById(userId)).willReturn(Optional.of(userPoint));
+        ReflectionTestUtils.setField(pointGroupCommitter, "maxBatch", 2);
+
+        // when
+        Future<PointGroupCommitter.Result> charged = charge(userId, 1_000L);
+        Future<PointGroupCommitter.Result> used = executorService.submit(() ->
+                pointGroupCommitter.execute(userId, TransactionType.USE, 5_000L, "사용"));
+
+        // then
+        assertThat(await(charged).balance()).isEqualTo(1_000L);
+        assertThatThrownBy(() -> used.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PointRangeException.class);
+        assertThat(userPoint.getBalance()).isEqualTo(1_000L);
+
+        ArgumentCaptor<List<PointHistory>> histories = ArgumentCaptor.forClass(List.class);
+        verify(pointHistoryJdbcRepository, times(1)).saveAll(eq(userId), histories.capture());
+        assertThat(histories.getValue()).hasSize(1);
+    }
+
+    @Test
+    void 배치_전체_실패시_모든_요청_실패() {
+        // given
+        long userId = 999L;
+        given(userPointRepository.findById(userId)).willReturn(Optional.empty());
+        ReflectionTestUtils.setField(pointGroupCommitter, "maxBatch", 2);
+
+        // when
+        Future<PointGroupCommitter.Result> first = charge(userId, 1_000L);
+        Future<PointGroupCommitter.Result> second = charge(userId, 2_000L);
+
+        // then
+        for (Future<PointGroupCommitter.Result> future : List.of(first, second)) {
+            assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(UserNotFoundException.class);
+        }
+        verify(userPointRepository, times(1)).findById(userId);
+        verify(pointHistoryJdbcRepository, never()).saveAll(anyLong(), anyList());
+    }
+
+    private Future<PointGroupCommitter.Result> charge(long userId, long amount) {
+        return executorService.submit(() -> pointGroupCommitter.execute(userId, TransactionType.CHARGE, amount, "충전"));
+    }
+
+    private PointGroupCommitter.Result await(Future<PointGroupCommitter.Result> future) {
+        try {
+            return future.get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.domain.point.application;
+
+import io.hhplus.tdd.domain.IntegrationTest;
+import io.hhplus.tdd.domain.point.domain.model.PointUpdateStrategy;
+import io.hhplus.tdd.domain.point.domain.model.UserPoint;
+import io.hhplus.tdd.domain.point.exception.PointUpdateConflictException;
+import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
+import jakarta.persistence.LockTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 사용자에 대한 동시 포인트 충전: 분산 락 vs 낙관적 재시도
+ * - 동시 요청 수별로 성공/실패 수, 전체 소요 시간, 요청 지연(p50/p99)을 출력
+ * - 어떤 방식이든 최종 잔액은 성공한 충전 합계와 같아야 함 (갱신 유실 없음)
+ */
+@SpringBootTest
+@Testcontainers
+@Slf4j
+class PointUpdateContentionBenchmarkTest extends IntegrationTest {
+
+    private static final long CHARGE_AMOUNT = 1_000L;
+    private static final int REQUESTS_PER_THREAD = 5;
+
+    @Autowired
+    private PointChargeUseCase pointChargeUseCase;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @AfterEach
+    void restoreStrategy() {
+        setStrategy(PointUpdateStrategy.DISTRIBUTED_LOCK);
+    }
+
+    @ParameterizedTest(name = "{0} - 동시 요청 {1}")
+    @CsvSource({
+            "DISTRIBUTED_LOCK, 4",
+            "OPTIMISTIC_RETRY, 4",
+            "DISTRIBUTED_LOCK, 16",
+            "OPTIMISTIC_RETRY, 16",
+            "DISTRIBUTED_LOCK, 64",
+            "OPTIMISTIC_RETRY, 64"
+    })
+    void 한_사용자_동시_충전(PointUpdateStrategy strategy, int concurrency) throws InterruptedException {
+        // given
+        setStrategy(strategy);
+        UserPoint userPoint = userPointRepository.save(UserPoint.builder().balance(0L).build());
+        long userId = userPoint.getId();
+
+        int requests = concurrency * REQUESTS_PER_THREAD;
+        long[] latencies = new long[requests];
+        AtomicInteger index = new AtomicInteger();
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        AtomicInteger lockTimeout = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        for (int i = 0; i < requests; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    long start = System.nanoTime();
+                    try {
+                        pointChargeUseCase.execute(new PointChargeUseCase.Input(userId, CHARGE_AMOUNT, "동시 충전"));
+                        success.incrementAndGet();
+                    } catch (PointUpdateConflictException e) {
+                        conflict.incrementAndGet();
+                    } catch (LockTimeoutException e) {
+                        lockTimeout.incrementAndGet();
+                    } finally {
+                        latencies[index.getAndIncrement()] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        long begin = System.nanoTime();
+        ready.countDown();
+        done.await(120, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        executorService.shutdown();
+
+        // then
+        Arrays.sort(latencies);
+        log.info("[{}] 동시 {} / 요청 {} : 성공 {}, 재시도 소진 {}, 락 획득 실패 {}, 총 {}ms, p50 {}ms, p99 {}ms",
+                strategy, concurrency, requests, success.get(), conflict.get(), lockTimeout.get(), elapsedMs,
+                TimeUnit.NANOSECONDS.toMillis(latencies[requests / 2]),
+                TimeUnit.NANOSECONDS.toMillis(latencies[(int) (requests * 0.99)]));
+
+        UserPoint result = userPointRepository.findById(userId).orElseThrow();
+        assertThat(success.get() + conflict.get() + lockTimeout.get()).isEqualTo(requests);
+        assertThat(result.getBalance()).isEqualTo(success.get() * CHARGE_AMOUNT);
+    }
+
+    private void setStrategy(PointUpdateStrategy strategy) {
+        Object target = AopTestUtils.getUltimateTargetObject(pointChargeUseCase);
+        ReflectionTestUtils.setField(target, "updateStrategy", strategy);
+    }
+}
@@ -7,6 +7,7 @@ import io.hhplus.tdd.domain.point.infrastructure.repository.PointHistoryReposito
 import io.hhplus.tdd.domain.point.infrastructure.repository.UserPointRepository;
 import io.hhplus.tdd.domain.point.domain.service.PointService;
 import io.hhplus.tdd.domain.point.exception.PointRangeException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,6 +42,18 @@ class PointUseUseCaseTest {
     @Mock
     PointService pointService;
 
+    @Mock
+    PointUpdateExecutor pointUpdateExecutor;
+
+    // 락/재시도 실행기는 전달받은 갱신 로직을 그대로 실행
+    @BeforeEach
+    void setUpExecutor() {
+        lenient().when(pointUpdateExecutor.withLock(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().when(pointUpdateExecutor.withOptimisticRetry(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Nested
     class 포인트_사용_성공 {
 
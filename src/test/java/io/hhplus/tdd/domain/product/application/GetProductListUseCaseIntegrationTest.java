@@ -12,6 +12,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +38,9 @@ class GetProductListUseCaseIntegrationTest extends ContainerIntegrationTest {
     @Autowired
     private MultiGetCacheService multiGetCacheService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     private List<Long> productIds;
 
     @BeforeEach
@@ -58,6 +63,11 @@ class GetProductListUseCaseIntegrationTest extends ContainerIntegrationTest {
         if (productIds != null && !productIds.isEmpty()) {
             multiGetCacheService.deleteByIds(RedisKey.CACHE_PRODUCT_BY_ID, productIds);
         }
+        // 페이지 캐시는 테스트마다 상품 ID가 달라지므로 함께 비움
+        Cache pageCache = cacheManager.getCache(RedisKey.PRODUCT_LIST_PAGE_NAME);
+        if (pageCache != null) {
+            pageCache.clear();
+        }
         productRepository.deleteAllById(productIds);
     }
 
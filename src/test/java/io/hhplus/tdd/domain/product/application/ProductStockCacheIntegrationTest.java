@@ -0,0 +1,149 @@
+package io.hhplus.tdd.domain.product.application;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import io.hhplus.tdd.domain.product.domain.event.ProductStockChangedEvent;
+import io.hhplus.tdd.domain.product.domain.service.ProductStockCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 재고 캐시 - 채우기/변경량 반영/커밋 후 이벤트 테스트")
+class ProductStockCacheIntegrationTest extends ContainerIntegrationTest {
+
+    private static final Long PRODUCT_ID = 990_001L;
+    private static final Long OPTION_A = 1L;
+    private static final Long OPTION_B = 2L;
+
+    @Autowired
+    private ProductStockCacheService productStockCacheService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @BeforeEach
+    void setUp() {
+        productStockCacheService.evict(List.of(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("미스 시 DB 값으로 채우고, 이후 조회는 캐시에서 응답한다")
+    void 미스_시_채우고_이후_캐시_응답() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Map<Long, Long> first = productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A, OPTION_B),
+                () -> { loads.incrementAndGet(); return Map.of(OPTION_A, 10L, OPTION_B, 20L); });
+        Map<Long, Long> second = productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A, OPTION_B),
+                () -> { loads.incrementAndGet(); return Map.of(OPTION_A, 0L, OPTION_B, 0L); });
+
+        // then
+        assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of(OPTION_A, 10L, OPTION_B, 20L));
+        assertThat(second).containsExactlyInAnyOrderEntriesOf(Map.of(OPTION_A, 10L, OPTION_B, 20L));
+        assertThat(loads).hasValue(1);
+        assertThat(redissonClient.getMap(stockKey(), StringCodec.INSTANCE).remainTimeToLive()).isPositive();
+    }
+
+    @Test
+    @DisplayName("변경량은 캐시에 있는 옵션에만 반영된다")
+    void 변경량은_있는_옵션에만_반영() {
+        // given
+        productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A), () -> Map.of(OPTION_A, 10L));
+
+        // when
+        productStockCacheService.applyChanges(List.of(
+                new ProductStockChangedEvent.StockChange(PRODUCT_ID, OPTION_A, -3L),
+                new ProductStockChangedEvent.StockChange(PRODUCT_ID, OPTION_B, -1L)
+        ));
+
+        // then : OPTION_B는 다음 조회 때 DB 값으로 채워짐
+        Map<Long, Long> stocks = productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A),
+                () -> { throw new AssertionError("캐시 히트여야 함"); });
+        assertThat(stocks).containsExactlyInAnyOrderEntriesOf(Map.of(OPTION_A, 7L));
+    }
+
+    @Test
+    @DisplayName("DB 조회와 채우기 사이에 커밋된 변경이 있으면 오래된 스냅샷을 캐시에 쓰지 않는다")
+    void 조회_중_커밋된_변경이_있으면_스냅샷을_버림() {
+        // given : DB를 읽은 직후(채우기 전) 다른 주문이 커밋되어 변경량이 반영됨 - 필드가 없어 변경량은 건너뜀
+        Map<Long, Long> staleSnapshot = productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A), () -> {
+            Map<Long, Long> snapshot = Map.of(OPTION_A, 10L);
+            productStockCacheService.applyChanges(List.of(
+                    new ProductStockChangedEvent.StockChange(PRODUCT_ID, OPTION_A, -1L)));
+            return snapshot;
+        });
+        assertThat(staleSnapshot).containsEntry(OPTION_A, 10L);
+
+        // when : 다음 조회
+        AtomicInteger loads = new AtomicInteger();
+        Map<Long, Long> stocks = productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A),
+                () -> { loads.incrementAndGet(); return Map.of(OPTION_A, 9L); });
+
+        // then : 오래된 10이 남지 않고 DB의 최신 값으로 채워짐
+        assertThat(loads).hasValue(1);
+        assertThat(stocks).containsEntry(OPTION_A, 9L);
+        assertThat(productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A),
+                () -> { throw new AssertionError("캐시 히트여야 함"); })).containsEntry(OPTION_A, 9L);
+    }
+
+    @Test
+    @DisplayName("재고 변경 이벤트는 커밋된 경우에만 캐시에 반영된다")
+    void 커밋된_변경만_반영() {
+        // given
+        productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A), () -> Map.of(OPTION_A, 10L));
+        ProductStockChangedEvent event = new ProductStockChangedEvent(List.of(
+                new ProductStockChangedEvent.StockChange(PRODUCT_ID, OPTION_A, -2L)));
+
+        // when : 롤백된 트랜잭션, 커밋된 트랜잭션
+        transactionTemplate.execute(status -> {
+            applicationEventPublisher.publishEvent(event);
+            status.setRollbackOnly();
+            return null;
+        });
+        transactionTemplate.execute(status -> {
+            applicationEventPublisher.publishEvent(event);
+            return null;
+        });
+
+        // then : 커밋된 -2만 반영
+        assertThat(productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A),
+                () -> { throw new AssertionError("캐시 히트여야 함"); })).containsEntry(OPTION_A, 8L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행된 재고 변경 이벤트는 즉시 반영된다")
+    void 트랜잭션_밖_이벤트는_즉시_반영() {
+        // given
+        productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A), () -> Map.of(OPTION_A, 10L));
+
+        // when
+        applicationEventPublisher.publishEvent(new ProductStockChangedEvent(List.of(
+                new ProductStockChangedEvent.StockChange(PRODUCT_ID, OPTION_A, 5L))));
+
+        // then
+        assertThat(productStockCacheService.getStocks(PRODUCT_ID, List.of(OPTION_A),
+                () -> { throw new AssertionError("캐시 히트여야 함"); })).containsEntry(OPTION_A, 15L);
+    }
+
+    private String stockKey() {
+        return RedisKey.CACHE_PRODUCT_STOCK.getFullKey(String.valueOf(PRODUCT_ID));
+    }
+}
@@ -0,0 +1,140 @@
+package io.hhplus.tdd.domain.product.application;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import io.hhplus.tdd.domain.product.domain.model.RankingWindow;
+import io.hhplus.tdd.domain.product.domain.service.RankingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("랭킹 점수/조회 테스트")
+class RankingServiceIntegrationTest extends ContainerIntegrationTest {
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("삭제 후 다시 생긴 버킷도 TTL이 설정되고, 이미 있는 TTL은 밀리지 않는다")
+    void 다시_생긴_버킷도_TTL_설정() {
+        // given
+        String hourlyKey = RedisKey.RANK_HOURLY.getFullKey(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHH")));
+        rankingService.addScore(1L, 1.0);
+        assertThat(redissonClient.getScoredSortedSet(hourlyKey).remainTimeToLive()).isPositive();
+
+        // when : 같은 JVM에서 버킷이 삭제(만료)된 뒤 다시 점수가 쌓임
+        redissonClient.getScoredSortedSet(hourlyKey).delete();
+        rankingService.addScores(Map.of(1L, 1.0, 2L, 2.0));
+
+        // then
+        long ttl = redissonClient.getScoredSortedSet(hourlyKey).remainTimeToLive();
+        assertThat(ttl).isPositive();
+
+        // 다시 써도 기존 TTL 유지 (NX)
+        redissonClient.getScoredSortedSet(hourlyKey).expire(Duration.ofSeconds(100));
+        rankingService.addScore(3L, 1.0);
+        assertThat(redissonClient.getScoredSortedSet(hourlyKey).remainTimeToLive()).isLessThanOrEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("구간 랭킹이 비어 있으면 조회 경로에서 재계산하지 않고 부족분 목록으로 응답한다")
+    void 빈_구간_랭킹은_부족분_목록으로_응답() {
+        // given : 구간 랭킹 없음, 현재 버킷에는 점수가 있음, 부족분 목록 준비됨
+        redissonClient.getScoredSortedSet(RedisKey.RANK_WINDOW.getFullKey(RankingWindow.DAILY.name())).delete();
+        rankingService.addScore(100L, 1_000_000.0);
+        rankingService.replaceFallbackIds(List.of(7L, 8L));
+
+        // when
+        List<Long> ids = rankingService.getTopRankIds(RankingWindow.DAILY, 2);
+
+        // then : 재계산되지 않아 구간 랭킹은 여전히 없음
+        assertThat(ids).containsExactly(7L, 8L);
+        assertThat(redissonClient.getScoredSortedSet(RedisKey.RANK_WINDOW.getFullKey(RankingWindow.DAILY.name())).isExists()).isFalse();
+
+        // 스케줄러가 재계산한 뒤에는 구간 랭킹이 먼저 노출됨
+        rankingService.materialize(RankingWindow.DAILY);
+        assertThat(rankingService.getTopRankIds(RankingWindow.DAILY, 2)).startsWith(100L);
+    }
+
+    @Test
+    @DisplayName("TRENDING은 최근 24개 시간 버킷을 반감기 3시간으로 감쇠 합산하고, 24시간 전 버킷은 제외한다")
+    void TRENDING_지수_감쇠_합산() {
+        // given : 구간의 시간 버킷을 비우고 알려진 위치에 점수 적재
+        LocalDateTime now = LocalDateTime.now();
+        clearHourlyBuckets(now);
+        seedHourly(now, 0, Map.of("1", 10.0, "5", 4.0));
+        seedHourly(now, 3, Map.of("2", 24.0, "5", 8.0));
+        seedHourly(now, 6, Map.of("3", 36.0));
+        seedHourly(now, 24, Map.of("4", 1_000.0));
+
+        // when
+        rankingService.materialize(RankingWindow.TRENDING);
+
+        // then : 점수 = Σ 버킷 점수 x 0.5^(경과 시간 / 3)
+        RScoredSortedSet<String> windowSet = redissonClient.getScoredSortedSet(RedisKey.RANK_WINDOW.getFullKey(RankingWindow.TRENDING.name()));
+        assertThat(windowSet.getScore("1")).isCloseTo(10.0, within(1e-9));
+        assertThat(windowSet.getScore("2")).isCloseTo(12.0, within(1e-9));
+        assertThat(windowSet.getScore("3")).isCloseTo(9.0, within(1e-9));
+        assertThat(windowSet.getScore("5")).isCloseTo(8.0, within(1e-9));
+        assertThat(windowSet.getScore("4")).isNull();
+        assertThat(rankingService.getTopRankIds(RankingWindow.TRENDING, 4)).containsExactly(2L, 1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("재계산 시 현재/직전 버킷만 상위 K개로 정리하고, 구간 랭킹은 정리 전 점수로 계산한다")
+    void 재계산_시_버킷_상위_K_정리() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        clearHourlyBuckets(now);
+        Map<String, Double> scores = Map.of("11", 1.0, "12", 2.0, "13", 3.0);
+        seedHourly(now, 0, scores);
+        seedHourly(now, 1, scores);
+        seedHourly(now, 2, scores);
+        Object originalTopK = ReflectionTestUtils.getField(rankingService, "bucketTopK");
+        ReflectionTestUtils.setField(rankingService, "bucketTopK", 2);
+
+        // when
+        try {
+            rankingService.materialize(RankingWindow.TRENDING);
+        } finally {
+            ReflectionTestUtils.setField(rankingService, "bucketTopK", originalTopK);
+        }
+
+        // then
+        assertThat(hourlySet(now, 0).readAll()).containsExactlyInAnyOrder("12", "13");
+        assertThat(hourlySet(now, 1).readAll()).containsExactlyInAnyOrder("12", "13");
+        assertThat(hourlySet(now, 2).readAll()).containsExactlyInAnyOrder("11", "12", "13");
+        RScoredSortedSet<String> windowSet = redissonClient.getScoredSortedSet(RedisKey.RANK_WINDOW.getFullKey(RankingWindow.TRENDING.name()));
+        assertThat(windowSet.getScore("11")).isCloseTo(1.0 * (1 + RankingWindow.TRENDING.weightOf(1) + RankingWindow.TRENDING.weightOf(2)), within(1e-9));
+    }
+
+    private void clearHourlyBuckets(LocalDateTime now) {
+        for (int hoursAgo = 0; hoursAgo <= RankingWindow.TRENDING.getBuckets(); hoursAgo++) {
+            hourlySet(now, hoursAgo).delete();
+        }
+    }
+
+    private void seedHourly(LocalDateTime now, int hoursAgo, Map<String, Double> scores) {
+        hourlySet(now, hoursAgo).addAll(scores);
+    }
+
+    private RScoredSortedSet<String> hourlySet(LocalDateTime now, int hoursAgo) {
+        return redissonClient.getScoredSortedSet(
+                RedisKey.RANK_HOURLY.getFullKey(now.minusHours(hoursAgo).format(DateTimeFormatter.ofPattern("yyyyMMddHH"))));
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.domain.product.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.consumed.ConsumedEventLogRepository;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductOptionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StockReconcileEventConsumerTest {
+
+    // 주문 10 취소로 옵션 100 재고 3개 복구
+    private static final String RELEASE_PAYLOAD =
+            "{\"orderId\":10,\"action\":\"RELEASE\",\"lines\":[{\"productOptionId\":100,\"delta\":3}]}";
+
+    @InjectMocks
+    StockReconcileEventConsumer stockReconcileEventConsumer;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    ConsumedEventLogRepository consumedEventLogRepository;
+
+    @Mock
+    ProductOptionRepository productOptionRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    StockLedgerService stockLedgerService;
+
+    @Test
+    @DisplayName("파싱할 수 없는 메시지는 ack하지 않고 예외를 던져 에러 핸들러(DLT)로 넘긴다")
+    void 파싱_실패_시_예외() {
+        assertThatThrownBy(() -> stockReconcileEventConsumer.consumeStockReconcile("{not-json", "1", 7L))
+                .isInstanceOf(MessageConversionException.class);
+
+        verifyNoInteractions(consumedEventLogRepository, productOptionRepository, transactionTemplate, stockLedgerService);
+    }
+
+    @Test
+    @DisplayName("RELEASE 이벤트는 DB 반영 전에 재고 원장을 복구한다 (이미 복구됐으면 스크립트가 무시)")
+    void RELEASE_원장_복구_후_DB_반영() {
+        // given
+        given(consumedEventLogRepository.existsByEventIdAndEventType("10:RELEASE", StockReconcileEventListener.EVENT_TYPE))
+                .willReturn(false);
+
+        // when
+        stockReconcileEventConsumer.consumeStockReconcile(RELEASE_PAYLOAD, "10:RELEASE", 7L);
+
+        // then
+        InOrder inOrder = inOrder(stockLedgerService, transactionTemplate);
+        inOrder.verify(stockLedgerService).release(eq(10L), argThat(lines ->
+                lines.size() == 1 && lines.get(0).productOptionId() == 100L && lines.get(0).quantity() == 3));
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("원장 복구가 실패하면 DB에 반영하지 않고 예외를 던져 에러 핸들러가 재시도한다")
+    void 원장_복구_실패_시_재시도() {
+        // given
+        given(consumedEventLogRepository.existsByEventIdAndEventType("10:RELEASE", StockReconcileEventListener.EVENT_TYPE))
+                .willReturn(false);
+        given(stockLedgerService.release(eq(10L), anyList())).willThrow(new RuntimeException("redis down"));
+
+        // when & then
+        assertThatThrownBy(() -> stockReconcileEventConsumer.consumeStockReconcile(RELEASE_PAYLOAD, "10:RELEASE", 7L))
+                .hasMessage("redis down");
+        verifyNoInteractions(transactionTemplate, productOptionRepository);
+    }
+
+    @Test
+    @DisplayName("이미 정산된 RELEASE 이벤트는 원장 복구도 다시 하지 않는다")
+    void 정산된_이벤트는_원장_복구_안함() {
+        // given
+        given(consumedEventLogRepository.existsByEventIdAndEventType("10:RELEASE", StockReconcileEventListener.EVENT_TYPE))
+                .willReturn(true);
+
+        // when
+        stockReconcileEventConsumer.consumeStockReconcile(RELEASE_PAYLOAD, "10:RELEASE", 7L);
+
+        // then
+        verify(stockLedgerService, never()).release(any(), anyList());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+}
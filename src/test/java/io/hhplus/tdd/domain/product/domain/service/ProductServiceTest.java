@@ -0,0 +1,130 @@
+package io.hhplus.tdd.domain.product.domain.service;
+
+import io.hhplus.tdd.common.cache.CacheLoadLease;
+import io.hhplus.tdd.common.cache.MultiGetCacheService;
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.domain.product.domain.model.Product;
+import io.hhplus.tdd.domain.product.domain.model.ProductCache;
+import io.hhplus.tdd.domain.product.infrastructure.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @InjectMocks
+    ProductService productService;
+
+    @Mock
+    ProductRepository productRepository;
+
+    @Mock
+    MultiGetCacheService multiGetCacheService;
+
+    @Mock
+    CacheLoadLease cacheLoadLease;
+
+    @BeforeEach
+    void setUp() {
+        productService.init();
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 상품 ID는 Negative Cache에 기록한다")
+    void 없는_상품_ID_기록() {
+        // given
+        Product product = Product.builder().id(1L).name("상품").description("설명").basePrice(1_000L).build();
+        given(multiGetCacheService.getMap(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(1L, 404L)), eq(ProductCache.class), any()))
+                .willReturn(new HashMap<>());
+        given(multiGetCacheService.getAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, List.of(1L, 404L))).willReturn(Set.of());
+        given(productRepository.findAllById(List.of(1L, 404L))).willReturn(List.of(product));
+
+        // when
+        List<Product> result = productService.getProductsByIds(List.of(1L, 404L));
+
+        // then
+        assertThat(result).extracting(Product::getId).containsExactly(1L);
+        verify(multiGetCacheService).putAll(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(Map.of(1L, ProductCache.from(product))), any(Duration.class));
+        verify(multiGetCacheService).putAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, List.of(404L));
+    }
+
+    @Test
+    @DisplayName("Negative Cache에 기록된 ID는 DB를 조회하지 않는다")
+    void 기록된_없는_ID는_DB_미조회() {
+        // given
+        given(multiGetCacheService.getMap(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(404L)), eq(ProductCache.class), any()))
+                .willReturn(new HashMap<>());
+        given(multiGetCacheService.getAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, List.of(404L))).willReturn(Set.of(404L));
+
+        // when
+        List<Product> result = productService.getProductsByIds(List.of(404L));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(productRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대 중인 ID는 반환 알림 후 캐시에서 읽고 DB를 조회하지 않는다")
+    void 임대_반환_후_캐시_조회() {
+        // given
+        ReflectionTestUtils.setField(productService, "clusterLeaseEnabled", true);
+        ProductCache cached = new ProductCache(1L, "상품", "설명", 1_000L);
+        given(multiGetCacheService.getMap(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(1L)), eq(ProductCache.class), any()))
+                .willReturn(new HashMap<>());
+        given(multiGetCacheService.getAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, List.of(1L))).willReturn(Set.of());
+        given(cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, List.of(1L))).willReturn(new CacheLoadLease.Lease("token", List.of()));
+        given(cacheLoadLease.awaitRelease(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(1L)), any(Duration.class))).willReturn(true);
+        given(multiGetCacheService.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(1L), ProductCache.class))
+                .willReturn(Map.of(1L, cached));
+
+        // when
+        List<Product> result = productService.getProductsByIds(List.of(1L));
+
+        // then
+        assertThat(result).extracting(Product::getId).containsExactly(1L);
+        verify(productRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("임대 보유 노드가 없는 ID로 기록했으면 대기 후에도 DB를 조회하지 않는다")
+    void 임대_반환_후_없는_ID() {
+        // given
+        ReflectionTestUtils.setField(productService, "clusterLeaseEnabled", true);
+        given(multiGetCacheService.getMap(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(404L)), eq(ProductCache.class), any()))
+                .willReturn(new HashMap<>());
+        given(multiGetCacheService.getAbsentIds(RedisKey.CACHE_PRODUCT_ABSENT, List.of(404L)))
+                .willReturn(Set.of(), Set.of(404L));
+        given(cacheLoadLease.tryAcquire(RedisKey.CACHE_PRODUCT_BY_ID, List.of(404L))).willReturn(new CacheLoadLease.Lease("token", List.of()));
+        given(cacheLoadLease.awaitRelease(eq(RedisKey.CACHE_PRODUCT_BY_ID), eq(List.of(404L)), any(Duration.class))).willReturn(true);
+        given(multiGetCacheService.getMap(RedisKey.CACHE_PRODUCT_BY_ID, List.of(404L), ProductCache.class))
+                .willReturn(Map.of());
+
+        // when
+        List<Product> result = productService.getProductsByIds(List.of(404L));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(productRepository, never()).findAllById(anyList());
+    }
+}
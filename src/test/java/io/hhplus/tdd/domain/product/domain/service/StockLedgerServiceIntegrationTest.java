@@ -0,0 +1,131 @@
+package io.hhplus.tdd.domain.product.domain.service;
+
+import io.hhplus.tdd.common.cache.RedisKey;
+import io.hhplus.tdd.common.exception.ErrorCode;
+import io.hhplus.tdd.domain.ContainerIntegrationTest;
+import io.hhplus.tdd.domain.product.domain.service.StockLedgerService.StockLine;
+import io.hhplus.tdd.domain.product.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DisplayName("재고 원장 - 예약/복구 Lua 스크립트 테스트")
+class StockLedgerServiceIntegrationTest extends ContainerIntegrationTest {
+
+    private static final Long PRODUCT_ID = 990_101L;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private Long orderId;
+    private Long optionA;
+    private Long optionB;
+
+    @BeforeEach
+    void setUp() {
+        // 원장을 미리 적재해 DB 적재 경로를 타지 않게 함 (스크립트만 검증)
+        long seed = System.nanoTime();
+        orderId = seed;
+        optionA = seed + 1;
+        optionB = seed + 2;
+        setLedger(optionA, 10L);
+        setLedger(optionB, 5L);
+    }
+
+    @Test
+    @DisplayName("모든 라인을 한 번에 차감하고 예약 기록을 남긴다")
+    void 예약_성공() {
+        // when
+        boolean reserved = stockLedgerService.reserve(orderId, lines(3, 2));
+
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(ledger(optionA)).isEqualTo(7L);
+        assertThat(ledger(optionB)).isEqualTo(3L);
+        assertThat(reservation()).isEqualTo("RESERVED");
+    }
+
+    @Test
+    @DisplayName("같은 주문을 다시 예약하면 차감하지 않고 false를 반환한다")
+    void 중복_예약은_차감하지_않음() {
+        // given
+        stockLedgerService.reserve(orderId, lines(3, 2));
+
+        // when
+        boolean reservedAgain = stockLedgerService.reserve(orderId, lines(3, 2));
+
+        // then
+        assertThat(reservedAgain).isFalse();
+        assertThat(ledger(optionA)).isEqualTo(7L);
+        assertThat(ledger(optionB)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("한 라인이라도 재고가 부족하면 어떤 라인도 차감하지 않는다")
+    void 재고_부족_시_전체_미차감() {
+        // when : 두 번째 라인만 부족
+        ProductException exception = catchThrowableOfType(
+                () -> stockLedgerService.reserve(orderId, lines(3, 6)), ProductException.class);
+
+        // then
+        assertThat(exception).isNotNull();
+        assertThat(exception.getErrCode()).isEqualTo(ErrorCode.PRODUCT_NOT_ENOUGH);
+        assertThat(ledger(optionA)).isEqualTo(10L);
+        assertThat(ledger(optionB)).isEqualTo(5L);
+        assertThat(reservation()).isNull();
+    }
+
+    @Test
+    @DisplayName("복구는 한 번만 반영되고, 복구된 주문은 다시 예약할 수 있다")
+    void 복구_후_재예약() {
+        // given
+        stockLedgerService.reserve(orderId, lines(3, 2));
+
+        // when
+        boolean released = stockLedgerService.release(orderId, lines(3, 2));
+        boolean releasedAgain = stockLedgerService.release(orderId, lines(3, 2));
+
+        // then
+        assertThat(released).isTrue();
+        assertThat(releasedAgain).isFalse();
+        assertThat(ledger(optionA)).isEqualTo(10L);
+        assertThat(ledger(optionB)).isEqualTo(5L);
+        assertThat(reservation()).isEqualTo("RELEASED");
+
+        // 결제 재시도 시 다시 예약 가능
+        assertThat(stockLedgerService.reserve(orderId, lines(3, 2))).isTrue();
+        assertThat(ledger(optionA)).isEqualTo(7L);
+    }
+
+    private List<StockLine> lines(int quantityA, int quantityB) {
+        return List.of(
+                new StockLine(PRODUCT_ID, optionA, quantityA),
+                new StockLine(PRODUCT_ID, optionB, quantityB)
+        );
+    }
+
+    private void setLedger(Long optionId, long stock) {
+        redissonClient.<String>getBucket(RedisKey.STOCK_LEDGER.getFullKey(String.valueOf(optionId)), StringCodec.INSTANCE)
+                .set(String.valueOf(stock));
+    }
+
+    private Long ledger(Long optionId) {
+        String value = redissonClient.<String>getBucket(RedisKey.STOCK_LEDGER.getFullKey(String.valueOf(optionId)), StringCodec.INSTANCE).get();
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private String reservation() {
+        return redissonClient.<String>getBucket(RedisKey.STOCK_RESERVATION.getFullKey(String.valueOf(orderId)), StringCodec.INSTANCE).get();
+    }
+}
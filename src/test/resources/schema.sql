@@ -15,7 +15,8 @@ CREATE TABLE IF NOT EXISTS product_option (
     product_id BIGINT NOT NULL,
     option_name VARCHAR(255) NOT NULL,
     price BIGINT NOT NULL,
-    quantity BIGINT NOT NULL
+    quantity BIGINT NOT NULL,
+    fence_token BIGINT
 );
 
 -- User Point table
@@ -23,6 +24,7 @@ CREATE TABLE IF NOT EXISTS user_point (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     balance BIGINT NOT NULL,
     version BIGINT,
+    fence_token BIGINT,
     created_at DATETIME(6),
     updated_at DATETIME(6)
 );
@@ -63,7 +65,9 @@ CREATE TABLE IF NOT EXISTS user_coupon (
     used_at DATE,
     expired_at DATE NOT NULL,
     version BIGINT,
-    created_at DATETIME(6)
+    created_at DATETIME(6),
+    issue_request_id VARCHAR(40),
+    UNIQUE KEY uk_user_coupon_issue_request (issue_request_id)
 );
 
 -- Orders table